@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * (c) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package net.wasdev.wlp.test.dev.it;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.apache.commons.httpclient.HttpClient;
+import org.apache.commons.httpclient.HttpStatus;
+import org.apache.commons.httpclient.methods.GetMethod;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class DevHotSwapTest extends BaseDevTest {
+
+   private static final String URL = "http://localhost:9080/dev-sample-proj-1.0-SNAPSHOT/servlet";
+   private static final String HOT_SWAPPED = "Source changes were applied to the running server.";
+
+   @BeforeClass
+   public static void setUpBeforeClass() throws Exception {
+      // classes are not hot swapped while features are generated
+      setUpBeforeClass("-DhotSwap=true -DgenerateFeatures=false");
+   }
+
+   @AfterClass
+   public static void cleanUpAfterClass() throws Exception {
+      BaseDevTest.cleanUpAfterClass();
+   }
+
+   @Test
+   public void hotSwapTest() throws Exception {
+      // only classes that are loaded are redefined, so load the servlet first
+      assertEndpointContent("hello world");
+      File srcServlet = new File(tempProj, "src/main/java/com/demo/HelloServlet.java");
+      File targetServlet = new File(targetDir, "classes/com/demo/HelloServlet.class");
+      int appUpdatedCount = countOccurrences(SERVER_CONFIG_SUCCESS, logFile);
+      int compiledCount = countOccurrences(COMPILATION_SUCCESSFUL, logFile);
+      long lastModified = targetServlet.lastModified();
+
+      // a method body change is applied to the running server without updating the application
+      waitLongEnough();
+      replaceString("hello world", "hello hot swap", srcServlet);
+      assertTrue(getLogTail(), verifyLogMessageExists(HOT_SWAPPED, 10000));
+      assertEndpointContent("hello hot swap");
+      assertEquals(appUpdatedCount, countOccurrences(SERVER_CONFIG_SUCCESS, logFile));
+
+      // a declaration change is compiled and deployed as usual, along with the hot swapped change
+      replaceString("private static final long serialVersionUID = 1L;",
+            "private static final long serialVersionUID = 1L;\n    private String name = \"hot swap\";", srcServlet);
+      assertTrue(getLogTail(), verifyLogMessageExists(COMPILATION_SUCCESSFUL, 10000, ++compiledCount));
+      assertTrue(getLogTail(), verifyLogMessageExists(SERVER_CONFIG_SUCCESS, 20000, ++appUpdatedCount));
+      assertTrue(waitForCompilation(targetServlet, lastModified, 1000));
+      assertEndpointContent("hello hot swap");
+      assertEquals(1, countOccurrences(HOT_SWAPPED, logFile));
+   }
+
+   private static void assertEndpointContent(String content) throws Exception {
+      HttpClient client = new HttpClient();
+      GetMethod method = new GetMethod(URL);
+      try {
+         int statusCode = client.executeMethod(method);
+         assertEquals("HTTP GET failed. " + getLogTail(), HttpStatus.SC_OK, statusCode);
+         String response = method.getResponseBodyAsString();
+         assertTrue("Unexpected response body: " + response + ". " + getLogTail(), response.contains(content));
+      } finally {
+         method.releaseConnection();
+      }
+   }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * (c) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package net.wasdev.wlp.test.dev.it;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class DevIncrementalResourcesTest extends BaseDevTest {
+
+   @BeforeClass
+   public static void setUpBeforeClass() throws Exception {
+      setUpBeforeClass(null, "../resources/basic-dev-project", true, false, null, null);
+
+      String filteredResources = "<build>\n    <resources>\n      <resource>\n        <directory>src/main/resources</directory>\n"
+            + "        <filtering>true</filtering>\n      </resource>\n    </resources>";
+      replaceStringLiteral("<build>", filteredResources, pom);
+
+      startProcess(null, true);
+   }
+
+   @AfterClass
+   public static void cleanUpAfterClass() throws Exception {
+      BaseDevTest.cleanUpAfterClass();
+   }
+
+   @Test
+   public void changedResourceIsFilteredTest() throws Exception {
+      File targetPlaceHolder = new File(targetDir, "classes/placeHolder.txt");
+      assertTrue(targetPlaceHolder.exists());
+      long placeHolderLastModified = targetPlaceHolder.lastModified();
+
+      // only the changed file is copied, with the filters of the project
+      waitLongEnough();
+      File propertiesFile = new File(tempProj, "src/main/resources/app.properties");
+      Files.write(propertiesFile.toPath(), "name=${app.name}".getBytes());
+      File targetPropertiesFile = new File(targetDir, "classes/app.properties");
+      assertTrue(getLogTail(), verifyFileExists(targetPropertiesFile, 30000));
+      assertTrue(getLogTail(), verifyLogMessageExists("Running maven-resources-plugin:copy-resources on 1 changed file(s)", 10000));
+      assertTrue(getLogTail(), verifyLogMessageExists("name=LibertyProject", 10000, targetPropertiesFile));
+      assertEquals(placeHolderLastModified, targetPlaceHolder.lastModified());
+   }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * (c) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package net.wasdev.wlp.test.dev.it;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class DevIncrementalStartupTest extends BaseDevTest {
+
+   // generated features change the server configuration of the next session
+   private static final String PARAMS = "-DgenerateFeatures=false";
+
+   @BeforeClass
+   public static void setUpBeforeClass() throws Exception {
+      setUpBeforeClass(PARAMS);
+   }
+
+   @AfterClass
+   public static void cleanUpAfterClass() throws Exception {
+      BaseDevTest.cleanUpAfterClass();
+   }
+
+   @Test
+   public void unchangedStepsAreSkippedTest() throws Exception {
+      assertTrue(verifyLogMessageExists("Liberty is running in dev mode.", 10000));
+
+      // restart dev mode without any changes
+      writer.write("exit\n");
+      writer.flush();
+      writer.close();
+      assertTrue(process.waitFor(120, TimeUnit.SECONDS));
+      startProcess(PARAMS, true);
+
+      assertTrue(getLogTail(), verifyLogMessageExists("Skipping resources and compile, no changes since the previous dev mode session.", 10000));
+      assertTrue(getLogTail(), verifyLogMessageExists("Skipping liberty:create, no changes since the previous dev mode session.", 10000));
+      assertTrue(getLogTail(), verifyLogMessageExists("Skipping liberty:install-feature, no changes since the previous dev mode session.", 10000));
+
+      // changes are still compiled and deployed after the skipped steps
+      testModifyJavaFile();
+   }
+}
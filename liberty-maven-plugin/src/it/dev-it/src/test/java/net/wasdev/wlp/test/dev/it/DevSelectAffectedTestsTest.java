@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * (c) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package net.wasdev.wlp.test.dev.it;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class DevSelectAffectedTestsTest extends BaseDevTest {
+
+   private static final String AFFECTED_TEST_RUN = "Running com.demo.HelloWorldTest";
+   private static final String UNAFFECTED_TEST_RUN = "Running com.demo.UnrelatedTest";
+
+   @BeforeClass
+   public static void setUpBeforeClass() throws Exception {
+      setUpBeforeClass(null, "../resources/basic-dev-project", true, false, null, null);
+
+      File testDir = new File(tempProj, "src/test/java/com/demo");
+      assertTrue(testDir.mkdirs());
+      String helloWorldTest = "package com.demo;\n\n" + "import org.junit.Test;\n" + "import static org.junit.Assert.*;\n\n"
+            + "public class HelloWorldTest {\n" + "    @Test\n" + "    public void testHelloWorld() {\n"
+            + "        assertNotNull(new HelloWorld().helloWorld());\n" + "    }\n" + "}";
+      Files.write(new File(testDir, "HelloWorldTest.java").toPath(), helloWorldTest.getBytes());
+      String unrelatedTest = "package com.demo;\n\n" + "import org.junit.Test;\n" + "import static org.junit.Assert.*;\n\n"
+            + "public class UnrelatedTest {\n" + "    @Test\n" + "    public void testTrue() {\n"
+            + "        assertTrue(true);\n" + "    }\n" + "}";
+      Files.write(new File(testDir, "UnrelatedTest.java").toPath(), unrelatedTest.getBytes());
+
+      startProcess("-DhotTests=true -DselectAffectedTests=true", true);
+   }
+
+   @AfterClass
+   public static void cleanUpAfterClass() throws Exception {
+      BaseDevTest.cleanUpAfterClass();
+   }
+
+   @Test
+   public void affectedTestsRunTest() throws Exception {
+      assertTrue(verifyLogMessageExists("Tests will run automatically", 20000));
+      int unitTestsCount = countOccurrences("Unit tests finished.", logFile);
+      int affectedCount = countOccurrences(AFFECTED_TEST_RUN, logFile);
+      int unaffectedCount = countOccurrences(UNAFFECTED_TEST_RUN, logFile);
+
+      // only the test referencing the changed class runs
+      testModifyJavaFile();
+      assertTrue(getLogTail(), verifyLogMessageExists("Running 1 test class(es) affected by the changes.", 10000));
+      assertTrue(getLogTail(), verifyLogMessageExists("Unit tests finished.", 20000, ++unitTestsCount));
+      assertEquals(affectedCount + 1, countOccurrences(AFFECTED_TEST_RUN, logFile));
+      assertEquals(unaffectedCount, countOccurrences(UNAFFECTED_TEST_RUN, logFile));
+
+      // running the tests on demand runs all tests
+      writer.write("\n");
+      writer.flush();
+      assertTrue(getLogTail(), verifyLogMessageExists("Unit tests finished.", 20000, ++unitTestsCount));
+      assertEquals(affectedCount + 2, countOccurrences(AFFECTED_TEST_RUN, logFile));
+      assertEquals(unaffectedCount + 1, countOccurrences(UNAFFECTED_TEST_RUN, logFile));
+   }
+}
@@ -33,6 +33,7 @@ import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -50,6 +51,7 @@ import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
 
 import io.openliberty.tools.maven.utils.AntTaskFactory;
+import io.openliberty.tools.maven.utils.BuildTrace;
 
 import static java.util.Objects.requireNonNull;
 
@@ -96,6 +98,17 @@ public abstract class AbstractLibertySupport extends AbstractMojo {
     @Parameter(defaultValue = "${maven.multiModuleProjectDirectory}", required = false, readonly = true)
     protected File multiModuleProjectDirectory = null;
 
+    @Parameter(defaultValue = "${mojoExecution}", readonly = true)
+    protected MojoExecution mojoExecution;
+
+    /**
+     * The file to write a Chrome trace event timeline of the Liberty goals of the build
+     * to, with each reactor module and thread as a lane. A relative path is resolved
+     * against the top level project directory.
+     */
+    @Parameter(property = "liberty.traceFile")
+    protected String traceFile;
+
     protected MavenProject getProject() {
         return project;
     }
@@ -104,6 +117,46 @@ public abstract class AbstractLibertySupport extends AbstractMojo {
         return this.repoSession;
     }
     
+    /**
+     * Runs the goal with {@link #doExecute()}, traced if a trace file is set. Subclasses
+     * that override this method instead of {@link #doExecute()} can trace the goal with
+     * {@link #traceGoal()}.
+     */
+    @Override
+    public void execute() throws MojoExecutionException {
+        try (BuildTrace.Span span = traceGoal()) {
+            doExecute();
+        }
+    }
+
+    /**
+     * Runs the goal. Does nothing unless overridden.
+     */
+    protected void doExecute() throws MojoExecutionException {
+    }
+
+    /**
+     * Begins tracing this goal if a trace file is set.
+     *
+     * @return the span to close when the goal ends
+     */
+    protected BuildTrace.Span traceGoal() {
+        File file = null;
+        if (traceFile != null && !traceFile.trim().isEmpty()) {
+            file = new File(traceFile.trim());
+            if (!file.isAbsolute()) {
+                File topDirectory = multiModuleProjectDirectory != null ? multiModuleProjectDirectory : project.getBasedir();
+                file = new File(topDirectory, file.getPath());
+            }
+        }
+        String goal = mojoExecution != null ? mojoExecution.getMojoDescriptor().getFullGoalName() : getClass().getSimpleName();
+        BuildTrace.Span span = BuildTrace.beginGoal(session, file, project.getArtifactId(), goal, getLog());
+        if (mojoExecution != null) {
+            span.arg("executionId", mojoExecution.getExecutionId());
+        }
+        return span.arg("project", project.getId());
+    }
+
     protected void init() throws MojoExecutionException {
        // Initialize ant helper instance
        ant = AntTaskFactory.forMavenProject(getProject());
@@ -46,6 +46,8 @@ import org.codehaus.plexus.util.IOUtil;
 import io.openliberty.tools.ant.install.InstallLibertyTask;
 import io.openliberty.tools.common.plugins.util.AbstractContainerSupportUtil;
 import io.openliberty.tools.common.plugins.util.PluginExecutionException;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent.Field;
 
 /**
  * Basic Liberty Mojo Support
@@ -59,6 +61,10 @@ public abstract class BasicSupport extends AbstractLibertySupport {
 
     protected static final ResourceBundle messages = ResourceBundle.getBundle("io.openliberty.tools.maven.MvnMessages");
 
+    private static final FlightRecorderEvent.Type INSTALL_SERVER_ASSEMBLY_EVENT = FlightRecorderEvent.type("InstallServerAssembly",
+            "Install Server Assembly", "Installs the Liberty runtime from an assembly archive or a runtime download",
+            Field.text("installType", "Install Type"), Field.text("assembly", "Assembly Archive"), Field.bytes("bytes", "Archive Size"));
+
     protected boolean defaultOutputDirSet = false;
 
     protected boolean skipServerConfigSetup = false;
@@ -438,12 +444,16 @@ public abstract class BasicSupport extends AbstractLibertySupport {
         if (installType == InstallType.ALREADY_EXISTS) {
             getLog().info(MessageFormat.format(messages.getString("info.install.type.preexisting"), ""));
         } else {
-            if (installType == InstallType.FROM_ARCHIVE) {
-                installFromArchive();
-            } else {
-                installFromFile();
+            try (FlightRecorderEvent event = INSTALL_SERVER_ASSEMBLY_EVENT.begin(getLog())) {
+                event.set("installType", installType.name());
+                if (installType == InstallType.FROM_ARCHIVE) {
+                    installFromArchive();
+                } else {
+                    installFromFile();
+                    event.set("assembly", assemblyArchive.getPath()).set("bytes", assemblyArchive.length());
+                }
+                installLicense();
             }
-            installLicense();
         }
     }
     
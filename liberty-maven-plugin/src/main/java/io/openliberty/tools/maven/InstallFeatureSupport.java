@@ -16,6 +16,12 @@
 package io.openliberty.tools.maven;
 
 import java.io.File;
+import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivilegedActionException;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,11 +29,18 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.openliberty.tools.common.plugins.util.LibertyPropFilesUtility;
 import io.openliberty.tools.maven.utils.CommonLogger;
+import io.openliberty.tools.maven.utils.FeatureArtifactPrefetch;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent.Field;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.resolution.ArtifactRequest;
 
 import io.openliberty.tools.ant.FeatureManagerTask.Feature;
 import io.openliberty.tools.common.plugins.util.InstallFeatureUtil;
@@ -35,6 +48,7 @@ import io.openliberty.tools.common.plugins.util.InstallFeatureUtil.ProductProper
 import io.openliberty.tools.common.plugins.util.ServerFeatureUtil.FeaturesPlatforms;
 import io.openliberty.tools.common.plugins.util.PluginExecutionException;
 import io.openliberty.tools.common.plugins.util.PluginScenarioException;
+import io.openliberty.tools.common.plugins.util.VersionUtility;
 import io.openliberty.tools.maven.server.types.Features;
 import io.openliberty.tools.maven.server.types.Key;
 
@@ -63,9 +77,33 @@ public abstract class InstallFeatureSupport extends ServerFeatureSupport {
     public boolean installManually = false;
 
     protected InstallFeatureUtil util;
+
+    /**
+     * Downloads the feature artifacts of the features being installed in batches, or null
+     * if the features are not being installed.
+     */
+    protected FeatureArtifactPrefetch featureArtifactPrefetch;
+
+    /**
+     * Whether the features that the install kernel resolved are passed to the prefetch.
+     */
+    private boolean prefetchResolvedFeatures;
     
     public static final String FEATURES_JSON_ARTIFACT_ID = "features";
 
+    /**
+     * The first runtime version whose install kernel is known to return the resolved
+     * features as groupId:artifactId:version.
+     */
+    private static final String RESOLVED_FEATURES_MIN_VERSION = "21.0.0.11";
+
+    protected static final FlightRecorderEvent.Type INSTALL_FEATURES_EVENT = FlightRecorderEvent.type("InstallFeatures",
+            "Install Features", "Installs the features of the server",
+            Field.text("features", "Features"), Field.text("platforms", "Platforms"), Field.count("featureCount", "Feature Count"));
+    private static final FlightRecorderEvent.Type DOWNLOAD_FEATURE_ARTIFACT_EVENT = FlightRecorderEvent.type("DownloadFeatureArtifact",
+            "Download Feature Artifact", "Resolves a feature artifact, such as an ESA or its signature, from the Maven repositories",
+            Field.text("artifact", "Artifact"), Field.bytes("bytes", "Artifact Size"));
+
     protected class InstallFeatureMojoUtil extends InstallFeatureUtil {
         public InstallFeatureMojoUtil(Set<String> pluginListedEsas, List<ProductProperties> propertiesList, String openLibertyVerion, String containerName, List<String> additionalJsons, Collection<Map<String,String>> keyMap)
                 throws PluginScenarioException, PluginExecutionException {
@@ -115,8 +153,21 @@ public abstract class InstallFeatureSupport extends ServerFeatureSupport {
         
         @Override
         public File downloadArtifact(String groupId, String artifactId, String type, String version) throws PluginExecutionException {
-            try {
-                return getArtifact(groupId, artifactId, type, version).getFile();
+            String coordinates = groupId + ":" + artifactId + ":" + type + ":" + version;
+            FeatureArtifactPrefetch prefetch = featureArtifactPrefetch;
+            if (prefetch != null) {
+                prefetch.await(coordinates);
+            }
+            try (FlightRecorderEvent event = DOWNLOAD_FEATURE_ARTIFACT_EVENT.begin(getLog())) {
+                File file = getArtifact(groupId, artifactId, type, version).getFile();
+                event.set("artifact", coordinates);
+                if (file != null) {
+                    event.set("bytes", file.length());
+                    if (prefetch != null) {
+                        prefetch.requested(coordinates);
+                    }
+                }
+                return file;
             } catch (MojoExecutionException e) {
                 throw new PluginExecutionException(e);
             }
@@ -126,6 +177,79 @@ public abstract class InstallFeatureSupport extends ServerFeatureSupport {
         public File downloadSignature(File esa, String groupId, String artifactId, String type, String version) throws PluginExecutionException {
         	return downloadArtifact(groupId, artifactId, type, version);
         }
+
+        @Override
+        protected Map<String, Object> createMapBasedInstallKernelInstance(String bundle, File installDirectory)
+                throws PrivilegedActionException, PluginExecutionException, MalformedURLException {
+            Map<String, Object> installKernel = super.createMapBasedInstallKernelInstance(bundle, installDirectory);
+            FeatureArtifactPrefetch prefetch = featureArtifactPrefetch;
+            if (installKernel == null || prefetch == null || !prefetchResolvedFeatures) {
+                return installKernel;
+            }
+            return new PrefetchingInstallKernel(installKernel, prefetch, !"skip".equalsIgnoreCase(features.getVerify()));
+        }
+    }
+
+    /**
+     * Passes the features that the install kernel resolved to the prefetch, before the
+     * install kernel requests their artifacts one at a time. The resolved features are
+     * read from the keys of the map based install kernel, since there is no API for them,
+     * so the install kernel is only wrapped for the runtime versions it is known to work with.
+     */
+    private static class PrefetchingInstallKernel extends AbstractMap<String, Object> {
+
+        private static final String FEATURES_TO_RESOLVE = "features.to.resolve";
+        private static final String ACTION_RESULT = "action.result";
+
+        private final Map<String, Object> installKernel;
+        private final FeatureArtifactPrefetch prefetch;
+        private final boolean signatures;
+        private final AtomicBoolean resolving = new AtomicBoolean();
+
+        PrefetchingInstallKernel(Map<String, Object> installKernel, FeatureArtifactPrefetch prefetch, boolean signatures) {
+            this.installKernel = installKernel;
+            this.prefetch = prefetch;
+            this.signatures = signatures;
+        }
+
+        @Override
+        public Object get(Object key) {
+            Object value = installKernel.get(key);
+            if (ACTION_RESULT.equals(key) && resolving.compareAndSet(true, false)) {
+                if (value instanceof Collection) {
+                    prefetch.resolved((Collection<?>) value, signatures);
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            if (FEATURES_TO_RESOLVE.equals(key)) {
+                resolving.set(true);
+            }
+            return installKernel.put(key, value);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return installKernel.containsKey(key);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return installKernel.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            installKernel.clear();
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            return installKernel.entrySet();
+        }
     }
 
     protected Set<String> getPluginListedFeatures(boolean findEsaFiles) {
@@ -306,4 +430,47 @@ public abstract class InstallFeatureSupport extends ServerFeatureSupport {
         return util;
     }
 
+    /**
+     * Starts downloading the feature artifacts that a previous install of the same features
+     * needed, in one batch that the Maven resolver downloads concurrently, while the
+     * features are being resolved. For runtimes from version 21.0.0.11, the artifacts of the
+     * resolved features that were not recorded are downloaded in another batch once the
+     * install kernel resolved them.
+     *
+     * @param openLibertyVersion The version of the Open Liberty runtime
+     * @param featuresToInstall The features to install
+     * @param platformsToInstall The platforms to install
+     * @param pluginListedEsas The ESAs specified in the plugin configuration
+     */
+    protected void startFeatureArtifactPrefetch(String openLibertyVersion, Set<String> featuresToInstall, Set<String> platformsToInstall,
+            Set<String> pluginListedEsas) {
+        String inputs = openLibertyVersion + "|" + new TreeSet<String>(featuresToInstall) + "|" + new TreeSet<String>(platformsToInstall) + "|"
+                + new TreeSet<String>(pluginListedEsas) + "|" + features.getVerify();
+        File recordFile = new File(project.getBuild().getDirectory(), "liberty-feature-artifacts.properties");
+        featureArtifactPrefetch = new FeatureArtifactPrefetch(recordFile, hash(inputs), getLog());
+        prefetchResolvedFeatures = openLibertyVersion != null
+                && VersionUtility.compareArtifactVersion(openLibertyVersion, RESOLVED_FEATURES_MIN_VERSION, true) >= 0;
+        featureArtifactPrefetch.start(coordinates -> {
+            List<ArtifactRequest> requests = new ArrayList<ArtifactRequest>();
+            for (String coordinate : coordinates) {
+                String[] parts = coordinate.split(":");
+                requests.add(new ArtifactRequest().setRepositories(repositories)
+                        .setArtifact(new DefaultArtifact(parts[0], parts[1], parts[2], parts[3])));
+            }
+            repositorySystem.resolveArtifacts(repoSession, requests);
+        });
+    }
+
+    private static String hash(String inputs) {
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(inputs.getBytes(StandardCharsets.UTF_8))) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(inputs.hashCode());
+        }
+    }
+
 }
@@ -290,6 +290,13 @@ public abstract class ServerFeatureSupport extends BasicSupport {
         return multiModuleProjectDirectory.toPath().relativize(module.getBasedir().toPath()).toString();
     }
     
+    /**
+     * @return the version of this plugin, or null if Maven did not provide the plugin descriptor
+     */
+    protected String getPluginVersion() {
+        return plugin != null ? plugin.getVersion() : null;
+    }
+
     protected Plugin getLibertyPluginForProject(MavenProject currentProject) {
         // Try getting the version from Maven 3's plugin descriptor
         String version = null;
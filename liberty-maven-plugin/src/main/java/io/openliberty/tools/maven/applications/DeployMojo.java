@@ -50,7 +50,7 @@ import io.openliberty.tools.common.plugins.util.DevUtil;
 public class DeployMojo extends DeployMojoSupport {
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
         
         if (skip) {
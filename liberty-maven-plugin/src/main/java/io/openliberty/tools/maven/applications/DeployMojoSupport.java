@@ -38,6 +38,8 @@ import io.openliberty.tools.ant.ServerTask;
 import io.openliberty.tools.ant.SpringBootUtilTask;
 import io.openliberty.tools.maven.server.LooseAppSupport;
 import io.openliberty.tools.maven.utils.CommonLogger;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent.Field;
 import io.openliberty.tools.maven.utils.MavenProjectUtil;
 import io.openliberty.tools.maven.utils.SpringBootUtil;
 import io.openliberty.tools.common.plugins.config.ApplicationXmlDocument;
@@ -54,6 +56,13 @@ public abstract class DeployMojoSupport extends LooseAppSupport {
 
     private final String PROJECT_ROOT_TARGET_LIBS = "target/libs";
 
+    private static final FlightRecorderEvent.Type INSTALL_APP_EVENT = FlightRecorderEvent.type("InstallApp",
+            "Install App", "Copies an application archive to the server and waits for it to start",
+            Field.text("application", "Application"), Field.bytes("bytes", "Bytes Copied"));
+    private static final FlightRecorderEvent.Type LOOSE_CONFIG_EVENT = FlightRecorderEvent.type("GenerateLooseConfig",
+            "Generate Loose Config", "Generates the loose application configuration of a project",
+            Field.text("project", "Project"), Field.text("packaging", "Packaging"), Field.count("entries", "Entries"));
+
     /**
      * Timeout to verify deploy successfully, in seconds.
      */
@@ -104,9 +113,12 @@ public abstract class DeployMojoSupport extends LooseAppSupport {
 
         deleteApplication(serverDirectory, fileToCopy, destFile);
         
-        copyFile.execute();
+        try (FlightRecorderEvent event = INSTALL_APP_EVENT.begin(getLog())) {
+            event.set("application", destFileName).set("bytes", fileToCopy.length());
+            copyFile.execute();
 
-        verifyAppStarted(destFileName);
+            verifyAppStarted(destFileName);
+        }
     }
 
     private void setLooseProjectRootForContainer(MavenProject proj, LooseConfigData config) throws MojoExecutionException {
@@ -133,6 +145,28 @@ public abstract class DeployMojoSupport extends LooseAppSupport {
 
     // install war project artifact using loose application configuration file
     protected void installLooseConfigWar(MavenProject proj, LooseConfigData config, boolean container) throws MojoExecutionException, IOException {
+        try (FlightRecorderEvent event = LOOSE_CONFIG_EVENT.begin(getLog())) {
+            addLooseConfigWar(proj, config, container);
+            setLooseConfigAttributes(event, proj, config);
+        }
+    }
+
+    // install ear project artifact using loose application configuration file
+    protected void installLooseConfigEar(MavenProject proj, LooseConfigData config, boolean container) throws MojoExecutionException, IOException {
+        try (FlightRecorderEvent event = LOOSE_CONFIG_EVENT.begin(getLog())) {
+            addLooseConfigEar(proj, config, container);
+            setLooseConfigAttributes(event, proj, config);
+        }
+    }
+
+    private void setLooseConfigAttributes(FlightRecorderEvent event, MavenProject proj, LooseConfigData config) {
+        if (event.isEnabled()) {
+            event.set("project", proj.getId()).set("packaging", proj.getPackaging())
+                    .set("entries", config.getDocumentRoot().getElementsByTagName("*").getLength());
+        }
+    }
+
+    private void addLooseConfigWar(MavenProject proj, LooseConfigData config, boolean container) throws MojoExecutionException, IOException {
         // return error if webapp contains java source but it is not compiled yet.
         File dir = new File(proj.getBuild().getOutputDirectory());
         if (!dir.exists() && containsJavaSource(proj)) {
@@ -227,8 +261,7 @@ public abstract class DeployMojoSupport extends LooseAppSupport {
         }
     }
 
-    // install ear project artifact using loose application configuration file
-    protected void installLooseConfigEar(MavenProject proj, LooseConfigData config, boolean container) throws MojoExecutionException, IOException {
+    private void addLooseConfigEar(MavenProject proj, LooseConfigData config, boolean container) throws MojoExecutionException, IOException {
         if (container) {
             setLooseProjectRootForContainer(proj, config);
         }
@@ -0,0 +1,329 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.applications;
+
+import static org.twdata.maven.mojoexecutor.MojoExecutor.element;
+import static org.twdata.maven.mojoexecutor.MojoExecutor.name;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.twdata.maven.mojoexecutor.MojoExecutor.Element;
+
+import io.openliberty.tools.maven.utils.IncrementalResources;
+
+/**
+ * Keeps the webapp directory of an exploded loose WAR application in sync with the web
+ * source directories that the maven-war-plugin exploded goal copies into it, one changed
+ * file at a time.
+ * <p>
+ * The state of the monitored web source directories is recorded, and on each
+ * synchronization the files that were added, modified or deleted since are propagated
+ * to the webapp directory. Files that are not filtered are copied directly. Filtered
+ * files are returned as single file resources, to be copied with the filtering
+ * configuration of the maven-war-plugin. Whenever a change cannot be applied the same way
+ * the exploded goal would apply it, such as a deletion of a file that an overlay may
+ * provide or a change to the maven-war-plugin configuration, the synchronization
+ * reports that the exploded goal must run instead.
+ */
+public class ExplodedWarSynchronizer {
+
+    private static final String WEB_XML = "WEB-INF/web.xml";
+
+    private static final String[] UNSUPPORTED_WAR_PARAMS = { "warSourceIncludes", "warSourceExcludes", "packagingIncludes",
+            "packagingExcludes", "webXml", "containerConfigXML" };
+
+    private final MavenProject project;
+    private final Log log;
+    private String warConfiguration;
+    private Map<Path, Map<String, String>> snapshot;
+
+    public ExplodedWarSynchronizer(MavenProject project, Log log) {
+        this.project = project;
+        this.log = log;
+    }
+
+    /**
+     * @return the project whose webapp directory is synchronized
+     */
+    public MavenProject getProject() {
+        return project;
+    }
+
+    /**
+     * @return the webapp directory of the project
+     */
+    public Path getWebAppDirectory() {
+        return LooseWarApplication.getWebAppDirectory(project);
+    }
+
+    /**
+     * Records the current state of the web source directories, after the webapp directory
+     * was fully assembled by the exploded goal.
+     */
+    public synchronized void reset() {
+        warConfiguration = getWarConfiguration();
+        snapshot = takeSnapshot();
+    }
+
+    /**
+     * Propagates the changes of the web source directories since the previous
+     * synchronization to the webapp directory.
+     *
+     * @return the changed files that must be copied with filtering, or null if the changes
+     *         cannot be applied incrementally and the exploded goal must run
+     * @throws IOException if a file could not be copied or deleted
+     */
+    public synchronized List<Resource> sync() throws IOException {
+        if (snapshot == null || !getWarConfiguration().equals(warConfiguration)) {
+            log.debug("The maven-war-plugin configuration changed, the webapp directory will be assembled again");
+            return null;
+        }
+        Map<Path, Map<String, String>> current = takeSnapshot();
+        if (!current.keySet().equals(snapshot.keySet())) {
+            log.debug("The monitored web source directories changed, the webapp directory will be assembled again");
+            return null;
+        }
+
+        Path webAppDirectory = getWebAppDirectory();
+        Path warSourceDirectory = LooseWarApplication.getWarSourceDirectory(project);
+        Map<Path, Xpp3Dom> webResources = getFilteredWebResources();
+        if (webResources.containsKey(warSourceDirectory) && hasWarSourceDirectoryChanges(current, warSourceDirectory)) {
+            // the war source directory is both copied and filtered as a web resource
+            return null;
+        }
+
+        List<Path> copies = new ArrayList<Path>();
+        List<Path> copyTargets = new ArrayList<Path>();
+        List<Path> deletes = new ArrayList<Path>();
+        List<Resource> filtered = new ArrayList<Resource>();
+        for (Map.Entry<Path, Map<String, String>> dirEntry : current.entrySet()) {
+            Path dir = dirEntry.getKey();
+            Map<String, String> oldFiles = snapshot.get(dir);
+            Map<String, String> newFiles = dirEntry.getValue();
+
+            Xpp3Dom webResource = webResources.get(dir);
+            String targetPath = webResource == null ? null : getValue(webResource, "targetPath");
+            Path targetDir = targetPath == null ? webAppDirectory : webAppDirectory.resolve(targetPath);
+
+            for (Map.Entry<String, String> file : newFiles.entrySet()) {
+                String relativePath = file.getKey();
+                if (file.getValue().equals(oldFiles.get(relativePath))) {
+                    continue;
+                }
+                if (webResource != null) {
+                    if (isIncluded(webResource, relativePath)) {
+                        filtered.add(createResource(dir, targetPath, relativePath));
+                    }
+                } else if (hasUnsupportedWarParams()) {
+                    return null;
+                } else if (WEB_XML.equals(relativePath)) {
+                    // deployment descriptors are filtered, other files of the war source directory are copied
+                    filtered.add(createResource(dir, null, relativePath));
+                } else {
+                    copies.add(dir.resolve(relativePath));
+                    copyTargets.add(targetDir.resolve(relativePath));
+                }
+            }
+            for (String relativePath : oldFiles.keySet()) {
+                if (newFiles.containsKey(relativePath)) {
+                    continue;
+                }
+                if (LooseWarApplication.isUsingOverlays(project)) {
+                    // an overlay may provide the deleted file
+                    return null;
+                }
+                if (webResource == null || isIncluded(webResource, relativePath)) {
+                    deletes.add(targetDir.resolve(relativePath));
+                }
+            }
+        }
+
+        for (int i = 0; i < copies.size(); i++) {
+            Path target = copyTargets.get(i);
+            log.debug("Copying " + copies.get(i) + " to " + target);
+            Files.createDirectories(target.getParent());
+            Files.copy(copies.get(i), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+        for (Path target : deletes) {
+            log.debug("Deleting " + target);
+            Files.deleteIfExists(target);
+        }
+        snapshot = current;
+        return filtered;
+    }
+
+    /**
+     * Returns the configuration of the maven-resources-plugin copy-resources goal that copies
+     * the given files into the webapp directory, using the filtering configuration of the
+     * maven-war-plugin.
+     *
+     * @param resources the files to copy, as returned by {@link #sync()}
+     * @return the goal configuration
+     */
+    public Xpp3Dom getFilteredCopyConfiguration(List<Resource> resources) {
+        List<Element> elements = new ArrayList<Element>();
+        elements.add(element(name("outputDirectory"), getWebAppDirectory().toString()));
+        elements.add(element(name("overwrite"), "true"));
+        List<Element> resourceElements = new ArrayList<Element>();
+        for (Resource resource : resources) {
+            List<Element> children = new ArrayList<Element>();
+            children.add(element(name("directory"), resource.getDirectory()));
+            children.add(element(name("filtering"), "true"));
+            if (resource.getTargetPath() != null) {
+                children.add(element(name("targetPath"), resource.getTargetPath()));
+            }
+            children.add(element(name("includes"), element(name("include"), resource.getIncludes().get(0))));
+            resourceElements.add(element(name("resource"), children.toArray(new Element[children.size()])));
+        }
+        elements.add(element(name("resources"), resourceElements.toArray(new Element[resourceElements.size()])));
+
+        Xpp3Dom config = element(name("configuration"), elements.toArray(new Element[elements.size()])).toDom();
+        Xpp3Dom warConfig = getWarPluginConfiguration();
+        if (warConfig != null) {
+            // the exploded goal and the copy-resources goal filter files with the same library
+            copyChild(warConfig, "filters", "filters", config);
+            copyChild(warConfig, "delimiters", "delimiters", config);
+            copyChild(warConfig, "useDefaultDelimiters", "useDefaultDelimiters", config);
+            copyChild(warConfig, "escapeString", "escapeString", config);
+            copyChild(warConfig, "supportMultiLineFiltering", "supportMultiLineFiltering", config);
+            copyChild(warConfig, "nonFilteredFileExtensions", "nonFilteredFileExtensions", config);
+            copyChild(warConfig, "resourceEncoding", "encoding", config);
+        }
+        return config;
+    }
+
+    private static void copyChild(Xpp3Dom from, String fromName, String toName, Xpp3Dom to) {
+        Xpp3Dom child = from.getChild(fromName);
+        if (child != null) {
+            Xpp3Dom copy = new Xpp3Dom(child, toName);
+            to.addChild(copy);
+        }
+    }
+
+    private Resource createResource(Path dir, String targetPath, String relativePath) {
+        Resource resource = new Resource();
+        resource.setDirectory(dir.toString());
+        resource.setTargetPath(targetPath);
+        resource.setFiltering(true);
+        resource.addInclude(relativePath);
+        return resource;
+    }
+
+    private boolean hasWarSourceDirectoryChanges(Map<Path, Map<String, String>> current, Path warSourceDirectory) {
+        Map<String, String> files = current.get(warSourceDirectory);
+        return files != null && !files.equals(snapshot.get(warSourceDirectory));
+    }
+
+    private boolean hasUnsupportedWarParams() {
+        Xpp3Dom warConfig = getWarPluginConfiguration();
+        if (warConfig != null) {
+            for (String param : UNSUPPORTED_WAR_PARAMS) {
+                if (warConfig.getChild(param) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIncluded(Xpp3Dom webResource, String relativePath) {
+        return IncrementalResources.isIncluded(getValues(webResource, "includes"), getValues(webResource, "excludes"),
+                relativePath, true);
+    }
+
+    private static String getValue(Xpp3Dom dom, String name) {
+        Xpp3Dom child = dom.getChild(name);
+        return child == null ? null : child.getValue();
+    }
+
+    private static List<String> getValues(Xpp3Dom dom, String name) {
+        Xpp3Dom child = dom.getChild(name);
+        if (child == null) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<String>();
+        for (Xpp3Dom value : child.getChildren()) {
+            if (value.getValue() != null) {
+                values.add(value.getValue());
+            }
+        }
+        return values;
+    }
+
+    private Xpp3Dom getWarPluginConfiguration() {
+        return project.getGoalConfiguration("org.apache.maven.plugins", "maven-war-plugin", null, null);
+    }
+
+    private String getWarConfiguration() {
+        return String.valueOf(getWarPluginConfiguration()) + project.getBuild().getFilters();
+    }
+
+    /**
+     * Returns the filtered webResources entries of the maven-war-plugin, keyed by directory.
+     */
+    private Map<Path, Xpp3Dom> getFilteredWebResources() {
+        Map<Path, Xpp3Dom> resources = new HashMap<Path, Xpp3Dom>();
+        Path baseDirPath = Paths.get(project.getBasedir().getAbsolutePath());
+        for (Xpp3Dom resource : LooseWarApplication.getWebResourcesConfigurations(project)) {
+            if (Boolean.parseBoolean(getValue(resource, "filtering"))) {
+                Path dir = baseDirPath.resolve(getValue(resource, "directory"));
+                if (!resources.containsKey(dir)) {
+                    resources.put(dir, resource);
+                }
+            }
+        }
+        return resources;
+    }
+
+    private Map<Path, Map<String, String>> takeSnapshot() {
+        Map<Path, Map<String, String>> state = new HashMap<Path, Map<String, String>>();
+        for (Path dir : LooseWarApplication.getWebSourceDirectoriesToMonitor(project)) {
+            Map<String, String> files = new HashMap<String, String>();
+            addFiles(dir.toFile(), "", files);
+            state.put(dir, files);
+        }
+        return state;
+    }
+
+    private static void addFiles(File dir, String prefix, Map<String, String> files) {
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            String relativePath = prefix + child.getName();
+            if (child.isDirectory()) {
+                addFiles(child, relativePath + "/", files);
+            } else {
+                files.put(relativePath, child.length() + ":" + child.lastModified());
+            }
+        }
+    }
+}
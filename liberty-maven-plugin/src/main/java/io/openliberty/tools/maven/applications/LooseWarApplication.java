@@ -66,7 +66,7 @@ public class LooseWarApplication extends LooseApplication {
         config.addDir(warSourceDirectory.toFile(), "/");
     }
 
-    private static Path getWarSourceDirectory(MavenProject project) {
+    static Path getWarSourceDirectory(MavenProject project) {
         Path baseDir = Paths.get(project.getBasedir().getAbsolutePath());
         String warSourceDir = MavenProjectUtil.getPluginConfiguration(project, "org.apache.maven.plugins", "maven-war-plugin", "warSourceDirectory");
         if (warSourceDir == null) {
@@ -76,7 +76,7 @@ public class LooseWarApplication extends LooseApplication {
         return baseDir.resolve(warSourceDir);
     }
 
-    private Path getWebAppDirectory(MavenProject project) {
+    static Path getWebAppDirectory(MavenProject project) {
         Xpp3Dom dom = project.getGoalConfiguration("org.apache.maven.plugins", "maven-war-plugin", null, null);
         String webAppDirStr = null;
         if (dom != null) {
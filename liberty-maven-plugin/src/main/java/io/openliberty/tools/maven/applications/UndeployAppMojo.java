@@ -41,7 +41,7 @@ public class UndeployAppMojo extends DeployMojoSupport {
     private static final long APP_STOP_TIMEOUT_DEFAULT = 30 * 1000;
         
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
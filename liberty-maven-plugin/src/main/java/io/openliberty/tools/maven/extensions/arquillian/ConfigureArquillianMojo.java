@@ -61,7 +61,7 @@ public class ConfigureArquillianMojo extends BasicSupport {
     protected boolean skipIfArquillianXmlExists = false;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
         
         File arquillianXml = new File(project.getBuild().getDirectory(), "test-classes/arquillian.xml");
@@ -59,7 +59,7 @@ public class CompileJspMojo extends InstallFeatureSupport {
     protected int timeout;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
@@ -30,7 +30,7 @@ import io.openliberty.tools.ant.ServerTask;
 public class CheckStatusMojo extends StartDebugMojoSupport {
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
         
         if (skip) {
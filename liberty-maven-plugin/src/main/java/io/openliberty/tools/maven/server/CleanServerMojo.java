@@ -52,7 +52,7 @@ public class CleanServerMojo extends StartDebugMojoSupport {
     private boolean cleanApps = false;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
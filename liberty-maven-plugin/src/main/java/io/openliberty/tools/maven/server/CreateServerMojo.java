@@ -52,7 +52,7 @@ public class CreateServerMojo extends PluginConfigSupport {
     private boolean noPassword;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
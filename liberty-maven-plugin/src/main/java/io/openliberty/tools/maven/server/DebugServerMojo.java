@@ -39,7 +39,7 @@ public class DebugServerMojo extends StartDebugMojoSupport {
     protected boolean clean;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
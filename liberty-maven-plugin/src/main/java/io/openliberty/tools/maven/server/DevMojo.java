@@ -24,24 +24,39 @@ import static org.twdata.maven.mojoexecutor.MojoExecutor.name;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Enumeration;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 
 import io.openliberty.tools.common.plugins.util.LibertyPropFilesUtility;
+import io.openliberty.tools.maven.utils.BuildStateJournal;
+import io.openliberty.tools.maven.utils.ChangeCoalescer;
+import io.openliberty.tools.maven.utils.ClassDependencyIndex;
 import io.openliberty.tools.maven.utils.CommonLogger;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
@@ -60,9 +75,11 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
-import org.apache.maven.project.ProjectBuildingResult;
 import org.apache.maven.rtinfo.RuntimeInformation;
+import org.codehaus.plexus.util.FileUtils;
+import org.codehaus.plexus.util.cli.CommandLineUtils;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.eclipse.aether.SessionData;
 import org.twdata.maven.mojoexecutor.MojoExecutor.Element;
 
 import io.openliberty.tools.ant.ServerTask;
@@ -77,9 +94,27 @@ import io.openliberty.tools.common.plugins.util.ServerFeatureUtil;
 import io.openliberty.tools.common.plugins.util.ServerFeatureUtil.FeaturesPlatforms;
 import io.openliberty.tools.common.plugins.util.ServerStatusUtil;
 import io.openliberty.tools.maven.applications.DeployMojoSupport;
+import io.openliberty.tools.maven.applications.ExplodedWarSynchronizer;
 import io.openliberty.tools.maven.applications.LooseWarApplication;
 import io.openliberty.tools.maven.utils.DevHelper;
 import io.openliberty.tools.maven.utils.ExecuteMojoUtil;
+import io.openliberty.tools.maven.utils.FileTreeScanner;
+import io.openliberty.tools.maven.utils.FileTreeSnapshot;
+import io.openliberty.tools.maven.utils.HotkeyInputStream;
+import io.openliberty.tools.maven.utils.IncrementalJavaCompiler;
+import io.openliberty.tools.maven.utils.IncrementalResources;
+import io.openliberty.tools.maven.utils.JdwpHotSwapper;
+import io.openliberty.tools.maven.utils.MavenProjectCache;
+import io.openliberty.tools.maven.utils.ModuleTestRunner;
+import io.openliberty.tools.maven.utils.PhaseTimings;
+import io.openliberty.tools.maven.utils.PomChangeClassifier;
+import io.openliberty.tools.maven.utils.PomChangeClassifier.Action;
+import io.openliberty.tools.maven.utils.ProjectDescriptor;
+import io.openliberty.tools.maven.utils.ProjectGraphExecutor;
+import io.openliberty.tools.maven.utils.TaskPipeline;
+import io.openliberty.tools.maven.utils.TestClassFilter;
+import io.openliberty.tools.maven.utils.TestImpactAnalyzer;
+import io.openliberty.tools.maven.utils.WarmTestJvm;
 
 /**
  * Start a liberty server in dev mode import to set ResolutionScope for TEST as
@@ -153,6 +188,98 @@ public class DevMojo extends LooseAppSupport {
     @Parameter(property = "compileWait", defaultValue = "0.5")
     private double compileWait;
 
+    /**
+     * Number of threads used to compile upstream modules of a multi module project when
+     * dev mode starts. Modules that do not depend on each other are compiled concurrently.
+     * The default value of 1 compiles the modules one at a time in reactor order.
+     */
+    @Parameter(property = "compileThreads", defaultValue = "1")
+    private int compileThreads;
+
+    /**
+     * Whether to apply Java source changes that only modify the code of existing methods
+     * by redefining the changed classes in the running server through the debug port,
+     * without restarting the application. Other changes are compiled and deployed as usual.
+     * Requires `debug` to be enabled and a loose application.
+     */
+    @Parameter(property = "hotSwap", defaultValue = "false")
+    private boolean hotSwap;
+
+    /**
+     * Whether to time the phases that dev mode runs after changes, such as compiling,
+     * deploying, waiting for the application update and running the tests. A summary is
+     * shown once the changes are processed, typing `l` and pressing Enter shows the
+     * percentiles over recent changes, and the times are appended to the phaseTimingsFile.
+     */
+    @Parameter(property = "phaseTimings", defaultValue = "false")
+    private boolean phaseTimings;
+
+    /**
+     * The file that the phase times are appended to as lines of JSON, one per change.
+     */
+    @Parameter(property = "phaseTimingsFile", defaultValue = "${project.build.directory}/liberty-dev-timings.json")
+    private File phaseTimingsFile;
+
+    /**
+     * Whether to skip the startup steps whose files did not change since the previous dev
+     * mode session. The state of those files is recorded in the build directory.
+     */
+    @Parameter(property = "incrementalStartup", defaultValue = "true")
+    private boolean incrementalStartup;
+
+    private BuildStateJournal buildStateJournal;
+
+    /**
+     * Number of threads used to run the startup steps of dev mode. Steps that do not depend
+     * on each other, such as compiling the project and creating the server, run concurrently.
+     * A value of 1 runs the steps one at a time.
+     */
+    @Parameter(property = "startupThreads", defaultValue = "1")
+    private int startupThreads;
+
+    /**
+     * Whether tests run automatically after Java changes only run the test classes that
+     * reference the changed classes. Running the tests on demand runs all tests. Tests that
+     * only reach the changed classes through reflection or configuration files are not
+     * selected, so the selection is off unless it is enabled.
+     */
+    @Parameter(property = "selectAffectedTests", defaultValue = "false")
+    private boolean selectAffectedTests;
+
+    /**
+     * Number of threads used to run unit tests. With more than one thread, the unit tests
+     * of the modules of a test run run concurrently with each other and with the wait for
+     * the application update, and their results are reported per module as they finish.
+     * The integration tests of a module still only run once its unit tests passed. A
+     * value of 1 runs the tests one at a time.
+     */
+    @Parameter(property = "testThreads", defaultValue = "1")
+    private int testThreads;
+
+    /**
+     * Whether to run unit tests in a JVM that is kept running for the dev mode session
+     * instead of running the maven-surefire-plugin, which starts a JVM for every test run.
+     */
+    @Parameter(property = "warmTestJvm", defaultValue = "false")
+    private boolean warmTestJvm;
+
+    /**
+     * When to render the HTML reports of the unit and integration tests: `always` after
+     * every test run, `background` on a background thread once the test results are
+     * shown, `onDemand` only when the tests are run on demand, or `never`. Reports are
+     * not rendered again when the XML test results did not change.
+     */
+    @Parameter(property = "testReports", defaultValue = "always")
+    private String testReports;
+
+    /**
+     * Whether to watch the directories that are ignored by .gitignore files, such as
+     * node_modules, within the watched source, resource and configuration directories.
+     * Build output directories within them are never watched.
+     */
+    @Parameter(property = "watchGitignored", defaultValue = "false")
+    private boolean watchGitignored;
+
     private int runId = 0;
 
     private ServerTask serverTask = null;
@@ -309,8 +436,20 @@ public class DevMojo extends LooseAppSupport {
     }
     
     private boolean isExplodedLooseWarApp = false;
+
+    private ExplodedWarSynchronizer explodedWarSynchronizer;
     private boolean isNewInstallation = true;
-    private static Map<String,Boolean> compileMojoError = new HashMap<>();
+    private static Map<String,Boolean> compileMojoError = Collections.synchronizedMap(new HashMap<>());
+    private Set<String> concurrentlyCompiledModules;
+
+    /**
+     * The number of changes reported by the file watcher after which the watched
+     * directories are scanned for changes that it missed
+     */
+    private static final int RESCAN_CHANGES = 1000;
+
+    private static final String CONCURRENTLY_COMPILED_MODULES_KEY = DevMojo.class.getName() + ".concurrentlyCompiledModules";
+    private static final String[] DEFAULT_COMPILER_OPTIONS = new String[] { "-g", "-parameters" };
 
     /**
      * Set the container option.
@@ -345,12 +484,47 @@ public class DevMojo extends LooseAppSupport {
         Set<String> existingFeatures;
         Set<String> existingPlatforms;
         Map<String, File> libertyDirPropertyFiles = new HashMap<String, File>();
-        List<MavenProject> upstreamMavenProjects;
+        // compact descriptors instead of the models, which are large for big reactors
+        final Map<String, ProjectDescriptor> upstreamDescriptors = new LinkedHashMap<String, ProjectDescriptor>();
+        final ProjectDescriptor.Interner interner;
+        IncrementalJavaCompiler incrementalCompiler;
+        ClassDependencyIndex dependencyIndex;
+        Map<File, Set<String>> compiledArtifactPaths = new HashMap<File, Set<String>>();
+        boolean recompileDeps;
+        IncrementalResources incrementalResources;
+        ChangeCoalescer changeCoalescer;
+        final Map<File, File> pendingResources = new LinkedHashMap<File, File>();
+        final Set<File> pendingTestBuildFiles = new LinkedHashSet<File>();
+        boolean pendingTests;
+        boolean pendingTestsWaitForUpdate;
+        int pendingTestsMessageOccurrences;
+        boolean pendingTestsSkipUTs;
+        ThreadPoolExecutor pendingTestsExecutor;
+        TestImpactAnalyzer testImpactAnalyzer;
+        ModuleTestRunner moduleTestRunner;
+        final Map<File, WarmTestJvm> warmTestJvms = new HashMap<File, WarmTestJvm>();
+        final Map<String, String> renderedTestResults = new HashMap<String, String>();
+        final Map<File, Object> testResultsLocks = new HashMap<File, Object>();
+        ChangeCoalescer reportRenderer;
+        volatile boolean onDemandTestRun;
+        FileTreeScanner watchScanner;
+        final Set<Path> watchedRoots = ConcurrentHashMap.newKeySet();
+        FileTreeSnapshot watchSnapshot;
+        final Map<Path, ProjectModule> javaRoots = new HashMap<Path, ProjectModule>();
+        final Set<Path> resourceRoots = new HashSet<Path>();
+        final AtomicInteger reportedChanges = new AtomicInteger();
+        final Map<File, File> hotSwappedClasses = new LinkedHashMap<File, File>();
+        final PhaseTimings timings;
+        final AtomicBoolean applicationUpdateTimed = new AtomicBoolean();
+        final Map<String, Runnable> hotkeys = new ConcurrentHashMap<String, Runnable>();
+        final AtomicBoolean closed = new AtomicBoolean();
+        volatile boolean featureGeneration;
+        volatile int serverDebugPort = -1;
 
         public DevMojoUtil(File installDir, File userDir, File serverDirectory, File sourceDirectory,
                            File testSourceDirectory, File configDirectory, File projectDirectory, File multiModuleProjectDirectory,
                            List<File> resourceDirs, JavaCompilerOptions compilerOptions, String mavenCacheLocation,
-                           List<ProjectModule> upstreamProjects, List<MavenProject> upstreamMavenProjects, boolean recompileDeps,
+                           List<ProjectModule> upstreamProjects, List<ProjectDescriptor> upstreamDescriptors, ProjectDescriptor.Interner interner, boolean recompileDeps,
                            File pom, Map<String, List<String>> parentPoms, boolean generateFeatures, boolean skipInstallFeature,
                            Set<String> compileArtifactPaths, Set<String> testArtifactPaths, List<Path> webResourceDirs, File serverOutputDirectory) throws IOException, PluginExecutionException {
             super(new File(project.getBuild().getDirectory()), serverDirectory, sourceDirectory, testSourceDirectory,
@@ -369,7 +543,51 @@ public class DevMojo extends LooseAppSupport {
             	this.existingFeatures = fp.getFeatures();
             	this.existingPlatforms = fp.getPlatforms();
             }
-            this.upstreamMavenProjects = upstreamMavenProjects;
+            for (ProjectDescriptor descriptor : upstreamDescriptors) {
+                this.upstreamDescriptors.put(descriptor.getBuildFile().getCanonicalPath(), descriptor);
+            }
+            this.interner = interner;
+            this.featureGeneration = generateFeatures;
+            this.incrementalCompiler = new IncrementalJavaCompiler(getLog());
+            this.dependencyIndex = new ClassDependencyIndex(getLog());
+            this.recompileDeps = recompileDeps;
+            this.incrementalResources = new IncrementalResources();
+            if (selectAffectedTests) {
+                this.testImpactAnalyzer = new TestImpactAnalyzer(getLog());
+            }
+            if (testThreads > 1) {
+                this.moduleTestRunner = new ModuleTestRunner(testThreads, "liberty-dev-tests");
+            }
+            if (!Arrays.asList("always", "background", "onDemand", "never").contains(testReports)) {
+                getLog().warn("The testReports value " + testReports + " is not valid. Test reports will be rendered after every test run.");
+                testReports = "always";
+            }
+            if ("background".equals(testReports)) {
+                this.reportRenderer = new ChangeCoalescer(0, 0, getLog());
+            }
+            List<Path> buildDirectories = new ArrayList<Path>();
+            buildDirectories.add(Paths.get(project.getBuild().getDirectory()));
+            for (ProjectDescriptor upstreamProject : upstreamDescriptors) {
+                buildDirectories.add(upstreamProject.getBuildDirectory().toPath());
+            }
+            this.watchScanner = new FileTreeScanner(buildDirectories, !watchGitignored);
+            this.watchSnapshot = new FileTreeSnapshot(watchScanner);
+            // the trees whose missed changes are recovered, with the module that compiles the Java sources
+            javaRoots.put(sourceDirectory.toPath().toAbsolutePath().normalize(), null);
+            javaRoots.put(testSourceDirectory.toPath().toAbsolutePath().normalize(), null);
+            for (ProjectModule upstreamProject : upstreamProjects) {
+                javaRoots.put(upstreamProject.getSourceDirectory().toPath().toAbsolutePath().normalize(), upstreamProject);
+                javaRoots.put(upstreamProject.getTestSourceDirectory().toPath().toAbsolutePath().normalize(), upstreamProject);
+            }
+            for (File resourceDir : resourceDirs) {
+                resourceRoots.add(resourceDir.toPath().toAbsolutePath().normalize());
+            }
+            long quietMillis = (long) (compileWait * 1000);
+            this.changeCoalescer = new ChangeCoalescer(quietMillis, Math.max(2000, 4 * quietMillis), getLog());
+            this.timings = new PhaseTimings(1000, 50, phaseTimingsFile, getPluginVersion(), changeCoalescer::hasPending, getLog());
+            // record the resource configuration that the resources were processed with on startup
+            incrementalResources.isConfigurationChanged(project.getResources(), project.getBuild().getFilters(),
+                    ExecuteMojoUtil.getPluginGoalConfig(getPlugin("org.apache.maven.plugins", "maven-resources-plugin"), "resources", getLog()));
 
             setContainerEngine(this);
         }
@@ -440,6 +658,9 @@ public class DevMojo extends LooseAppSupport {
 
         @Override
         public boolean libertyGenerateFeatures(Collection<String> classes, boolean optimize) {
+            // also called once the hotkey turned the generation of features on
+            featureGeneration = true;
+            flushHotSwappedClasses();
             try {
                 if (classes != null) {
                     Element[] classesElem = new Element[classes.size()];
@@ -452,7 +673,9 @@ public class DevMojo extends LooseAppSupport {
                     runLibertyMojoGenerateFeatures(element(name("classFiles"), classesElem), optimize);
                 } else {
                     // pass null for classFiles so that features are generated for ALL of the
-                    // classes
+                    // classes, without the cached features that the previous scans accumulated
+                    new File(project.getBuild().getDirectory(), GenerateFeaturesMojo.SCAN_CACHE_FILE_NAME).delete();
+                    new File(project.getBuild().getDirectory(), GenerateFeaturesMojo.STATE_FILE_NAME).delete();
                     runLibertyMojoGenerateFeatures(null, optimize);
                 }
                 return true; // successfully generated features
@@ -504,6 +727,8 @@ public class DevMojo extends LooseAppSupport {
             } catch (Exception e) {
                 getLog().warn(MessageFormat.format(messages.getString("warn.server.stopped"), serverName));
             }
+            // the next server start loads the classes from the classes directory
+            flushHotSwappedClasses();
         }
 
         @Override
@@ -529,20 +754,6 @@ public class DevMojo extends LooseAppSupport {
             }
         }
 
-        private Properties getPropertiesWithKeyPrefix(Properties p, String prefix) {
-            Properties result = new Properties();
-            if (p != null) {
-                Enumeration<?> e = p.propertyNames();
-                while (e.hasMoreElements()) {
-                    String key = (String) e.nextElement();
-                    if (key.startsWith(prefix)) {
-                        result.put(key, p.get(key));
-                    }
-                }
-            }
-            return result;
-        }
-
         private List<Dependency> getEsaDependency(List<Dependency> dependencies) {
             List<Dependency> deps = new ArrayList<Dependency>();
             if (dependencies != null) {
@@ -555,157 +766,21 @@ public class DevMojo extends LooseAppSupport {
             return deps;
         }
 
-        // returns a list of dependencies used to build the project (scope compile or provided)
-        private List<Dependency> getCompileDependency(List<Dependency> dependencies) {
-            List<Dependency> deps = new ArrayList<Dependency>();
-            if (dependencies != null) {
-                for (Dependency d : dependencies) {
-                    if ("compile".equals(d.getScope()) || "provided".equals(d.getScope())) {
-                        deps.add(d);
-                    }
-                }
-            }
-            return deps;
-        }
-
-        // retun false if dependency lists are not equal, true if they are
-        private boolean dependencyListsEquals(List<Dependency> oldDeps, List<Dependency> deps) {
-            if (oldDeps.size() != deps.size()) {
-                return false;
-            }
-            for (int i = 0; i < oldDeps.size(); i++) {
-                if (!dependencyEquals(oldDeps.get(i), deps.get(i))) {
-                    return false;
-                }
-            }
-            return true;
-        }
-
         /**
-         * Determines if dependency are equal if their groupId, artifactId, version,
-         * type and scope are equal
-         * 
-         * @param dep1
-         * @param dep2
-         * @return return false if dependency objects are not equal, true if they are
+         * Returns the actions for the configuration elements of a Liberty goal that are
+         * not classified individually.
          */
-        private boolean dependencyEquals(Dependency dep1, Dependency dep2) {
-            if (!dep1.toString().equals(dep2.toString())) {
-                // compares groupId, artifactId, version, type
-                return false;
-            }
-            if (!dep1.getScope().equals(dep2.getScope())) {
-                return false;
-            }
-            return true;
-        }
-
-        private static final String LIBERTY_RUNTIME_PROP = "liberty.runtime.";
-        private static final String LIBERTY_BOOTSTRAP_PROP = "liberty.bootstrap.";
-        private static final String LIBERTY_JVM_PROP = "liberty.jvm.";
-        private static final String LIBERTY_ENV_PROP = "liberty.env.";
-        private static final String LIBERTY_VAR_PROP = "liberty.var.";
-        private static final String LIBERTY_DEFAULT_VAR_PROP = "liberty.defaultVar.";
-
-        private boolean hasInstallationPropChanged(MavenProject project, MavenProject backupProject) {
-            Properties projProp = project.getProperties();
-            Properties backupProjProp = backupProject.getProperties();
-
-            if (!Objects.equals(getPropertiesWithKeyPrefix(projProp, LIBERTY_RUNTIME_PROP),
-                    getPropertiesWithKeyPrefix(backupProjProp, LIBERTY_RUNTIME_PROP))) {
-                return true;
-            }
-
-            return false;
-        }
-
-        private boolean hasServerPropertyChanged(MavenProject project, MavenProject backupProject) {
-            Properties projProp = project.getProperties();
-            Properties backupProjProp = backupProject.getProperties();
-
-            if (!Objects.equals(getPropertiesWithKeyPrefix(projProp, LIBERTY_BOOTSTRAP_PROP),
-                    getPropertiesWithKeyPrefix(backupProjProp, LIBERTY_BOOTSTRAP_PROP))) {
-                return true;
-            }
-
-            if (!Objects.equals(getPropertiesWithKeyPrefix(projProp, LIBERTY_JVM_PROP),
-                    getPropertiesWithKeyPrefix(backupProjProp, LIBERTY_JVM_PROP))) {
-                return true;
-            }
-
-            if (!Objects.equals(getPropertiesWithKeyPrefix(projProp, LIBERTY_ENV_PROP),
-                    getPropertiesWithKeyPrefix(backupProjProp, LIBERTY_ENV_PROP))) {
-                return true;
-            }
-            return false;
-        }
-
-        private boolean hasServerVariableChanged(MavenProject project, MavenProject backupProject) {
-            Properties projProp = project.getProperties();
-            Properties backupProjProp = backupProject.getProperties();
-
-            if (!Objects.equals(getPropertiesWithKeyPrefix(projProp, LIBERTY_VAR_PROP),
-                    getPropertiesWithKeyPrefix(backupProjProp, LIBERTY_VAR_PROP))) {
-                return true;
-            }
-            if (!Objects.equals(getPropertiesWithKeyPrefix(projProp, LIBERTY_DEFAULT_VAR_PROP),
-                    getPropertiesWithKeyPrefix(backupProjProp, LIBERTY_DEFAULT_VAR_PROP))) {
-                return true;
-            }
-            return false;
-        }
-
-        private boolean restartForLibertyMojoConfigChanged(Xpp3Dom config, Xpp3Dom oldConfig) {
-            if (!Objects.equals(config.getChild("bootstrapProperties"), oldConfig.getChild("bootstrapProperties"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("bootstrapPropertiesFile"),
-                    oldConfig.getChild("bootstrapPropertiesFile"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("jvmOptions"), oldConfig.getChild("jvmOptions"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("jvmOptionsFile"), oldConfig.getChild("jvmOptionsFile"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("serverEnv"), oldConfig.getChild("serverEnv"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("serverEnvFile"), oldConfig.getChild("serverEnvFile"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("configDirectory"), oldConfig.getChild("configDirectory"))) {
-                return true;
-            }
-            return false;
-        }
-
-        private boolean hasInstallationConfigChanged(Xpp3Dom config, Xpp3Dom oldConfig) {
-            if (!Objects.equals(config.getChild("installDirectory"), oldConfig.getChild("installDirectory"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("runtimeArchive"), oldConfig.getChild("runtimeArchive"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("runtimeArtifact"), oldConfig.getChild("runtimeArtifact"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("assemblyArchive"), oldConfig.getChild("assemblyArchive"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("assemblyArtifact"), oldConfig.getChild("assemblyArtifact"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("libertyRuntimeGroupId"), oldConfig.getChild("libertyRuntimeGroupId"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("libertyRuntimeArtifactId"), oldConfig.getChild("libertyRuntimeArtifactId"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("libertyRuntimeVersion"), oldConfig.getChild("libertyRuntimeVersion"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("serverName"), oldConfig.getChild("serverName"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("userDirectory"), oldConfig.getChild("userDirectory"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("outputDirectory"), oldConfig.getChild("outputDirectory"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("runtimeInstallDirectory"), oldConfig.getChild("runtimeInstallDirectory"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("assemblyInstallDirectory"), oldConfig.getChild("assemblyInstallDirectory"))) {
-                return true;
-            } else if (!Objects.equals(config.getChild("install"), oldConfig.getChild("install"))) {
-                return true;
+        private Set<Action> getGoalActions(String goal) {
+            switch (goal) {
+            case "create":
+                return EnumSet.of(Action.CREATE);
+            case "install-feature":
+                return EnumSet.of(Action.INSTALL_FEATURE);
+            case "deploy":
+                return EnumSet.of(Action.REDEPLOY);
+            default:
+                return EnumSet.of(Action.GENERATE_FEATURES);
             }
-            return false;
         }
 
         @Override
@@ -716,19 +791,18 @@ public class DevMojo extends LooseAppSupport {
                 if (buildFile == null) {
                     buildFile = this.buildFile;
                 }
+                // the full model is only built again now that the pom.xml has changed
                 MavenProject upstreamProject = getMavenProject(buildFile);
-                MavenProject backupUpstreamProject = upstreamProject;
-                for (MavenProject p : upstreamMavenProjects) {
-                    if (buildFile != null && p.getFile().getCanonicalPath().equals(buildFile.getCanonicalPath())) {
-                        backupUpstreamProject = p;
-                    }
+                JavaCompilerOptions compilerOptions = getMavenCompilerOptions(upstreamProject);
+                ProjectDescriptor upstreamDescriptor = ProjectDescriptor.of(upstreamProject, compilerOptions.getOptions(), interner);
+                String buildPath = buildFile.getCanonicalPath();
+                ProjectDescriptor backupUpstreamDescriptor = upstreamDescriptors.get(buildPath);
+                if (backupUpstreamDescriptor == null) {
+                    backupUpstreamDescriptor = upstreamDescriptor;
                 }
 
-
                 // TODO rebuild the corresponding module if the compiler options have changed
-                JavaCompilerOptions oldCompilerOptions = getMavenCompilerOptions(backupUpstreamProject);
-                JavaCompilerOptions compilerOptions = getMavenCompilerOptions(upstreamProject);
-                if (!oldCompilerOptions.getOptions().equals(compilerOptions.getOptions())) {
+                if (!backupUpstreamDescriptor.getCompilerOptions().equals(upstreamDescriptor.getCompilerOptions())) {
                     getLog().debug("Maven compiler options have been modified: " + compilerOptions.getOptions());
                     util.getProjectModule(buildFile).setCompilerOptions(compilerOptions);
                 }
@@ -744,11 +818,11 @@ public class DevMojo extends LooseAppSupport {
                     // dependency was deleted)
                     // do not clear list as it may contain dependencies from parent projects
                     // update classpath for dependencies changes
-                    testArtifactPaths.removeAll(backupUpstreamProject.getTestClasspathElements());
-                    compileArtifactPaths.removeAll(backupUpstreamProject.getCompileClasspathElements());
+                    testArtifactPaths.removeAll(backupUpstreamDescriptor.getTestClasspathElements());
+                    compileArtifactPaths.removeAll(backupUpstreamDescriptor.getCompileClasspathElements());
                 }
-                testArtifactPaths.addAll(upstreamProject.getTestClasspathElements());
-                compileArtifactPaths.addAll(upstreamProject.getCompileClasspathElements());
+                testArtifactPaths.addAll(upstreamDescriptor.getTestClasspathElements());
+                compileArtifactPaths.addAll(upstreamDescriptor.getCompileClasspathElements());
 
                 // check if project module is a parent project and update child modules' artifacts
                 if (!this.parentBuildFiles.isEmpty()
@@ -758,15 +832,13 @@ public class DevMojo extends LooseAppSupport {
 
                 // check if compile dependencies have changed, regenerate features and redeploy if they have
                 if (redeployCheck) {
-                    // update upstream Maven projects list
-                    int index = upstreamMavenProjects.indexOf(backupUpstreamProject);
-                    upstreamMavenProjects.set(index, upstreamProject);
-
-                    List<Dependency> deps = upstreamProject.getDependencies();
-                    List<Dependency> oldDeps = backupUpstreamProject.getDependencies();
+                    // update upstream project descriptors
+                    if (upstreamDescriptors.containsKey(buildPath)) {
+                        upstreamDescriptors.put(buildPath, upstreamDescriptor);
+                    }
 
                     // detect compile dependency changes
-                    if (!dependencyListsEquals(getCompileDependency(deps), getCompileDependency(oldDeps))) {
+                    if (!backupUpstreamDescriptor.getCompileDependencies().equals(upstreamDescriptor.getCompileDependencies())) {
                         // optimize generate features
                         if (generateFeatures) {
                             getLog().debug("Detected a change in the compile dependencies for "
@@ -852,9 +924,8 @@ public class DevMojo extends LooseAppSupport {
         }
         
         private MavenProject getMavenProject(File buildFile) throws ProjectBuildingException {
-            ProjectBuildingResult build = mavenProjectBuilder.build(buildFile,
+            MavenProject builtProject = MavenProjectCache.getInstance(session).getProject(buildFile, mavenProjectBuilder,
                     session.getProjectBuildingRequest().setResolveDependencies(true));
-            MavenProject builtProject = build.getProject();
             updateUpstreamProjectsArtifactPathToOutputDirectory(builtProject);
             return builtProject;
         }
@@ -869,10 +940,10 @@ public class DevMojo extends LooseAppSupport {
          */
         private void updateUpstreamProjectsArtifactPathToOutputDirectory(MavenProject startingProject){
             Map<String,Artifact> artifactMap = startingProject.getArtifactMap();
-            for (MavenProject p : upstreamMavenProjects) {
+            for (ProjectDescriptor p : upstreamDescriptors.values()) {
                 Artifact projArtifact = artifactMap.get(p.getGroupId() + ":" + p.getArtifactId());
                 if (projArtifact != null) {
-                	updateArtifactPathToOutputDirectory(p, projArtifact);
+                	updateArtifactPathToOutputDirectory(p.getBuildDirectory(), p.getOutputDirectory(), projArtifact);
                 }
             }
         }
@@ -897,11 +968,13 @@ public class DevMojo extends LooseAppSupport {
                         
                         redeployApp();
                     } else {
-                        try {
-                            runExplodedMojo();
-                        } catch (MojoExecutionException e) {
-                            getLog().error("Failed to run war:exploded goal", e);
-                        }
+                        changeCoalescer.submit("explodedWebApp", 1, () -> {
+                            try {
+                                syncExplodedWebApp();
+                            } catch (MojoExecutionException e) {
+                                getLog().error("Failed to run war:exploded goal", e);
+                            }
+                        });
                     }
                 } else {
                     if (isExplodedLooseWarApp) {
@@ -915,8 +988,105 @@ public class DevMojo extends LooseAppSupport {
             }
         }
 
+        /**
+         * Registers a directory tree for watching. DevUtil registers the directories created
+         * while watching through this method as well, so those that are ignored, such as
+         * build output and the directories ignored by .gitignore files, are skipped.
+         */
+        @Override
+        protected void registerAll(Path dir, ThreadPoolExecutor executor, boolean removeOnContainerRebuild) throws IOException {
+            if (removeOnContainerRebuild || !Files.isDirectory(dir)) {
+                super.registerAll(dir, executor, removeOnContainerRebuild);
+                return;
+            }
+            Path directory = dir.toAbsolutePath().normalize();
+            Path root = null;
+            for (Path watchedRoot : watchedRoots) {
+                if (directory.startsWith(watchedRoot) && !directory.equals(watchedRoot)) {
+                    root = watchedRoot;
+                    break;
+                }
+            }
+            if (root == null) {
+                watchedRoots.add(directory);
+                super.registerAll(dir, executor, false);
+                if (javaRoots.containsKey(directory) || resourceRoots.contains(directory)) {
+                    if (!watchSnapshot.addRoot(directory, javaRoots.containsKey(directory) ? "java" : null)) {
+                        // registered again after it was deleted and created
+                        scheduleRescan();
+                    }
+                }
+                return;
+            }
+            if (watchScanner.isIgnored(root, directory)) {
+                debug("Not watching the ignored directory " + dir);
+                return;
+            }
+            super.registerAll(dir, executor, false);
+            if (watchSnapshot.getRoot(directory) != null) {
+                // the files created in the directory before it was watched were not reported
+                scheduleRescan();
+            }
+        }
+
+        /**
+         * Notes the changes reported by the file watcher. After a burst of changes, the
+         * watched trees are scanned for changes whose events may have overflowed the queue
+         * of the watch service, which DevUtil drops.
+         */
+        private void changesReported(Collection<File> files) {
+            for (File file : files) {
+                watchSnapshot.update(file.toPath());
+            }
+            if (reportedChanges.addAndGet(files.size()) >= RESCAN_CHANGES) {
+                scheduleRescan();
+            }
+        }
+
+        private void scheduleRescan() {
+            reportedChanges.set(0);
+            changeCoalescer.submit("rescan", -1, this::recoverMissedChanges);
+        }
+
+        /**
+         * Scans the watched Java source and resource directories again and processes the
+         * changes that the file watcher did not report.
+         */
+        private void recoverMissedChanges() {
+            Map<Path, List<Path>> changes;
+            try {
+                changes = watchSnapshot.rescan();
+            } catch (IOException e) {
+                debug("Unable to scan the watched directories for missed changes", e);
+                return;
+            }
+            File outputDirectory = new File(project.getBuild().getOutputDirectory());
+            for (Map.Entry<Path, List<Path>> entry : changes.entrySet()) {
+                Path root = entry.getKey();
+                debug("Found " + entry.getValue().size() + " changes in " + root + " that were not reported by the file watcher");
+                try {
+                    if (resourceRoots.contains(root)) {
+                        for (Path file : entry.getValue()) {
+                            if (Files.isRegularFile(file)) {
+                                resourceModifiedOrCreated(file.toFile(), root.toFile(), outputDirectory);
+                            } else {
+                                resourceDeleted(file.toFile(), root.toFile(), outputDirectory);
+                            }
+                        }
+                    } else if (javaRoots.get(root) != null) {
+                        triggerUpstreamModuleCompile(javaRoots.get(root), false);
+                    } else {
+                        triggerMainModuleCompile(false);
+                    }
+                } catch (IOException e) {
+                    getLog().error("Unable to process the changes in " + root, e);
+                }
+            }
+        }
+
         @Override
         protected void resourceDirectoryCreated() throws IOException {
+            invalidateTestSelection();
             if (project.getPackaging().equals("war") && LooseWarApplication.isExploded(project)) {
                 try {
                     runMojo("org.apache.maven.plugins", "maven-resources-plugin", "resources");
@@ -933,149 +1103,333 @@ public class DevMojo extends LooseAppSupport {
              * There is an asymmetry here that we take advantage of in the exploded case. For multi-mod, this would be a copyFile, which
              * does not apply Maven filters.
              */
-            try {
-                runMojo("org.apache.maven.plugins", "maven-resources-plugin", "resources");
-            } catch (MojoExecutionException e) {
+            changesReported(Collections.singletonList(fileChanged));
+            invalidateTestSelection();
+            synchronized (pendingResources) {
+                pendingResources.put(fileChanged, resourceParent);
+            }
+            changeCoalescer.submit("resources", 0, this::processPendingResources);
+        }
+
+        /**
+         * Runs the resources goal once for all of the resource files changed in a batch.
+         */
+        private void processPendingResources() {
+            Map<File, File> files;
+            synchronized (pendingResources) {
+                files = new LinkedHashMap<File, File>(pendingResources);
+                pendingResources.clear();
+            }
+            if (files.isEmpty()) {
+                return;
+            }
+            long messagesLogLength = getMessagesLogLength();
+            try (PhaseTimings.Timer timer = timings.start("resources")) {
+                Plugin resourcesPlugin = getPlugin("org.apache.maven.plugins", "maven-resources-plugin");
+                Xpp3Dom config = ExecuteMojoUtil.getPluginGoalConfig(resourcesPlugin, "resources", getLog());
+                if (incrementalResources.isConfigurationChanged(project.getResources(), project.getBuild().getFilters(), config)) {
+                    getLog().debug("The resource configuration changed, processing all resources");
+                    runMojo("org.apache.maven.plugins", "maven-resources-plugin", "resources");
+                    return;
+                }
+                // only copy and filter the changed files, unless one is not part of the resources of this project
+                Xpp3Dom filesConfig = incrementalResources.getFilesConfiguration(config, project.getResources(), files,
+                        new File(project.getBuild().getOutputDirectory()));
+                if (filesConfig == null) {
+                    runMojo("org.apache.maven.plugins", "maven-resources-plugin", "resources");
+                    return;
+                }
+                getLog().info("Running maven-resources-plugin:copy-resources on " + files.size() + " changed file(s)");
+                getLog().debug("configuration:\n" + filesConfig);
+                executeMojo(resourcesPlugin, goal("copy-resources"), filesConfig, executionEnvironment(project, session, pluginManager));
+            } catch (MojoExecutionException | IOException e) {
                 getLog().error("Failed to run goal(s)", e);
+            } finally {
+                timeApplicationUpdate(messagesLogLength);
             }
         }
 
-        @Override
-        protected void resourceDeleted(File fileChanged, File resourceParent, File outputDirectory) throws IOException {
+        /**
+         * Starts timing the phases run after changes, and handles the hotkey that shows
+         * the percentiles of their times.
+         */
+        void enablePhaseTimings() {
+            timings.enable();
+            hotkeys.put("l", () -> {
+                String table = timings.getPercentileTable();
+                info(table != null ? table : "No changes have been timed yet.");
+            });
+            info("To see the percentiles of the dev mode phase times, type 'l' and press Enter.");
+        }
 
-            /**
-             * Why is this so asymmetric compared to resourceModifiedOrCreated() above? For two reasons: 1. The resources:resources plugin
-             * goal doesn't update the target/output directory with deletions, so we have to use our own custom deleteFile() method 2. In
-             * the case of the exploded loose app format, even having deleted the file from the outputDirectory ('target/classes'), the
-             * resource would typically also have been collected into the exploded 'webapp' directory. Even though it would take precedence
-             * in 'target/classes' when it ends up in both locations, it will still be present in the 'webapp' directory. So we re-run the
-             * exploded goal to force an "outdated" update cleaning this file from this location. Another approach might have been to do a
-             * delteFile() in the 'webapp' directory.
-             */
+        /**
+         * Handles the hotkeys of the plugin before the dev mode hotkey reader reads the
+         * console input.
+         */
+        void installHotkeys() {
+            System.setIn(new HotkeyInputStream(System.in, hotkeys));
+        }
 
-            deleteFile(fileChanged, resourceParent, outputDirectory, null);
-            if (project.getPackaging().equals("war") && LooseWarApplication.isExploded(project)) {
-                try {
-                    runExplodedMojo();
-                } catch (MojoExecutionException e) {
-                    getLog().error("Failed to run goal(s)", e);
-                }
-            } 
+        @Override
+        protected void setFeatureGeneration(boolean generateFeatures) {
+            featureGeneration = generateFeatures;
+            super.setFeatureGeneration(generateFeatures);
         }
 
         @Override
-        public boolean recompileBuildFile(File buildFile, Set<String> compileArtifactPaths,
-                Set<String> testArtifactPaths, boolean generateFeatures, ThreadPoolExecutor executor) throws PluginExecutionException {
-            // monitoring project pom.xml file changes in dev mode:
-            // - liberty.* properties in project properties section
-            // - changes in liberty plugin configuration in the build plugin section
-            // - project dependencies changes
-            boolean reinstallLiberty = false; // if this gets set to true, need to throw PluginExecutionException so user can run 'clean'
-            boolean restartServer = false;
-            boolean createServer = false;
-            boolean installFeature = false;
-            boolean redeployApp = false;
-            boolean runBoostPackage = false;
-            boolean optimizeGenerateFeatures = false;
+        public void addShutdownHook(ThreadPoolExecutor executor) {
+            super.addShutdownHook(executor);
+            Runtime.getRuntime().addShutdownHook(new Thread(this::close, "liberty-dev-shutdown"));
+        }
 
-            ProjectBuildingResult build;
-            try {
-                build = mavenProjectBuilder.build(buildFile,
-                        session.getProjectBuildingRequest().setResolveDependencies(true));
-            } catch (ProjectBuildingException e) {
-                getLog().error("Could not parse pom.xml. " + e.getMessage());
-                getLog().debug(e);
-                return false;
+        /**
+         * Releases the resources kept for the dev mode session once dev mode stops.
+         */
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            incrementalCompiler.close();
+            changeCoalescer.close();
+            if (moduleTestRunner != null) {
+                moduleTestRunner.close();
             }
+            synchronized (warmTestJvms) {
+                for (WarmTestJvm testJvm : warmTestJvms.values()) {
+                    testJvm.close();
+                }
+                warmTestJvms.clear();
+            }
+            if (reportRenderer != null) {
+                reportRenderer.close();
+            }
+        }
 
-            // set the updated project in current session;
-            Plugin backupLibertyPlugin = getLibertyPlugin();
-            Plugin backupWarPlugin = getPluginForProject("org.apache.maven.plugins", "maven-war-plugin", project);
-            MavenProject backupProject = project;
-            project = build.getProject();
-            session.setCurrentProject(project);
-            Plugin libertyPlugin = getLibertyPlugin();
-            Plugin warPlugin = getPluginForProject("org.apache.maven.plugins", "maven-war-plugin", project);
+        /**
+         * @return the length of the messages log before a change is applied, or -1 if
+         *         phases are not timed
+         */
+        private long getMessagesLogLength() {
+            File messagesLog = timings.isEnabled() ? getMessagesLog() : null;
+            return messagesLog != null ? messagesLog.length() : -1;
+        }
 
+        private File getMessagesLog() {
+            if (container) {
+                return new File(serverDirectory, "logs/messages.log");
+            }
             try {
-                // TODO rebuild the corresponding module if the compiler options have changed
-                JavaCompilerOptions oldCompilerOptions = getMavenCompilerOptions(backupProject);
-                JavaCompilerOptions compilerOptions = getMavenCompilerOptions(project);
-                if (!oldCompilerOptions.getOptions().equals(compilerOptions.getOptions())) {
-                    getLog().debug("Maven compiler options have been modified: " + compilerOptions.getOptions());
-                    util.updateJavaCompilerOptions(compilerOptions);
-                }
-
-                // Monitoring liberty properties in the pom.xml
-                if (hasInstallationPropChanged(project, backupProject)) {
-                    // Note that a change in installation config values requires a restart of dev mode. 
-                    reinstallLiberty = true;
-                    getLog().error("A change in Liberty runtime installation configuration requires a restart of dev mode. Stopping dev mode.");
-                }
-                if (hasServerPropertyChanged(project, backupProject)) {
-                    restartServer = true;
-                }
-                if (!restartServer && hasServerVariableChanged(project, backupProject)) {
-                    createServer = true;
+                return getServerTask().getLogFile();
+            } catch (Exception e) {
+                debug("Unable to determine the messages log file", e);
+                return null;
+            }
+        }
+
+        /**
+         * Times the wait for the application to be updated after a change, in the background,
+         * by watching the messages log for the application updated message.
+         *
+         * @param messagesLogLength the length of the messages log before the change
+         */
+        private void timeApplicationUpdate(final long messagesLogLength) {
+            if (messagesLogLength < 0 || !applicationUpdateTimed.compareAndSet(false, true)) {
+                return;
+            }
+            Thread thread = new Thread(() -> {
+                PhaseTimings.Timer timer = timings.start("app update");
+                try {
+                    if (awaitMessage(getMessagesLog(), messagesLogLength, "CWWKZ0003I:", TimeUnit.SECONDS.toMillis(verifyTimeout))) {
+                        timer.close();
+                    }
+                } finally {
+                    timer.cancel();
+                    applicationUpdateTimed.set(false);
                 }
+            }, "liberty-dev-app-update");
+            thread.setDaemon(true);
+            thread.start();
+        }
 
-                // monitoring Liberty plugin configuration changes in dev mode
-                Xpp3Dom config;
-                Xpp3Dom oldConfig;
-                if (!restartServer) {
-                    config = ExecuteMojoUtil.getPluginGoalConfig(libertyPlugin, "create", getLog());
-                    oldConfig = ExecuteMojoUtil.getPluginGoalConfig(backupLibertyPlugin, "create", getLog());
-                    if (!Objects.equals(config, oldConfig)) {
-                        createServer = true;
-                        if (restartForLibertyMojoConfigChanged(config, oldConfig)) {
-                            restartServer = true;
-                        }
-                        if (hasInstallationConfigChanged(config, oldConfig)) {
-                            // Note that a change in installation config values requires a restart of dev mode. 
-                            reinstallLiberty = true;
-                            getLog().error("A change in Liberty runtime installation configuration requires a restart of dev mode. Stopping dev mode.");
+        private boolean awaitMessage(File messagesLog, long offset, String message, long timeoutMillis) {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            try {
+                while (messagesLog != null && System.currentTimeMillis() < deadline) {
+                    if (messagesLog.length() < offset) {
+                        // the log was rolled over
+                        offset = 0;
+                    }
+                    if (messagesLog.length() > offset) {
+                        try (RandomAccessFile in = new RandomAccessFile(messagesLog, "r")) {
+                            byte[] content = new byte[(int) (in.length() - offset)];
+                            in.seek(offset);
+                            in.readFully(content);
+                            if (new String(content, StandardCharsets.UTF_8).contains(message)) {
+                                return true;
+                            }
                         }
                     }
+                    Thread.sleep(100);
                 }
-                config = ExecuteMojoUtil.getPluginGoalConfig(libertyPlugin, "install-feature", getLog());
-                oldConfig = ExecuteMojoUtil.getPluginGoalConfig(backupLibertyPlugin, "install-feature", getLog());
-                if (!Objects.equals(config, oldConfig)) {
-                    installFeature = true;
-                }
-                config = ExecuteMojoUtil.getPluginGoalConfig(libertyPlugin, "deploy", getLog());
-                oldConfig = ExecuteMojoUtil.getPluginGoalConfig(backupLibertyPlugin, "deploy", getLog());
-                if (!Objects.equals(config, oldConfig)) {
-                    redeployApp = true;
-                }
-                config = ExecuteMojoUtil.getPluginGoalConfig(warPlugin, "exploded", getLog());
-                oldConfig = ExecuteMojoUtil.getPluginGoalConfig(backupWarPlugin, "exploded", getLog());
-                if (!Objects.equals(config, oldConfig) || !warPlugin.getVersion().equals(backupWarPlugin.getVersion())) {
-                    redeployApp = true;
-                }
-                config = ExecuteMojoUtil.getPluginGoalConfig(libertyPlugin, "generate-features", getLog());
-                oldConfig = ExecuteMojoUtil.getPluginGoalConfig(backupLibertyPlugin, "generate-features", getLog());
-                if (!Objects.equals(config, oldConfig)) {
-                    optimizeGenerateFeatures = true;
-                }
-
-                List<Dependency> deps = project.getDependencies();
-                List<Dependency> oldDeps = backupProject.getDependencies();
-                if (!dependencyListsEquals(oldDeps, deps)) {
-                    runBoostPackage = true;
-                    // detect esa dependency changes
-                    if (!dependencyListsEquals(getEsaDependency(deps), getEsaDependency(oldDeps))) {
-                        installFeature = true;
-                    }
+            } catch (IOException e) {
+                debug("Unable to read " + messagesLog, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
 
-                    // detect compile dependency changes
-                    if (!dependencyListsEquals(getCompileDependency(deps), getCompileDependency(oldDeps))) {
-                        // adding or removing compile dependencies (including version changes) will need
-                        // to deploy loose app again to remove or add or update embedded libraries in
-                        // the loose app
-                        redeployApp = true;
-                        optimizeGenerateFeatures = true;
+        @Override
+        protected void resourceDeleted(File fileChanged, File resourceParent, File outputDirectory) throws IOException {
+            try (PhaseTimings.Timer timer = timings.start("resources")) {
+
+                /**
+                 * Why is this so asymmetric compared to resourceModifiedOrCreated() above? For two reasons: 1. The resources:resources plugin
+                 * goal doesn't update the target/output directory with deletions, so we have to use our own custom deleteFile() method 2. In
+                 * the case of the exploded loose app format, even having deleted the file from the outputDirectory ('target/classes'), the
+                 * resource would typically also have been collected into the exploded 'webapp' directory. Even though it would take precedence
+                 * in 'target/classes' when it ends up in both locations, it will still be present in the 'webapp' directory. So we re-run the
+                 * exploded goal to force an "outdated" update cleaning this file from this location. Another approach might have been to do a
+                 * delteFile() in the 'webapp' directory.
+                 */
+
+                changesReported(Collections.singletonList(fileChanged));
+                invalidateTestSelection();
+                synchronized (pendingResources) {
+                    pendingResources.remove(fileChanged);
+                }
+                deleteFile(fileChanged, resourceParent, outputDirectory, null);
+                if (project.getPackaging().equals("war") && LooseWarApplication.isExploded(project)) {
+                    if (!LooseWarApplication.isUsingOverlays(project)) {
+                        // without overlays, the resource was only collected from 'target/classes'
+                        File webAppClasses = new File(getExplodedWarSynchronizer().getWebAppDirectory().toFile(), "WEB-INF/classes");
+                        deleteFile(fileChanged, resourceParent, webAppClasses, null);
+                        return;
                     }
+                    try {
+                        runExplodedMojo();
+                    } catch (MojoExecutionException e) {
+                        getLog().error("Failed to run goal(s)", e);
+                    }
+                } 
+            }
+        }
+
+        /**
+         * Propagates the changes of the web source directories to the webapp directory of
+         * the exploded loose WAR application, running the war:exploded goal only when the
+         * changes cannot be applied one file at a time.
+         */
+        private void syncExplodedWebApp() throws MojoExecutionException {
+            ExplodedWarSynchronizer synchronizer = getExplodedWarSynchronizer();
+            List<Resource> filteredResources;
+            try {
+                filteredResources = synchronizer.sync();
+            } catch (IOException e) {
+                getLog().debug("Could not update the webapp directory incrementally", e);
+                filteredResources = null;
+            }
+            if (filteredResources == null) {
+                runExplodedMojo();
+                return;
+            }
+            if (!filteredResources.isEmpty()) {
+                Plugin resourcesPlugin = getPlugin("org.apache.maven.plugins", "maven-resources-plugin");
+                Xpp3Dom config = synchronizer.getFilteredCopyConfiguration(filteredResources);
+                getLog().info("Running maven-resources-plugin:copy-resources on " + filteredResources.size() + " web resource(s)");
+                getLog().debug("configuration:\n" + config);
+                try {
+                    executeMojo(resourcesPlugin, goal("copy-resources"), config, executionEnvironment(project, session, pluginManager));
+                } catch (MojoExecutionException e) {
+                    getLog().debug("Could not filter the changed web resources, running war:exploded", e);
+                    runExplodedMojo();
                 }
+            }
+        }
+
+        @Override
+        public boolean recompileBuildFile(File buildFile, Set<String> compileArtifactPaths,
+                Set<String> testArtifactPaths, boolean generateFeatures, ThreadPoolExecutor executor) throws PluginExecutionException {
+            // the project is rebuilt, so no batch of changes may run against it at the same time
+            synchronized (changeCoalescer.getWorkLock()) {
+                try (PhaseTimings.Timer timer = timings.start("build file")) {
+                    return applyBuildFileChanges(buildFile, compileArtifactPaths, testArtifactPaths, generateFeatures, executor);
+                }
+            }
+        }
+
+        private boolean applyBuildFileChanges(File buildFile, Set<String> compileArtifactPaths,
+                Set<String> testArtifactPaths, boolean generateFeatures, ThreadPoolExecutor executor) throws PluginExecutionException {
+            // monitoring project pom.xml file changes in dev mode:
+            // - liberty.* properties in project properties section
+            // - changes in liberty plugin configuration in the build plugin section
+            // - project dependencies changes
+            invalidateTestSelection();
+            boolean reinstallLiberty = false; // if this gets set to true, need to throw PluginExecutionException so user can run 'clean'
+            boolean restartServer = false;
+            boolean createServer = false;
+            boolean installFeature = false;
+            boolean redeployApp = false;
+            boolean runBoostPackage = false;
+            boolean optimizeGenerateFeatures = false;
+
+            MavenProject builtProject;
+            try {
+                builtProject = MavenProjectCache.getInstance(session).getProject(buildFile, mavenProjectBuilder,
+                        session.getProjectBuildingRequest().setResolveDependencies(true));
+            } catch (ProjectBuildingException e) {
+                getLog().error("Could not parse pom.xml. " + e.getMessage());
+                getLog().debug(e);
+                return false;
+            }
+
+            // set the updated project in current session;
+            Plugin backupLibertyPlugin = getLibertyPlugin();
+            Plugin backupWarPlugin = getPluginForProject("org.apache.maven.plugins", "maven-war-plugin", project);
+            MavenProject backupProject = project;
+            project = builtProject;
+            session.setCurrentProject(project);
+            Plugin libertyPlugin = getLibertyPlugin();
+            Plugin warPlugin = getPluginForProject("org.apache.maven.plugins", "maven-war-plugin", project);
+
+            try {
+                // TODO rebuild the corresponding module if the compiler options have changed
+                JavaCompilerOptions oldCompilerOptions = getMavenCompilerOptions(backupProject);
+                JavaCompilerOptions compilerOptions = getMavenCompilerOptions(project);
+                if (!oldCompilerOptions.getOptions().equals(compilerOptions.getOptions())) {
+                    getLog().debug("Maven compiler options have been modified: " + compilerOptions.getOptions());
+                    util.updateJavaCompilerOptions(compilerOptions);
+                }
+
+                // classify each monitored element of the pom.xml that changed to the cheapest
+                // action that applies it
+                PomChangeClassifier changes = new PomChangeClassifier();
+                changes.compareProperties(backupProject.getProperties(), project.getProperties());
+                for (String goal : Arrays.asList("create", "install-feature", "deploy", "generate-features")) {
+                    changes.compareConfiguration("liberty-maven-plugin:" + goal,
+                            ExecuteMojoUtil.getPluginGoalConfig(backupLibertyPlugin, goal, getLog()),
+                            ExecuteMojoUtil.getPluginGoalConfig(libertyPlugin, goal, getLog()), getGoalActions(goal));
+                }
+                changes.compareConfiguration("maven-war-plugin:exploded", ExecuteMojoUtil.getPluginGoalConfig(backupWarPlugin, "exploded", getLog()),
+                        ExecuteMojoUtil.getPluginGoalConfig(warPlugin, "exploded", getLog()), EnumSet.of(Action.REDEPLOY));
+                changes.compareVersion("maven-war-plugin", backupWarPlugin.getVersion(), warPlugin.getVersion(), EnumSet.of(Action.REDEPLOY));
+                changes.compareDependencies(backupProject.getDependencies(), project.getDependencies());
+                for (String explanation : changes.getExplanations()) {
+                    getLog().debug("pom.xml change: " + explanation);
+                }
+
+                if (changes.requires(Action.REINSTALL)) {
+                    // Note that a change in installation config values requires a restart of dev mode. 
+                    reinstallLiberty = true;
+                    getLog().error("A change in Liberty runtime installation configuration requires a restart of dev mode. Stopping dev mode.");
+                }
+                restartServer = changes.requires(Action.RESTART);
+                createServer = changes.requires(Action.CREATE);
+                installFeature = changes.requires(Action.INSTALL_FEATURE);
+                redeployApp = changes.requires(Action.REDEPLOY);
+                optimizeGenerateFeatures = changes.requires(Action.GENERATE_FEATURES);
+                runBoostPackage = changes.isDependenciesChanged();
+
                 // update classpath for dependencies changes
                 if (this.parentBuildFiles.isEmpty()) {
                     compileArtifactPaths.clear();
@@ -1093,7 +1447,7 @@ public class DevMojo extends LooseAppSupport {
 
                 boolean generateFeaturesSuccess = false;
                 if (optimizeGenerateFeatures && generateFeatures) {
-                    getLog().debug("Detected a change in the compile dependencies, regenerating features");
+                    getLog().debug("Detected a change that affects the generated features, regenerating features");
                     // always optimize generate features on dependency change
                     generateFeaturesSuccess = libertyGenerateFeatures(null, true);
                     if (generateFeaturesSuccess) {
@@ -1281,46 +1635,800 @@ public class DevMojo extends LooseAppSupport {
             }
         }
 
+        /**
+         * Compiles the changed Java files with the session's warm compiler. Falls back
+         * to the maven-compiler-plugin for the whole module when the Maven compiler
+         * options have changed since the module was last compiled.
+         */
         @Override
-        public void runUnitTests(File buildFile) throws PluginExecutionException, PluginScenarioException {
-            MavenProject currentProject = resolveMavenProject(buildFile);
+        protected boolean recompileJava(Collection<File> javaFilesChanged, Set<String> artifactPaths, ThreadPoolExecutor executor,
+                boolean tests, File outputDirectory, File testOutputDirectory, String projectName, File projectBuildFile,
+                JavaCompilerOptions projectCompilerOptions, boolean forceSkipUTs, boolean skipRunningTests) throws PluginExecutionException {
+            changesReported(javaFilesChanged);
+            if (!tests && isFeatureGenerationEnabled()) {
+                // the tests run once the features are generated, which dev mode tracks itself
+                return recompileJavaWithDevUtil(javaFilesChanged, artifactPaths, executor, tests, outputDirectory, testOutputDirectory,
+                        projectName, projectBuildFile, projectCompilerOptions, forceSkipUTs, skipRunningTests);
+            }
+            if (timings.isEnabled()) {
+                long lastModified = 0;
+                for (File javaFile : javaFilesChanged) {
+                    lastModified = Math.max(lastModified, javaFile.lastModified());
+                }
+                // from saving the files until they are compiled
+                timings.recordSince("watch", lastModified);
+            }
+            // do not compile while a batch of other file changes is processed
+            synchronized (changeCoalescer.getWorkLock()) {
+                try (PhaseTimings.Timer timer = timings.start(tests ? "test compile" : "compile")) {
+                    return recompileJavaSources(javaFilesChanged, artifactPaths, executor, tests, outputDirectory, testOutputDirectory,
+                            projectName, projectBuildFile, projectCompilerOptions, forceSkipUTs, skipRunningTests);
+                }
+            }
+        }
+
+        private boolean recompileJavaWithDevUtil(Collection<File> javaFilesChanged, Set<String> artifactPaths, ThreadPoolExecutor executor,
+                boolean tests, File outputDirectory, File testOutputDirectory, String projectName, File projectBuildFile,
+                JavaCompilerOptions projectCompilerOptions, boolean forceSkipUTs, boolean skipRunningTests) throws PluginExecutionException {
+            synchronized (changeCoalescer.getWorkLock()) {
+                flushHotSwappedClasses(outputDirectory);
+                scanClasses(outputDirectory);
+                try {
+                    return super.recompileJava(javaFilesChanged, artifactPaths, executor, tests, outputDirectory, testOutputDirectory,
+                            projectName, projectBuildFile, projectCompilerOptions, forceSkipUTs, skipRunningTests);
+                } finally {
+                    scanClasses(outputDirectory);
+                }
+            }
+        }
+
+        private void scanClasses(File classesDir) {
+            if (recompileDeps) {
+                dependencyIndex.scan(classesDir);
+            }
+            if (testImpactAnalyzer != null) {
+                testImpactAnalyzer.scan(classesDir);
+            }
+        }
+
+        private boolean recompileJavaSources(Collection<File> javaFilesChanged, Set<String> artifactPaths, ThreadPoolExecutor executor,
+                boolean tests, File outputDirectory, File testOutputDirectory, String projectName, File projectBuildFile,
+                JavaCompilerOptions projectCompilerOptions, boolean forceSkipUTs, boolean skipRunningTests) throws PluginExecutionException {
             try {
-                runTestMojo("org.apache.maven.plugins", "maven-surefire-plugin", "test", currentProject);
-                runTestMojo("org.apache.maven.plugins", "maven-surefire-report-plugin", "report-only", currentProject);
-            } catch (MojoExecutionException e) {
-                Throwable cause = e.getCause();
-                if (cause != null && cause instanceof MojoFailureException) {
-                    throw new PluginScenarioException("Unit tests failed: " + cause.getLocalizedMessage(), e);
+                int messageOccurrences = countApplicationUpdatedMessages();
+                long messagesLogLength = tests ? -1 : getMessagesLogLength();
+                File classesDir = tests ? testOutputDirectory : outputDirectory;
+                if (!classesDir.exists()) {
+                    if (!classesDir.mkdirs()) {
+                        throw new PluginExecutionException("The classes output directory " + classesDir.getAbsolutePath()
+                                + " does not exist and cannot be created.");
+                    } else if (classesDir.exists() && Objects.equals(classesDir.getCanonicalFile(), outputDirectory.getCanonicalFile())) {
+                        // redeploy application when class directory has been created
+                        redeployApp();
+                    }
+                }
+
+                List<String> optionList = new ArrayList<String>(Arrays.asList(DEFAULT_COMPILER_OPTIONS));
+                if (projectCompilerOptions != null) {
+                    optionList.addAll(projectCompilerOptions.getOptions());
+                }
+                getLog().debug("Compiler options: " + optionList);
+
+                if (!tests && !incrementalCompiler.optionsChanged(classesDir, optionList)) {
+                    Boolean hotSwapResult = hotSwapClasses(javaFilesChanged, artifactPaths, classesDir, optionList);
+                    if (hotSwapResult != null) {
+                        if (hotSwapResult) {
+                            info(projectName != null ? projectName + " source changes were applied to the running server."
+                                    : "Source changes were applied to the running server.");
+                            if (!skipRunningTests) {
+                                runTestThread(true, executor, messageOccurrences, skipUTs, false, projectBuildFile);
+                            }
+                        } else {
+                            info(projectName != null ? projectName + " source compilation had errors." : "Source compilation had errors.");
+                        }
+                        return hotSwapResult;
+                    }
+                    // the classes that were redefined are written along with the changes
+                    flushHotSwappedClasses(classesDir);
+                }
+
+                boolean compileResult;
+                ProjectModule projectModule = getProjectModule(projectBuildFile);
+                scanClasses(classesDir);
+                if (incrementalCompiler.optionsChanged(classesDir, optionList)) {
+                    getLog().debug("Compiler options for " + classesDir + " have changed, compiling all classes with the maven-compiler-plugin");
+                    if (projectModule == null) {
+                        compileResult = compile(tests ? testSourceDirectory : sourceDirectory);
+                    } else {
+                        compileResult = compile(tests ? projectModule.getTestSourceDirectory() : projectModule.getSourceDirectory(), projectModule);
+                    }
+                    if (compileResult) {
+                        incrementalCompiler.reset(classesDir, optionList);
+                    }
                 } else {
-                    throw new PluginExecutionException("Failed to run unit tests", e);
+                    List<File> outputDirs = new ArrayList<File>();
+                    outputDirs.add(outputDirectory);
+                    if (tests) {
+                        outputDirs.add(testOutputDirectory);
+                    }
+                    Set<File> classPath = getClassPath(artifactPaths, outputDirs);
+                    Set<String> previousArtifactPaths = compiledArtifactPaths.put(classesDir, new HashSet<String>(artifactPaths));
+                    if (recompileDeps && artifactPaths.equals(previousArtifactPaths)) {
+                        File sourceDir;
+                        if (projectModule == null) {
+                            sourceDir = tests ? testSourceDirectory : sourceDirectory;
+                        } else {
+                            sourceDir = tests ? projectModule.getTestSourceDirectory() : projectModule.getSourceDirectory();
+                        }
+                        compileResult = compileAffectedSources(javaFilesChanged, classPath, sourceDir, classesDir, optionList);
+                    } else {
+                        compileResult = incrementalCompiler.compile(javaFilesChanged, classPath, classesDir, optionList);
+                    }
+                }
+                scanClasses(classesDir);
+
+                if (compileResult) {
+                    if (tests) {
+                        info(projectName != null ? projectName + " tests compilation was successful." : "Tests compilation was successful.");
+                    } else {
+                        if (!isLooseApplication()) {
+                            redeployApp();
+                        }
+                        timeApplicationUpdate(messagesLogLength);
+                        info(projectName != null ? projectName + " source compilation was successful." : "Source compilation was successful.");
+                    }
+                    if (!skipRunningTests) {
+                        if (tests) {
+                            runTestThread(false, executor, -1, skipUTs, false, projectBuildFile);
+                        } else {
+                            runTestThread(true, executor, messageOccurrences, skipUTs, false, projectBuildFile);
+                        }
+                    }
+                    return true;
+                } else {
+                    if (tests) {
+                        info(projectName != null ? projectName + " tests compilation had errors." : "Tests compilation had errors.");
+                    } else {
+                        info(projectName != null ? projectName + " source compilation had errors." : "Source compilation had errors.");
+                    }
+                    return false;
                 }
+            } catch (Exception e) {
+                if (projectName != null) {
+                    error(projectName + " error compiling Java files: " + e.getMessage());
+                } else {
+                    error("Error compiling Java files: " + e.getMessage());
+                }
+                debug(e);
+                return false;
             }
         }
 
+        /**
+         * Notes the debug port that the server is started with, which is another port than
+         * the configured one if that one is not available.
+         */
         @Override
-        public void runIntegrationTests(File buildFile) throws PluginExecutionException, PluginScenarioException {
-            MavenProject currentProject = resolveMavenProject(buildFile);
+        public int findAvailablePort(int preferredPort, boolean isDebugPort) throws IOException {
+            int port = super.findAvailablePort(preferredPort, isDebugPort);
+            if (isDebugPort) {
+                serverDebugPort = port;
+            }
+            return port;
+        }
+
+        /**
+         * Compiles the changed source files into a staging directory and, if they only change
+         * the code of existing methods of classes that are loaded in the server, redefines
+         * those classes through the debug port. The server restarts the application when the
+         * classes directory changes, so the redefined classes are kept aside until the
+         * application is updated for another reason, the tests run or the server stops.
+         *
+         * @return true if the classes were redefined, false if the compilation failed, or
+         *         null if the changes must be compiled and deployed as usual
+         */
+        private Boolean hotSwapClasses(Collection<File> javaFilesChanged, Set<String> artifactPaths, File classesDir,
+                List<String> optionList) throws IOException {
+            if (!hotSwap || !libertyDebug || container || !isLooseApplication() || isFeatureGenerationEnabled()) {
+                return null;
+            }
+            for (File javaFile : javaFilesChanged) {
+                if (!javaFile.isFile()) {
+                    return null;
+                }
+            }
+            File hotSwapDir = new File(classesDir.getParentFile(), "liberty-dev-hot-swap");
+            File stagedDir = new File(hotSwapDir, "staged");
+            FileUtils.deleteDirectory(stagedDir);
+            if (!stagedDir.mkdirs()) {
+                return null;
+            }
+            Set<File> classPath = getClassPath(artifactPaths, Collections.singletonList(classesDir));
+            if (!incrementalCompiler.compile(javaFilesChanged, classPath, stagedDir, optionList)) {
+                return false;
+            }
+
+            Map<String, byte[]> classFiles = new LinkedHashMap<String, byte[]>();
+            for (Path stagedClass : new FileTreeScanner(Collections.<Path> emptyList(), false).scan(stagedDir.toPath(), "class").getFiles()) {
+                String relativePath = stagedDir.toPath().relativize(stagedClass).toString();
+                String className = relativePath.substring(0, relativePath.length() - ".class".length()).replace(File.separatorChar, '/');
+                byte[] content = Files.readAllBytes(stagedClass);
+                File deployedClass = new File(classesDir, relativePath);
+                if (!deployedClass.isFile()
+                        || !ClassDependencyIndex.getSchema(content).equals(ClassDependencyIndex.getSchema(Files.readAllBytes(deployedClass.toPath())))) {
+                    debug("Cannot hot swap the changes since the declarations of " + className + " changed");
+                    return null;
+                }
+                classFiles.put(className, content);
+            }
+
+            int debugPort = serverDebugPort != -1 ? serverDebugPort : libertyDebugPort;
+            try (PhaseTimings.Timer timer = timings.start("hot swap")) {
+                if (!new JdwpHotSwapper("localhost", debugPort, 5000).redefineLoadedClasses(classFiles)) {
+                    debug("Cannot hot swap the changes since the classes " + classFiles.keySet() + " are not all loaded");
+                    return null;
+                }
+            } catch (IOException | RuntimeException e) {
+                // e.g. a debugger is attached to the debug port
+                debug("Unable to hot swap the changes through debug port " + debugPort, e);
+                return null;
+            }
+            debug("Redefined the classes " + classFiles.keySet() + " in the running server");
+            File pendingDir = new File(hotSwapDir, "pending");
+            FileUtils.copyDirectoryStructure(stagedDir, pendingDir);
+            synchronized (hotSwappedClasses) {
+                hotSwappedClasses.put(classesDir, pendingDir);
+            }
+            return true;
+        }
+
+        /**
+         * Writes the classes that were redefined in the server to their classes directory.
+         *
+         * @return true if there were any
+         */
+        private boolean flushHotSwappedClasses() {
+            List<File> classesDirs;
+            synchronized (hotSwappedClasses) {
+                classesDirs = new ArrayList<File>(hotSwappedClasses.keySet());
+            }
+            for (File classesDir : classesDirs) {
+                flushHotSwappedClasses(classesDir);
+            }
+            return !classesDirs.isEmpty();
+        }
+
+        private void flushHotSwappedClasses(File classesDir) {
+            File pendingDir;
+            synchronized (hotSwappedClasses) {
+                pendingDir = hotSwappedClasses.remove(classesDir);
+            }
+            if (pendingDir == null) {
+                return;
+            }
             try {
-                runTestMojo("org.apache.maven.plugins", "maven-failsafe-plugin", "integration-test", currentProject);
-                runTestMojo("org.apache.maven.plugins", "maven-surefire-report-plugin", "failsafe-report-only", currentProject);
-                runTestMojo("org.apache.maven.plugins", "maven-failsafe-plugin", "verify", currentProject);
-            } catch (MojoExecutionException e) {
-                Throwable cause = e.getCause();
-                if (cause != null && cause instanceof MojoFailureException) {
-                    throw new PluginScenarioException("Integration tests failed: " + cause.getLocalizedMessage(), e);
-                } else {
-                    throw new PluginExecutionException("Failed to run integration tests", e);
+                FileUtils.copyDirectoryStructure(pendingDir, classesDir);
+                FileUtils.deleteDirectory(pendingDir);
+            } catch (IOException e) {
+                error("Unable to write the hot swapped classes to " + classesDir + ": " + e.getMessage());
+            }
+            if (testImpactAnalyzer != null) {
+                testImpactAnalyzer.scan(classesDir);
+            }
+        }
+
+        /**
+         * Compiles only the candidate files that were modified or whose classes reference
+         * types that changed, in this module or in an upstream module. Compiling a file can
+         * change further types, so the selection is repeated until no candidate is affected.
+         */
+        private boolean compileAffectedSources(Collection<File> candidates, Set<File> classPath, File sourceDir, File classesDir,
+                List<String> optionList) throws IOException {
+            Set<File> remaining = new LinkedHashSet<File>(candidates);
+            List<File> affected = dependencyIndex.getAffectedSources(remaining, sourceDir, classesDir);
+            int compiledCount = 0;
+            while (!affected.isEmpty()) {
+                boolean result = incrementalCompiler.compile(affected, classPath, classesDir, optionList);
+                compiledCount += affected.size();
+                remaining.removeAll(affected);
+                dependencyIndex.scan(classesDir);
+                if (!result) {
+                    return false;
+                }
+                affected = dependencyIndex.getAffectedSources(remaining, sourceDir, classesDir);
+            }
+            getLog().debug("Compiled " + compiledCount + " of " + candidates.size() + " Java files in " + sourceDir
+                    + " based on class dependencies");
+            return true;
+        }
+
+        /**
+         * @return whether features may be generated automatically, as set on startup or
+         *         through setFeatureGeneration, or once features were generated after the
+         *         hotkey turned the generation on. The hotkey that turns it off is handled by
+         *         dev mode alone, so source changes are then still compiled by dev mode.
+         */
+        private boolean isFeatureGenerationEnabled() {
+            return featureGeneration;
+        }
+
+        /**
+         * Tests may depend on resources and dependencies as well as on classes, so once
+         * those change the tests run in full before tests are selected again.
+         */
+        private void invalidateTestSelection() {
+            if (testImpactAnalyzer != null) {
+                testImpactAnalyzer.invalidate();
+            }
+        }
+
+        /**
+         * Selects the test classes of a project affected by the classes that changed
+         * since its tests last ran, among the test classes included by the configuration
+         * of the given test goal.
+         *
+         * @return the test class patterns to run, which may be empty, or null to run all tests
+         */
+        private List<String> getAffectedTests(MavenProject currentProject, String artifactId, String goal,
+                boolean selectOnProductionChanges) {
+            if (testImpactAnalyzer == null) {
+                return null;
+            }
+            Plugin plugin = getPluginForProject("org.apache.maven.plugins", artifactId, currentProject);
+            Xpp3Dom config = ExecuteMojoUtil.getPluginGoalConfig(plugin, goal, getLog());
+            if (isTestSelectionConfigured(config, goal)) {
+                return null;
+            }
+            TestClassFilter filter = TestClassFilter.fromConfiguration(config, !"test".equals(goal));
+            if (filter == null) {
+                return null;
+            }
+
+            File testClassesDir = new File(currentProject.getBuild().getTestOutputDirectory());
+            Set<String> affected = testImpactAnalyzer.getAffectedTests(goal, testClassesDir, selectOnProductionChanges);
+            if (affected == null) {
+                return null;
+            }
+            List<String> tests = new ArrayList<String>();
+            for (String type : affected) {
+                if (filter.isIncluded(type)) {
+                    tests.add(type.replace('/', '.'));
                 }
             }
+            getLog().debug("Test classes of " + currentProject.getArtifactId() + " affected by the changes: " + tests);
+            return tests;
+        }
+
+        /**
+         * @return true if the tests to run are already selected by the user
+         */
+        private boolean isTestSelectionConfigured(Xpp3Dom config, String goal) {
+            String testProperty = "test".equals(goal) ? "test" : "it.test";
+            return config.getChild("test") != null || session.getUserProperties().getProperty(testProperty) != null;
         }
 
         @Override
-        public void redeployApp() throws PluginExecutionException {
+        public void runTests(boolean waitForApplicationUpdate, int messageOccurrences, ThreadPoolExecutor executor,
+                boolean skipTests, boolean skipUTs, boolean skipITs, final File buildFile, String projectName) {
+            boolean hotSwapPending;
+            synchronized (hotSwappedClasses) {
+                hotSwapPending = !hotSwappedClasses.isEmpty();
+            }
+            if (hotSwapPending && !skipTests) {
+                // the tests run against the classes on disk, and writing them updates the application
+                int currentOccurrences = countApplicationUpdatedMessages();
+                if (flushHotSwappedClasses() && !waitForApplicationUpdate) {
+                    waitForApplicationUpdate = true;
+                    messageOccurrences = currentOccurrences;
+                }
+            }
+            if (moduleTestRunner == null || skipTests || skipUTs) {
+                if (moduleTestRunner != null) {
+                    // unit tests of an earlier run no longer decide whether the integration tests run
+                    moduleTestRunner.await(getTestModule(buildFile));
+                }
+                super.runTests(waitForApplicationUpdate, messageOccurrences, executor, skipTests, skipUTs, skipITs, buildFile, projectName);
+                return;
+            }
+            if (executor.getQueue().size() >= 1) {
+                getLog().debug("Changes were detected before tests began. Cancelling tests and resubmitting them.");
+                return;
+            }
+            final String moduleName = projectName != null ? projectName : resolveMavenProject(buildFile).getArtifactId();
+            moduleTestRunner.submit(getTestModule(buildFile), () -> runModuleUnitTests(buildFile, moduleName));
+            // the integration tests wait for the application update while the unit tests run,
+            // then wait for the unit tests to pass
+            super.runTests(waitForApplicationUpdate, messageOccurrences, executor, skipTests, true, skipITs, buildFile, projectName);
+        }
+
+        @Override
+        public void runHotkeyReaderThread(ThreadPoolExecutor executor) {
+            // called once all modules of a test run were processed
+            onDemandTestRun = false;
+            super.runHotkeyReaderThread(executor);
+        }
+
+        /**
+         * @return the key of the tests of the module with the given build file in the module
+         *         test runner
+         */
+        private String getTestModule(File buildFile) {
+            return resolveMavenProject(buildFile).getId();
+        }
+
+        /**
+         * Runs the unit tests of a module on the module test runner and reports their result
+         * once they finish, the same way as the unit tests run one module at a time.
+         */
+        private void runModuleUnitTests(File buildFile, String moduleName) throws PluginExecutionException, PluginScenarioException {
+            info("Running unit tests for " + moduleName + "...");
             try {
-                runLibertyMojoDeploy();
-            } catch (MojoExecutionException e) {
-                throw new PluginExecutionException("liberty:deploy goal failed:" + e.getMessage());
+                runUnitTests(buildFile);
+            } catch (PluginScenarioException e) {
+                debug(e);
+                error(moduleName + ": " + e.getMessage());
+                throw e;
+            } catch (PluginExecutionException e) {
+                error(moduleName + ": " + e.getMessage(), e);
+                throw e;
             }
+            info("Unit tests for " + moduleName + " finished.");
+        }
+
+        @Override
+        public void runUnitTests(File buildFile) throws PluginExecutionException, PluginScenarioException {
+            try (PhaseTimings.Timer timer = timings.start("unit tests")) {
+                MavenProject currentProject = resolveMavenProject(buildFile);
+                File testClassesDir = new File(currentProject.getBuild().getTestOutputDirectory());
+                try {
+                    List<String> tests = getAffectedTests(currentProject, "maven-surefire-plugin", "test", true);
+                    if (tests != null && tests.isEmpty()) {
+                        info("No unit tests are affected by the changes.");
+                    } else {
+                        synchronized (getTestResultsLock(currentProject)) {
+                            if (!runUnitTestsInWarmJvm(currentProject, tests)) {
+                                runTestMojo("org.apache.maven.plugins", "maven-surefire-plugin", "test", currentProject, tests);
+                            }
+                        }
+                        renderTestReport(currentProject, "report-only");
+                    }
+                    if (testImpactAnalyzer != null) {
+                        testImpactAnalyzer.recordRun("test", testClassesDir);
+                    }
+                } catch (MojoExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause != null && cause instanceof MojoFailureException) {
+                        throw new PluginScenarioException("Unit tests failed: " + cause.getLocalizedMessage(), e);
+                    } else {
+                        throw new PluginExecutionException("Failed to run unit tests", e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Runs the unit tests of a project in the warm test JVM of the project, using the
+         * class path, JVM options and reports directory of the maven-surefire-plugin.
+         *
+         * @param tests the test classes to run, or null to run all test classes
+         * @return false if the tests need to run with the maven-surefire-plugin instead
+         */
+        private boolean runUnitTestsInWarmJvm(MavenProject currentProject, List<String> tests) throws PluginScenarioException {
+            if (!warmTestJvm) {
+                return false;
+            }
+            Plugin surefirePlugin = getPluginForProject("org.apache.maven.plugins", "maven-surefire-plugin", currentProject);
+            Xpp3Dom config = ExecuteMojoUtil.getPluginGoalConfig(surefirePlugin, "test", getLog());
+            TestClassFilter filter = TestClassFilter.fromConfiguration(config, false);
+            Xpp3Dom argLine = config.getChild("argLine");
+            if (filter == null || isTestSelectionConfigured(config, "test") || isEnabled(config, "skip") || isEnabled(config, "skipTests")
+                    || isEnabled(config, "skipExec") || config.getChild("classpathDependencyExcludes") != null
+                    || (argLine != null && argLine.getValue() != null && argLine.getValue().contains("@{"))) {
+                getLog().debug("The surefire configuration of " + currentProject.getArtifactId() + " is not supported by the warm test JVM");
+                return false;
+            }
+
+            List<String> dependencies = new ArrayList<String>();
+            List<String> classesDirectories = new ArrayList<String>();
+            try {
+                Set<String> classPath = new LinkedHashSet<String>(currentProject.getTestClasspathElements());
+                if (isMultiModuleProject()) {
+                    ProjectModule projectModule = getProjectModule(currentProject.getFile());
+                    classPath.addAll(projectModule != null ? projectModule.getTestArtifacts() : getTestArtifacts());
+                }
+                Xpp3Dom additional = config.getChild("additionalClasspathElements");
+                if (additional != null) {
+                    for (Xpp3Dom element : additional.getChildren()) {
+                        classPath.add(element.getValue());
+                    }
+                }
+                for (String element : classPath) {
+                    if (new File(element).isDirectory()) {
+                        classesDirectories.add(element);
+                    } else {
+                        dependencies.add(element);
+                    }
+                }
+            } catch (DependencyResolutionRequiredException | IOException e) {
+                getLog().debug("Unable to resolve the test class path of " + currentProject.getArtifactId(), e);
+                return false;
+            }
+
+            List<String> command = new ArrayList<String>();
+            Xpp3Dom jvm = config.getChild("jvm");
+            command.add(jvm != null && jvm.getValue() != null ? jvm.getValue()
+                    : new File(System.getProperty("java.home"), "bin/java").getAbsolutePath());
+            if (argLine != null && argLine.getValue() != null) {
+                try {
+                    // quoted options may contain spaces
+                    command.addAll(Arrays.asList(CommandLineUtils.translateCommandline(argLine.getValue())));
+                } catch (Exception e) {
+                    getLog().debug("Unable to parse the argLine of " + currentProject.getArtifactId() + ": " + e.getMessage());
+                    return false;
+                }
+            }
+            command.add("-Dbasedir=" + currentProject.getBasedir().getAbsolutePath());
+            Xpp3Dom sysProps = config.getChild("systemPropertyVariables");
+            if (sysProps != null) {
+                for (Xpp3Dom property : sysProps.getChildren()) {
+                    if (property.getValue() != null) {
+                        command.add("-D" + property.getName() + "=" + property.getValue());
+                    }
+                }
+            }
+
+            WarmTestJvm testJvm;
+            synchronized (warmTestJvms) {
+                testJvm = warmTestJvms.get(currentProject.getBasedir());
+                if (testJvm == null || !testJvm.getJvmCommand().equals(command)) {
+                    if (testJvm != null) {
+                        testJvm.close();
+                    }
+                    testJvm = new WarmTestJvm(command, currentProject.getBasedir(), getLog());
+                    warmTestJvms.put(currentProject.getBasedir(), testJvm);
+                }
+            }
+
+            File testClassesDir = new File(currentProject.getBuild().getTestOutputDirectory());
+            List<String> testClasses = new ArrayList<String>();
+            if (tests != null) {
+                testClasses.addAll(tests);
+            } else {
+                for (String className : filter.getTestClasses(testClassesDir)) {
+                    testClasses.add(className.replace('/', '.'));
+                }
+            }
+            if (testClasses.isEmpty()) {
+                info("No unit tests to run.");
+                return true;
+            }
+            Xpp3Dom reportsDirElement = config.getChild("reportsDirectory");
+            File reportsDir = reportsDirElement != null && reportsDirElement.getValue() != null ? new File(reportsDirElement.getValue())
+                    : new File(currentProject.getBuild().getDirectory(), "surefire-reports");
+
+            WarmTestJvm.Result result;
+            try {
+                getLog().info("Running " + testClasses.size() + " test class(es) in the warm test JVM");
+                result = testJvm.run(reportsDir, dependencies, classesDirectories, testClasses);
+            } catch (IOException e) {
+                getLog().warn("The warm test JVM could not run the unit tests, running them with the maven-surefire-plugin: " + e.getMessage());
+                return false;
+            }
+            getLog().info("Tests run: " + result.getTests() + ", Failures: " + result.getFailures() + ", Errors: " + result.getErrors()
+                    + ", Skipped: " + result.getSkipped());
+            if (result.getFailures() + result.getErrors() > 0) {
+                for (String failedTest : result.getFailedTests()) {
+                    getLog().error("  " + failedTest);
+                }
+                throw new PluginScenarioException("Unit tests failed: There are test failures. Please refer to " + reportsDir
+                        + " for the individual test results.");
+            }
+            return true;
+        }
+
+        /**
+         * Renders the HTML report of the unit or integration tests of a project as
+         * configured by the testReports parameter, unless the XML test results did not
+         * change since the report was last rendered.
+         *
+         * @param goal the maven-surefire-report-plugin goal rendering the report
+         */
+        private void renderTestReport(final MavenProject currentProject, final String goal) throws MojoExecutionException {
+            if ("never".equals(testReports) || ("onDemand".equals(testReports) && !onDemandTestRun)) {
+                return;
+            }
+            final String key = goal + "|" + currentProject.getFile();
+            final String results = getTestResultsState(currentProject, goal);
+            synchronized (renderedTestResults) {
+                if (results.equals(renderedTestResults.get(key)) && getTestReportFile(currentProject, goal).exists()) {
+                    getLog().debug("The test results of " + currentProject.getArtifactId() + " did not change, skipping " + goal);
+                    return;
+                }
+            }
+            if (reportRenderer == null) {
+                runTestMojo("org.apache.maven.plugins", "maven-surefire-report-plugin", goal, currentProject);
+                synchronized (renderedTestResults) {
+                    renderedTestResults.put(key, results);
+                }
+                return;
+            }
+            // a pending report of the same project is replaced, since it would render the same results
+            reportRenderer.submit(key, 0, () -> {
+                // the next test run of the project does not write its results while they are rendered
+                try {
+                    synchronized (getTestResultsLock(currentProject)) {
+                        String latestResults = getTestResultsState(currentProject, goal);
+                        runTestMojo("org.apache.maven.plugins", "maven-surefire-report-plugin", goal, currentProject);
+                        synchronized (renderedTestResults) {
+                            renderedTestResults.put(key, latestResults);
+                        }
+                    }
+                } catch (MojoExecutionException e) {
+                    getLog().warn("Failed to render the test report of " + currentProject.getArtifactId() + ": " + e.getMessage());
+                    getLog().debug(e);
+                }
+            });
+        }
+
+        /**
+         * Returns the lock held while the tests of a project write their XML results, and
+         * while a report renders them in the background.
+         */
+        private Object getTestResultsLock(MavenProject currentProject) {
+            synchronized (testResultsLocks) {
+                Object lock = testResultsLocks.get(currentProject.getBasedir());
+                if (lock == null) {
+                    lock = new Object();
+                    testResultsLocks.put(currentProject.getBasedir(), lock);
+                }
+                return lock;
+            }
+        }
+
+        /**
+         * Returns the names, sizes and modification times of the XML test results that
+         * the report goal renders.
+         */
+        private String getTestResultsState(MavenProject currentProject, String goal) {
+            boolean failsafe = "failsafe-report-only".equals(goal);
+            Plugin testPlugin = getPluginForProject("org.apache.maven.plugins", failsafe ? "maven-failsafe-plugin" : "maven-surefire-plugin",
+                    currentProject);
+            Xpp3Dom testConfig = ExecuteMojoUtil.getPluginGoalConfig(testPlugin, failsafe ? "integration-test" : "test", getLog());
+            Xpp3Dom reportsDirElement = testConfig == null ? null : testConfig.getChild("reportsDirectory");
+            File reportsDir = reportsDirElement != null && reportsDirElement.getValue() != null ? new File(reportsDirElement.getValue())
+                    : new File(currentProject.getBuild().getDirectory(), failsafe ? "failsafe-reports" : "surefire-reports");
+
+            StringBuilder state = new StringBuilder();
+            File[] files = reportsDir.listFiles((dir, name) -> name.endsWith(".xml"));
+            if (files != null) {
+                Arrays.sort(files);
+                for (File file : files) {
+                    state.append(file.getName()).append(':').append(file.length()).append(':').append(file.lastModified()).append('|');
+                }
+            }
+            return state.toString();
+        }
+
+        /**
+         * Returns the HTML report rendered by the report goal.
+         */
+        private File getTestReportFile(MavenProject currentProject, String goal) {
+            boolean failsafe = "failsafe-report-only".equals(goal);
+            Plugin reportPlugin = getPluginForProject("org.apache.maven.plugins", "maven-surefire-report-plugin", currentProject);
+            Xpp3Dom reportConfig = ExecuteMojoUtil.getPluginGoalConfig(reportPlugin, goal, getLog());
+            Xpp3Dom outputDirElement = reportConfig == null ? null : reportConfig.getChild("outputDirectory");
+            Xpp3Dom outputNameElement = reportConfig == null ? null : reportConfig.getChild("outputName");
+            File outputDir = outputDirElement != null && outputDirElement.getValue() != null ? new File(outputDirElement.getValue())
+                    : new File(currentProject.getBuild().getDirectory(), "site");
+            String outputName = outputNameElement != null && outputNameElement.getValue() != null ? outputNameElement.getValue()
+                    : (failsafe ? "failsafe-report" : "surefire-report");
+
+            return new File(outputDir, outputName + ".html");
+        }
+
+        private boolean isEnabled(Xpp3Dom config, String name) {
+            Xpp3Dom child = config.getChild(name);
+            return child != null && Boolean.parseBoolean(child.getValue());
+        }
+
+        @Override
+        public void runIntegrationTests(File buildFile) throws PluginExecutionException, PluginScenarioException {
+            if (moduleTestRunner != null && moduleTestRunner.await(getTestModule(buildFile)) != null) {
+                throw new PluginScenarioException("Integration tests were not run because the unit tests failed.");
+            }
+            try (PhaseTimings.Timer timer = timings.start("integration tests")) {
+                MavenProject currentProject = resolveMavenProject(buildFile);
+                File testClassesDir = new File(currentProject.getBuild().getTestOutputDirectory());
+                try {
+                    // integration tests exercise the deployed application rather than the classes they
+                    // reference, so they are only selected when nothing but test classes changed
+                    List<String> tests = getAffectedTests(currentProject, "maven-failsafe-plugin", "integration-test", false);
+                    if (tests != null && tests.isEmpty()) {
+                        info("No integration tests are affected by the changes.");
+                    } else {
+                        synchronized (getTestResultsLock(currentProject)) {
+                            runTestMojo("org.apache.maven.plugins", "maven-failsafe-plugin", "integration-test", currentProject, tests);
+                        }
+                        renderTestReport(currentProject, "failsafe-report-only");
+                        runTestMojo("org.apache.maven.plugins", "maven-failsafe-plugin", "verify", currentProject);
+                    }
+                    if (testImpactAnalyzer != null) {
+                        testImpactAnalyzer.recordRun("integration-test", testClassesDir);
+                    }
+                } catch (MojoExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause != null && cause instanceof MojoFailureException) {
+                        throw new PluginScenarioException("Integration tests failed: " + cause.getLocalizedMessage(), e);
+                    } else {
+                        throw new PluginExecutionException("Failed to run integration tests", e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void redeployApp() throws PluginExecutionException {
+            flushHotSwappedClasses();
+            synchronized (changeCoalescer.getWorkLock()) {
+                long messagesLogLength = getMessagesLogLength();
+                try {
+                    runLibertyMojoDeploy();
+                } catch (MojoExecutionException e) {
+                    throw new PluginExecutionException("liberty:deploy goal failed:" + e.getMessage());
+                }
+                timeApplicationUpdate(messagesLogLength);
+            }
+        }
+
+        @Override
+        public void runTestThread(boolean waitForApplicationUpdate, ThreadPoolExecutor executor, int messageOccurrences,
+                boolean forceSkipUTs, boolean manualInvocation, File... buildFile) {
+            if (manualInvocation) {
+                // tests run on demand always run in full
+                invalidateTestSelection();
+                onDemandTestRun = true;
+                super.runTestThread(waitForApplicationUpdate, executor, messageOccurrences, forceSkipUTs, manualInvocation, buildFile);
+                return;
+            }
+            // run the tests once for all of the changes of the batch
+            synchronized (pendingTestBuildFiles) {
+                if (!pendingTests) {
+                    pendingTestsWaitForUpdate = false;
+                    pendingTestsSkipUTs = true;
+                }
+                if (waitForApplicationUpdate) {
+                    pendingTestsWaitForUpdate = true;
+                    pendingTestsMessageOccurrences = messageOccurrences;
+                }
+                pendingTestsSkipUTs &= forceSkipUTs;
+                pendingTestsExecutor = executor;
+                pendingTests = true;
+                if (buildFile != null) {
+                    pendingTestBuildFiles.addAll(Arrays.asList(buildFile));
+                }
+            }
+            changeCoalescer.submit("tests", 3, this::runPendingTests);
+        }
+
+        private void runPendingTests() {
+            boolean waitForApplicationUpdate;
+            int messageOccurrences;
+            boolean forceSkipUTs;
+            ThreadPoolExecutor executor;
+            File[] buildFiles;
+            synchronized (pendingTestBuildFiles) {
+                if (!pendingTests) {
+                    return;
+                }
+                waitForApplicationUpdate = pendingTestsWaitForUpdate;
+                messageOccurrences = pendingTestsMessageOccurrences;
+                forceSkipUTs = pendingTestsSkipUTs;
+                executor = pendingTestsExecutor;
+                buildFiles = pendingTestBuildFiles.toArray(new File[pendingTestBuildFiles.size()]);
+                pendingTestBuildFiles.clear();
+                pendingTests = false;
+            }
+            super.runTestThread(waitForApplicationUpdate, executor, messageOccurrences, forceSkipUTs, false, buildFiles);
         }
 
         @Override
@@ -1377,26 +2485,23 @@ public class DevMojo extends LooseAppSupport {
 
             if (!downstreamProjects.isEmpty()) {
                 getLog().debug("Downstream projects: " + downstreamProjects);
+                if (compileThreads > 1) {
+                    compileUpstreamModules(graph, relevantProjects);
+                }
                 if (isEar) {
                     runMojo("org.apache.maven.plugins", "maven-ear-plugin", "generate-application-xml");
                     runMojo("org.apache.maven.plugins", "maven-resources-plugin", "resources");
                     getOrCreateEarArtifact(project);
                 } else if (project.getPackaging().equals("pom")) {
                     getLog().debug("Skipping compile/resources on module with pom packaging type");
+                } else if (isConcurrentlyCompiled(project)) {
+                    getLog().debug("Module " + project.getArtifactId() + " was already compiled concurrently with other upstream modules");
                 } else {
-                    runMojo("org.apache.maven.plugins", "maven-resources-plugin", "resources");
                     try {
-                        runCompileMojoLogWarningWithException("compile");
+                        compileUpstreamModule(project);
                     } catch (MojoExecutionException e) {
-                        // set init recompile necessary in case any module fail
-                        compileMojoError.put(project.getName(),Boolean.TRUE);
-                    }
-                    if(hotTests) {
-                        try {
-                            runCompileMojoLogWarningWithException("testCompile");
-                        } catch (MojoExecutionException e) {
-                            compileMojoError.put(project.getName(),Boolean.TRUE);
-                        }
+                        // recorded in compileMojoError, so that the module is compiled again once dev mode starts
+                        getLog().debug("Failed to compile module " + project.getArtifactId(), e);
                     }
                 }
                 return;
@@ -1453,110 +2558,64 @@ public class DevMojo extends LooseAppSupport {
                     throw new MojoExecutionException("The server " + serverName
                         + " is already running. Terminate all instances of the server before starting dev mode."
                         + " You can stop a server instance with the command 'mvn liberty:stop'.");
-                } else {
-                    getLog().warn("Running server detected, which could cause unexpected results. To terminate the local running server, run the command 'mvn liberty:stop'.  Also, the warning may occur because a previous server execution did not stop cleanly, in which case you may want to run 'mvn clean' before re-running");
-                }
-            }
-        }
-
-        // create an executor for tests with an additional queue of size 1, so
-        // any further changes detected mid-test will be in the following run
-        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
-                new ArrayBlockingQueue<Runnable>(1, true));
-
-        sourceDirectory = new File(sourceDirectoryString.trim());
-        testSourceDirectory = new File(testSourceDirectoryString.trim());
-
-        ArrayList<File> javaFiles = new ArrayList<File>();
-        listFiles(sourceDirectory, javaFiles, "java");
-
-        ArrayList<File> javaTestFiles = new ArrayList<File>();
-        listFiles(testSourceDirectory, javaTestFiles, "java");
-
-        getLog().debug("Source directory: " + sourceDirectory);
-        getLog().debug("Output directory: " + outputDirectory);
-        getLog().debug("Test Source directory: " + testSourceDirectory);
-        getLog().debug("Test Output directory: " + testOutputDirectory);
-
-        if (isEar) {
-            runMojo("org.apache.maven.plugins", "maven-ear-plugin", "generate-application-xml");
-            runMojo("org.apache.maven.plugins", "maven-resources-plugin", "resources");
-            runMojo("org.apache.maven.plugins", "maven-resources-plugin", "testResources");
-            if(!javaTestFiles.isEmpty()) {
-                // for test classes in ear
-                try {
-                    runCompileMojoLogWarningWithException("testCompile");
-                } catch (MojoExecutionException e) {
-                    compileMojoError.put(project.getName(), Boolean.TRUE);
-                }
-            }
-        } else if (project.getPackaging().equals("pom")) {
-            getLog().debug("Skipping compile/resources on module with pom packaging type");
-        } else {
-            runMojo("org.apache.maven.plugins", "maven-resources-plugin", "resources");
-            try {
-                runCompileMojoLogWarningWithException("compile");
-            } catch (MojoExecutionException e) {
-                compileMojoError.put(project.getName(),Boolean.TRUE);
-            }
-            runMojo("org.apache.maven.plugins", "maven-resources-plugin", "testResources");
-            if(!javaTestFiles.isEmpty()) {
-                try {
-                    runCompileMojoLogWarningWithException("testCompile");
-                } catch (MojoExecutionException e) {
-                    compileMojoError.put(project.getName(), Boolean.TRUE);
+                } else {
+                    getLog().warn("Running server detected, which could cause unexpected results. To terminate the local running server, run the command 'mvn liberty:stop'.  Also, the warning may occur because a previous server execution did not stop cleanly, in which case you may want to run 'mvn clean' before re-running");
                 }
             }
         }
 
+        // create an executor for tests with an additional queue of size 1, so
+        // any further changes detected mid-test will be in the following run
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(1, true));
+
+        sourceDirectory = new File(sourceDirectoryString.trim());
+        testSourceDirectory = new File(testSourceDirectoryString.trim());
+
+        if (incrementalStartup && !container) {
+            buildStateJournal = createBuildStateJournal(project);
+        }
+
+        ArrayList<File> javaFiles = new ArrayList<File>();
+        listFiles(sourceDirectory, javaFiles, "java");
+
+        ArrayList<File> javaTestFiles = new ArrayList<File>();
+        listFiles(testSourceDirectory, javaTestFiles, "java");
 
+        getLog().debug("Source directory: " + sourceDirectory);
+        getLog().debug("Output directory: " + outputDirectory);
+        getLog().debug("Test Source directory: " + testSourceDirectory);
+        getLog().debug("Test Output directory: " + testOutputDirectory);
 
+        final boolean ear = isEar;
+        TaskPipeline startup = new TaskPipeline(startupThreads, "liberty-dev-startup");
+        startup.add("compile", () -> compileOnStartup(ear, javaTestFiles));
         if (isUsingBoost()) {
-            getLog().info("Running boost:package");
-            runBoostMojo("package");
+            startup.add("boost:package", () -> {
+                getLog().info("Running boost:package");
+                runBoostMojo("package");
+            }, "compile");
         } else {
+            // Creating the server and installing the features of the server configuration do not
+            // depend on the compiled classes, unless features are generated from those classes
             if (generateFeatures) {
-                // generate features on startup - provide all classes and only user specified
-                // features to binary scanner
-                try {
-                    String generatedFileCanonicalPath;
-                    try {
-                        generatedFileCanonicalPath = new File(configDirectory,
-                                BinaryScannerUtil.GENERATED_FEATURES_FILE_PATH).getCanonicalPath();
-                    } catch (IOException e) {
-                        generatedFileCanonicalPath = new File(configDirectory,
-                                BinaryScannerUtil.GENERATED_FEATURES_FILE_PATH).toString();
-                    }
-                    getLog().warn(
-                            "The source configuration directory will be modified. Features will automatically be generated in a new file: "
-                                    + generatedFileCanonicalPath);
-                    runLibertyMojoGenerateFeatures(null, true);
-                } catch (MojoExecutionException e) {
-                    if (e.getCause() != null && e.getCause() instanceof PluginExecutionException) {
-                        // PluginExecutionException indicates that the binary scanner jar could not be found
-                        getLog().error(e.getMessage() + ".\nDisabling the automatic generation of features.");
-                        generateFeatures = false;
-                    } else {
-                        throw new MojoExecutionException(e.getMessage()
-                        + " To disable the automatic generation of features, start dev mode with -DgenerateFeatures=false.",
-                        e);
-                    }
-                }
-            }
-            runLibertyMojoCreate();
-            // If non-container, install features before starting server. Otherwise, user
-            // should have "RUN features.sh" in their Containerfile/Dockerfile if they want features to be
-            // installed.
-            // Added check here for the new skip install feature parameter. 
-            // Need to also check if this is a new Liberty installation or not. The isNewInstallation flag is set by runLibertyMojoCreate.
-            if (!container && (!skipInstallFeature || isNewInstallation)) {
-                runLibertyMojoInstallFeature(null, null, null);
-            } else if (skipInstallFeature) {
-                getLog().info("Skipping installation of features due to skipInstallFeature configuration.");
+                startup.add("generate-features", () -> generateFeaturesOnStartup(upstreamMavenProjects), "compile");
+                startup.add("create", () -> createServerOnStartup(upstreamMavenProjects), "generate-features");
+            } else {
+                startup.add("create", () -> createServerOnStartup(upstreamMavenProjects));
             }
-            runLibertyMojoDeploy();
+            startup.add("install-feature", () -> installFeaturesOnStartup(upstreamMavenProjects), "create");
+            startup.add("deploy", () -> deployOnStartup(upstreamMavenProjects), "compile", "install-feature");
         }
-        
+        try {
+            startup.run();
+        } catch (MojoExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+        getLog().info("Dev mode startup steps: " + startup.getTimingReport());
+
         if (project.getPackaging().equals("war")) {
             // Check if we are using the exploded loose app functionality and save for checking later on. 
             isExplodedLooseWarApp = LooseWarApplication.isExploded(project);
@@ -1579,6 +2638,8 @@ public class DevMojo extends LooseAppSupport {
 
         // collect upstream projects
         List<ProjectModule> upstreamProjects = new ArrayList<ProjectModule>();
+        List<ProjectDescriptor> upstreamDescriptors = new ArrayList<ProjectDescriptor>();
+        ProjectDescriptor.Interner interner = new ProjectDescriptor.Interner();
         if (!upstreamMavenProjects.isEmpty()) {
             for (MavenProject p : upstreamMavenProjects) {
                 // get compiler options for upstream project
@@ -1627,6 +2688,11 @@ public class DevMojo extends LooseAppSupport {
                         upstreamSkipITs, upstreamCompilerOptions, dependentModules);
 
                 upstreamProjects.add(upstreamProject);
+                try {
+                    upstreamDescriptors.add(ProjectDescriptor.of(p, upstreamCompilerOptions.getOptions(), interner));
+                } catch (DependencyResolutionRequiredException e) {
+                    throw new MojoExecutionException("Error initializing dev mode.", e);
+                }
             }
         }
 
@@ -1640,12 +2706,14 @@ public class DevMojo extends LooseAppSupport {
 
         try {
             // collect artifacts canonical paths in order to build classpath
-            Set<String> compileArtifactPaths = new HashSet<String>(project.getCompileClasspathElements());
-            Set<String> testArtifactPaths = new HashSet<String>(project.getTestClasspathElements());
+            Set<String> compileArtifactPaths = new HashSet<String>();
+            Set<String> testArtifactPaths = new HashSet<String>();
+            interner.addAll(compileArtifactPaths, project.getCompileClasspathElements());
+            interner.addAll(testArtifactPaths, project.getTestClasspathElements());
 
             util = new DevMojoUtil(installDirectory, userDirectory, serverDirectory, sourceDirectory, testSourceDirectory,
                     configDirectory, project.getBasedir(), multiModuleProjectDirectory, resourceDirs, compilerOptions,
-                    settings.getLocalRepository(), upstreamProjects, upstreamMavenProjects, recompileDeps, pom, parentPoms, 
+                    settings.getLocalRepository(), upstreamProjects, upstreamDescriptors, interner, recompileDeps, pom, parentPoms, 
                     generateFeatures, skipInstallFeature, compileArtifactPaths, testArtifactPaths, webResourceDirs, new File(super.outputDirectory,serverName));
         } catch (IOException | PluginExecutionException |DependencyResolutionRequiredException e) {
             throw new MojoExecutionException("Error initializing dev mode.", e);
@@ -1659,7 +2727,12 @@ public class DevMojo extends LooseAppSupport {
             throw new MojoExecutionException("Error starting the server in dev mode.", e);
         }
 
+        if (phaseTimings) {
+            util.enablePhaseTimings();
+        }
+
         // start watching for keypresses immediately
+        util.installHotkeys();
         util.runHotkeyReaderThread(executor);
 
         // Note that serverXmlFile can be null. DevUtil will automatically watch
@@ -1676,11 +2749,13 @@ public class DevMojo extends LooseAppSupport {
                 getLog().info(e.getMessage());
             }
             return; // enter shutdown hook
+        } finally {
+            util.close();
         }
     }
 
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
         
         if (skip) {
@@ -1691,6 +2766,389 @@ public class DevMojo extends LooseAppSupport {
         doDevMode();
     }
 
+    /**
+     * Runs the resources and compile steps of the project on startup.
+     */
+    private void compileOnStartup(boolean isEar, List<File> javaTestFiles) throws MojoExecutionException {
+        if (isEar) {
+            runMojo("org.apache.maven.plugins", "maven-ear-plugin", "generate-application-xml");
+            runMojo("org.apache.maven.plugins", "maven-resources-plugin", "resources");
+            runMojo("org.apache.maven.plugins", "maven-resources-plugin", "testResources");
+            if(!javaTestFiles.isEmpty()) {
+                // for test classes in ear
+                try {
+                    runCompileMojoLogWarningWithException("testCompile");
+                } catch (MojoExecutionException e) {
+                    compileMojoError.put(project.getName(), Boolean.TRUE);
+                }
+            }
+        } else if (project.getPackaging().equals("pom")) {
+            getLog().debug("Skipping compile/resources on module with pom packaging type");
+        } else {
+            if (isUpToDate(buildStateJournal, "compile", getCompileState(project, false))) {
+                getLog().info("Skipping resources and compile, no changes since the previous dev mode session.");
+                // the artifact still resolves to the output directory, as after a compile
+                updateArtifactPathToOutputDirectory(project);
+            } else {
+                runMojo("org.apache.maven.plugins", "maven-resources-plugin", "resources");
+                try {
+                    runCompileMojoLogWarningWithException("compile");
+                    recordBuildState(buildStateJournal, "compile", getCompileState(project, false));
+                } catch (MojoExecutionException e) {
+                    compileMojoError.put(project.getName(),Boolean.TRUE);
+                }
+            }
+            if (isUpToDate(buildStateJournal, "testCompile", getCompileState(project, true))) {
+                getLog().info("Skipping testResources and testCompile, no changes since the previous dev mode session.");
+            } else {
+                runMojo("org.apache.maven.plugins", "maven-resources-plugin", "testResources");
+                if(!javaTestFiles.isEmpty()) {
+                    try {
+                        runCompileMojoLogWarningWithException("testCompile");
+                        recordBuildState(buildStateJournal, "testCompile", getCompileState(project, true));
+                    } catch (MojoExecutionException e) {
+                        compileMojoError.put(project.getName(), Boolean.TRUE);
+                    }
+                } else {
+                    recordBuildState(buildStateJournal, "testCompile", getCompileState(project, true));
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates the features used by the application on startup.
+     */
+    private void generateFeaturesOnStartup(List<MavenProject> upstreamMavenProjects) throws MojoExecutionException {
+        if (isUpToDate(buildStateJournal, "generate-features", getGenerateFeaturesState(upstreamMavenProjects))) {
+            getLog().info("Skipping liberty:generate-features, no changes since the previous dev mode session.");
+        } else {
+            // generate features on startup - provide all classes and only user specified
+            // features to binary scanner
+            try {
+                String generatedFileCanonicalPath;
+                try {
+                    generatedFileCanonicalPath = new File(configDirectory,
+                            BinaryScannerUtil.GENERATED_FEATURES_FILE_PATH).getCanonicalPath();
+                } catch (IOException e) {
+                    generatedFileCanonicalPath = new File(configDirectory,
+                            BinaryScannerUtil.GENERATED_FEATURES_FILE_PATH).toString();
+                }
+                getLog().warn(
+                        "The source configuration directory will be modified. Features will automatically be generated in a new file: "
+                                + generatedFileCanonicalPath);
+                runLibertyMojoGenerateFeatures(null, true);
+                recordBuildState(buildStateJournal, "generate-features", getGenerateFeaturesState(upstreamMavenProjects));
+            } catch (MojoExecutionException e) {
+                if (e.getCause() != null && e.getCause() instanceof PluginExecutionException) {
+                    // PluginExecutionException indicates that the binary scanner jar could not be found
+                    getLog().error(e.getMessage() + ".\nDisabling the automatic generation of features.");
+                    generateFeatures = false;
+                } else {
+                    throw new MojoExecutionException(e.getMessage()
+                    + " To disable the automatic generation of features, start dev mode with -DgenerateFeatures=false.",
+                    e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the server on startup, installing the Liberty runtime if needed.
+     */
+    private void createServerOnStartup(List<MavenProject> upstreamMavenProjects) throws MojoExecutionException {
+        if (isUpToDate(buildStateJournal, "create", getCreateState(upstreamMavenProjects))) {
+            getLog().info("Skipping liberty:create, no changes since the previous dev mode session.");
+            // the recorded state includes the runtime installation, so it already exists
+            isNewInstallation = false;
+        } else {
+            runLibertyMojoCreate();
+            recordBuildState(buildStateJournal, "create", getCreateState(upstreamMavenProjects));
+        }
+    }
+
+    /**
+     * Installs the features of the server configuration on startup.
+     */
+    private void installFeaturesOnStartup(List<MavenProject> upstreamMavenProjects) throws MojoExecutionException {
+        // If non-container, install features before starting server. Otherwise, user
+        // should have "RUN features.sh" in their Containerfile/Dockerfile if they want features to be
+        // installed.
+        // Added check here for the new skip install feature parameter. 
+        // Need to also check if this is a new Liberty installation or not. The isNewInstallation flag is set by runLibertyMojoCreate.
+        if (!container && (!skipInstallFeature || isNewInstallation)) {
+            if (isUpToDate(buildStateJournal, "install-feature", getInstallFeatureState(upstreamMavenProjects))) {
+                getLog().info("Skipping liberty:install-feature, no changes since the previous dev mode session.");
+            } else {
+                runLibertyMojoInstallFeature(null, null, null);
+                recordBuildState(buildStateJournal, "install-feature", getInstallFeatureState(upstreamMavenProjects));
+            }
+        } else if (skipInstallFeature) {
+            getLog().info("Skipping installation of features due to skipInstallFeature configuration.");
+        }
+    }
+
+    /**
+     * Deploys the application to the server on startup.
+     */
+    private void deployOnStartup(List<MavenProject> upstreamMavenProjects) throws MojoExecutionException {
+        // an exploded war is assembled by the deploy step, so it always runs
+        boolean explodedWar = project.getPackaging().equals("war") && LooseWarApplication.isExploded(project);
+        if (!explodedWar && isUpToDate(buildStateJournal, "deploy", getDeployState(upstreamMavenProjects))) {
+            getLog().info("Skipping liberty:deploy, no changes since the previous dev mode session.");
+        } else {
+            runLibertyMojoDeploy();
+            if (!explodedWar) {
+                recordBuildState(buildStateJournal, "deploy", getDeployState(upstreamMavenProjects));
+            }
+        }
+    }
+
+    /**
+     * Compiles an upstream module, and its tests if hotTests is enabled.
+     *
+     * @throws MojoExecutionException if the module failed to compile, once the failure is
+     *             recorded in compileMojoError
+     */
+    private void compileUpstreamModule(MavenProject module) throws MojoExecutionException {
+        MojoExecutionException failure = null;
+        BuildStateJournal journal = incrementalStartup && !container ? createBuildStateJournal(module) : null;
+        if (isUpToDate(journal, "compile", getCompileState(module, false))) {
+            getLog().info("Skipping resources and compile of module " + module.getArtifactId() + ", no changes since the previous dev mode session.");
+            // the downstream modules resolve the artifact to the output directory, as after a compile
+            updateArtifactPathToOutputDirectory(module);
+        } else {
+            runMojoForProject("org.apache.maven.plugins", "maven-resources-plugin", "resources", module);
+            try {
+                runCompileMojoLogWarningWithException("compile", module);
+                recordBuildState(journal, "compile", getCompileState(module, false));
+            } catch (MojoExecutionException e) {
+                // set init recompile necessary in case any module fail
+                compileMojoError.put(module.getName(),Boolean.TRUE);
+                failure = e;
+            }
+        }
+        if(hotTests) {
+            if (isUpToDate(journal, "testCompile", getCompileState(module, true))) {
+                getLog().info("Skipping testCompile of module " + module.getArtifactId() + ", no changes since the previous dev mode session.");
+            } else {
+                try {
+                    runCompileMojoLogWarningWithException("testCompile", module);
+                    recordBuildState(journal, "testCompile", getCompileState(module, true));
+                } catch (MojoExecutionException e) {
+                    compileMojoError.put(module.getName(),Boolean.TRUE);
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Creates the journal of the startup steps of the given project. The journal is
+     * out of date for all steps when the Liberty plugin or the user properties change.
+     */
+    private BuildStateJournal createBuildStateJournal(MavenProject p) {
+        StringBuilder context = new StringBuilder();
+        Plugin libertyPlugin = getLibertyPluginForProject(p);
+        if (libertyPlugin != null) {
+            context.append(libertyPlugin.getVersion()).append('\n').append(libertyPlugin.getConfiguration()).append('\n');
+        }
+        context.append(new TreeMap<Object, Object>(session.getUserProperties()));
+        context.append("\ngenerateFeatures=").append(generateFeatures).append("\nhotTests=").append(hotTests);
+        return new BuildStateJournal(new File(p.getBuild().getDirectory(), "liberty-dev-state.properties"), context.toString(), getLog());
+    }
+
+    private static boolean isUpToDate(BuildStateJournal journal, String step, List<File> files) {
+        if (journal == null) {
+            return false;
+        }
+        if (journal.isUpToDate(step, files)) {
+            return true;
+        }
+        // the step is about to run again, so its previous state no longer applies if it fails
+        journal.invalidate(step);
+        return false;
+    }
+
+    private static void recordBuildState(BuildStateJournal journal, String step, List<File> files) {
+        if (journal != null) {
+            journal.record(step, files);
+        }
+    }
+
+    /**
+     * Returns the pom.xml files of the given projects and of their local parents.
+     */
+    private List<File> getBuildFiles(MavenProject p, List<MavenProject> upstreamProjects) {
+        Set<File> buildFiles = new LinkedHashSet<File>();
+        List<MavenProject> projects = new ArrayList<MavenProject>(upstreamProjects);
+        projects.add(p);
+        for (MavenProject proj : projects) {
+            for (MavenProject parent = proj; parent != null && parent.getFile() != null; parent = parent.getParent()) {
+                buildFiles.add(parent.getFile());
+            }
+        }
+        return new ArrayList<File>(buildFiles);
+    }
+
+    /**
+     * Returns the files read and written by the resources and compile steps, or by the
+     * testResources and testCompile steps, of the given project.
+     */
+    private List<File> getCompileState(MavenProject p, boolean tests) {
+        List<File> files = getBuildFiles(p, Collections.<MavenProject>emptyList());
+        Build build = p.getBuild();
+        files.add(new File(tests ? build.getTestSourceDirectory() : build.getSourceDirectory()));
+        for (Resource resource : tests ? build.getTestResources() : build.getResources()) {
+            files.add(new File(resource.getDirectory()));
+        }
+        for (Artifact artifact : p.getArtifacts()) {
+            if (artifact.getFile() != null && (tests || artifact.getArtifactHandler().isAddedToClasspath()
+                    && !Artifact.SCOPE_TEST.equals(artifact.getScope()))) {
+                files.add(artifact.getFile());
+            }
+        }
+        files.add(new File(build.getOutputDirectory()));
+        if (tests) {
+            files.add(new File(build.getTestOutputDirectory()));
+        }
+        return files;
+    }
+
+    private List<File> getGenerateFeaturesState(List<MavenProject> upstreamProjects) {
+        List<File> files = getBuildFiles(project, upstreamProjects);
+        for (MavenProject upstreamProject : upstreamProjects) {
+            files.add(new File(upstreamProject.getBuild().getOutputDirectory()));
+        }
+        files.add(outputDirectory);
+        files.add(configDirectory);
+        return files;
+    }
+
+    /**
+     * Returns the resolved dependency files of the given projects, which the create and
+     * deploy steps copy to the server or reference from the loose application.
+     */
+    private List<File> getDependencyFiles(MavenProject p, List<MavenProject> upstreamProjects) {
+        Set<File> dependencyFiles = new LinkedHashSet<File>();
+        List<MavenProject> projects = new ArrayList<MavenProject>(upstreamProjects);
+        projects.add(p);
+        for (MavenProject proj : projects) {
+            for (Artifact artifact : proj.getArtifacts()) {
+                if (artifact.getFile() != null) {
+                    dependencyFiles.add(artifact.getFile());
+                }
+            }
+        }
+        return new ArrayList<File>(dependencyFiles);
+    }
+
+    private List<File> getCreateState(List<MavenProject> upstreamProjects) {
+        List<File> files = getBuildFiles(project, upstreamProjects);
+        files.addAll(getDependencyFiles(project, upstreamProjects));
+        files.add(configDirectory);
+        files.add(new File(installDirectory, "lib/versions"));
+        files.add(new File(installDirectory, "lib/ws-launch.jar"));
+        for (String name : new String[] { "server.xml", "server.env", "bootstrap.properties", "jvm.options", "configDropins" }) {
+            files.add(new File(serverDirectory, name));
+        }
+        return files;
+    }
+
+    private List<File> getInstallFeatureState(List<MavenProject> upstreamProjects) {
+        List<File> files = getBuildFiles(project, upstreamProjects);
+        files.add(configDirectory);
+        files.add(new File(serverDirectory, "server.xml"));
+        files.add(new File(serverDirectory, "configDropins"));
+        files.add(new File(installDirectory, "lib/features"));
+        return files;
+    }
+
+    private List<File> getDeployState(List<MavenProject> upstreamProjects) {
+        List<File> files = getBuildFiles(project, upstreamProjects);
+        files.addAll(getDependencyFiles(project, upstreamProjects));
+        files.add(new File(serverDirectory, "apps"));
+        files.add(new File(serverDirectory, "dropins"));
+        files.add(new File(serverDirectory, "configDropins"));
+        return files;
+    }
+
+    /**
+     * Returns the modules compiled by compileUpstreamModules, shared by the dev mode
+     * executions of the modules in the current Maven session.
+     */
+    @SuppressWarnings("unchecked")
+    private Set<String> getConcurrentlyCompiledModules() {
+        if (concurrentlyCompiledModules == null) {
+            SessionData data = session.getRepositorySession().getData();
+            data.set(CONCURRENTLY_COMPILED_MODULES_KEY, null, Collections.synchronizedSet(new HashSet<String>()));
+            concurrentlyCompiledModules = (Set<String>) data.get(CONCURRENTLY_COMPILED_MODULES_KEY);
+        }
+        return concurrentlyCompiledModules;
+    }
+
+    private boolean isConcurrentlyCompiled(MavenProject module) {
+        return getConcurrentlyCompiledModules().contains(module.getFile().getAbsolutePath());
+    }
+
+    /**
+     * Compiles all upstream modules of the dev mode project on a pool of compileThreads
+     * threads, following the edges of the project dependency graph. Runs once, from the
+     * first upstream module in the reactor. The later upstream modules then skip their
+     * own compilation. A module that failed to compile, and the modules that depend on it,
+     * are compiled in their own reactor turn instead.
+     * 
+     * @param graph            the project dependency graph
+     * @param relevantProjects the projects included in this invocation of dev mode
+     */
+    private void compileUpstreamModules(ProjectDependencyGraph graph, List<MavenProject> relevantProjects)
+            throws MojoExecutionException {
+        Set<String> compiledModules = getConcurrentlyCompiledModules();
+        synchronized (compiledModules) {
+            if (isConcurrentlyCompiled(project)) {
+                return;
+            }
+            List<MavenProject> modules = new ArrayList<MavenProject>();
+            for (MavenProject p : relevantProjects) {
+                String packaging = p.getPackaging();
+                if (!graph.getDownstreamProjects(p, true).isEmpty() && !packaging.equals("ear") && !packaging.equals("pom")) {
+                    modules.add(p);
+                }
+            }
+            if (modules.isEmpty()) {
+                return;
+            }
+            getLog().info("Compiling " + modules.size() + " upstream modules using up to " + compileThreads + " threads");
+            ProjectGraphExecutor graphExecutor = new ProjectGraphExecutor(graph, compileThreads, "liberty-dev-compile");
+            Map<MavenProject, Throwable> failures;
+            try {
+                failures = graphExecutor.execute(modules, new ProjectGraphExecutor.ProjectTask() {
+                    @Override
+                    public void run(MavenProject module) throws Exception {
+                        compileUpstreamModule(module);
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MojoExecutionException("Interrupted while compiling upstream modules.", e);
+            }
+            for (MavenProject module : modules) {
+                Throwable failure = failures.get(module);
+                if (failure == null) {
+                    compiledModules.add(module.getFile().getAbsolutePath());
+                } else {
+                    // the module and the modules that depend on it are compiled in their own reactor turn
+                    getLog().debug("Failed to compile module " + module.getArtifactId(), failure);
+                }
+            }
+        }
+    }
+
     /**
      * Update map with list of parent poms and their subsequent child poms
      * 
@@ -1811,16 +3269,15 @@ public class DevMojo extends LooseAppSupport {
     }
 
     private MavenProject resolveMavenProject(File buildFile) {
-        ProjectBuildingResult build;
         MavenProject currentProject = project; // default to main project
         try {
             if (buildFile != null && !project.getFile().getCanonicalPath().equals(buildFile.getCanonicalPath())) {
-                build = mavenProjectBuilder.build(buildFile,
+                MavenProject builtProject = MavenProjectCache.getInstance(session).getProject(buildFile, mavenProjectBuilder,
                         session.getProjectBuildingRequest().setResolveDependencies(true));
                 // if we can resolve the project associated with build file, run tests on
                 // corresponding project
-                if (build.getProject() != null) {
-                    currentProject = build.getProject();
+                if (builtProject != null) {
+                    currentProject = builtProject;
                 }
             }
         } catch (ProjectBuildingException | IOException e) {
@@ -1833,6 +3290,17 @@ public class DevMojo extends LooseAppSupport {
 
     private void runTestMojo(String groupId, String artifactId, String goal, MavenProject project)
             throws MojoExecutionException {
+        runTestMojo(groupId, artifactId, goal, project, null);
+    }
+
+    /**
+     * Runs a test goal for the given project.
+     *
+     * @param tests the test classes to run, as fully qualified class names, or null to run the
+     *            tests included by the goal configuration
+     */
+    private void runTestMojo(String groupId, String artifactId, String goal, MavenProject project, List<String> tests)
+            throws MojoExecutionException {
         Plugin plugin = getPluginForProject(groupId, artifactId, project);
         Xpp3Dom config = ExecuteMojoUtil.getPluginGoalConfig(plugin, goal, getLog());
 
@@ -1857,6 +3325,13 @@ public class DevMojo extends LooseAppSupport {
             }
         }
 
+        if (tests != null && (goal.equals("test") || goal.equals("integration-test"))) {
+            injectSelectedTests(config, tests);
+        }
+        if (goal.equals("test") && testThreads > 1 && config.getChild("redirectTestOutputToFile") == null) {
+            // keep the output of unit tests running concurrently apart
+            config.addChild(element(name("redirectTestOutputToFile"), "true").toDom());
+        }
         if (goal.equals("test")) {
             injectTestId(config);
         } else if (goal.equals("integration-test")) {
@@ -1956,13 +3431,31 @@ public class DevMojo extends LooseAppSupport {
         }
     }
 
+    /**
+     * Limit the tests run by the Maven surefire and failsafe plugins to the given test
+     * classes.
+     *
+     * @param config The configuration element
+     * @param tests  The fully qualified names of the test classes
+     */
+    private void injectSelectedTests(Xpp3Dom config, List<String> tests) {
+        getLog().info("Running " + tests.size() + " test class(es) affected by the changes. Run the tests on demand to run all tests.");
+        config.addChild(element(name("test"), String.join(",", tests)).toDom());
+        Xpp3Dom failIfNoSpecifiedTests = config.getChild("failIfNoSpecifiedTests");
+        if (failIfNoSpecifiedTests == null) {
+            config.addChild(element(name("failIfNoSpecifiedTests"), "false").toDom());
+        } else {
+            failIfNoSpecifiedTests.setValue("false");
+        }
+    }
+
     /**
      * Force change a property so that the checksum calculated by
      * AbstractSurefireMojo is different every time.
      *
      * @param config The configuration element
      */
-    private void injectTestId(Xpp3Dom config) {
+    private synchronized void injectTestId(Xpp3Dom config) {
         Xpp3Dom properties = config.getChild("properties");
         if (properties == null || properties.getChild(TEST_RUN_ID_PROPERTY_NAME) == null) {
             Element e = element(name("properties"), element(name(TEST_RUN_ID_PROPERTY_NAME), String.valueOf(runId++)));
@@ -2020,17 +3513,13 @@ public class DevMojo extends LooseAppSupport {
     }
 
     private void listFiles(File directory, List<File> files, String suffix) {
-        if (directory != null) {
-            // Get all files from a directory.
-            File[] fList = directory.listFiles();
-            if (fList != null) {
-                for (File file : fList) {
-                    if (file.isFile() && ((suffix == null) || (file.getName().toLowerCase().endsWith("." + suffix)))) {
-                        files.add(file);
-                    } else if (file.isDirectory()) {
-                        listFiles(file, files, suffix);
-                    }
+        if (directory != null && directory.isDirectory()) {
+            try {
+                for (Path file : new FileTreeScanner(Collections.<Path> emptyList(), false).scan(directory.toPath(), suffix).getFiles()) {
+                    files.add(file.toFile());
                 }
+            } catch (IOException e) {
+                getLog().debug("Unable to list the files of " + directory, e);
             }
         }
     }
@@ -2057,17 +3546,21 @@ public class DevMojo extends LooseAppSupport {
     }
 
     private void runCompileMojoLogWarningWithException(String goal) throws MojoExecutionException {
-        Plugin plugin = getPluginForProject("org.apache.maven.plugins", "maven-compiler-plugin", project);
+        runCompileMojoLogWarningWithException(goal, project);
+    }
+
+    private void runCompileMojoLogWarningWithException(String goal, MavenProject mavenProject) throws MojoExecutionException {
+        Plugin plugin = getPluginForProject("org.apache.maven.plugins", "maven-compiler-plugin", mavenProject);
         MavenSession tempSession = session.clone();
-        tempSession.setCurrentProject(project);
-        MavenProject tempProject = project;
+        tempSession.setCurrentProject(mavenProject);
+        MavenProject tempProject = mavenProject;
         Xpp3Dom config = ExecuteMojoUtil.getPluginGoalConfig(plugin, goal, getLog());
         config = Xpp3Dom.mergeXpp3Dom(configuration(element(name("failOnError"), "true")), config);
         getLog().info("Running maven-compiler-plugin:" + goal + " on " + tempProject.getFile());
         getLog().debug("configuration:\n" + config);
         executeMojo(plugin, goal(goal), config, executionEnvironment(tempProject, tempSession, pluginManager));
 
-        updateArtifactPathToOutputDirectory(project);
+        updateArtifactPathToOutputDirectory(mavenProject);
     }
 
     /**
@@ -2115,7 +3608,9 @@ public class DevMojo extends LooseAppSupport {
      */
     @Override
     protected void runLibertyMojoInstallFeature(Element features, File serverDir, String containerName) throws MojoExecutionException {
-        super.runLibertyMojoInstallFeature(features, serverDir, containerName);
+        try (PhaseTimings.Timer timer = startPhase("install-feature")) {
+            super.runLibertyMojoInstallFeature(features, serverDir, containerName);
+        }
     }
 
     /**
@@ -2152,10 +3647,56 @@ public class DevMojo extends LooseAppSupport {
                 } catch (IOException e) {
                 }
             }
-            super.runLibertyMojoCreate();
+            try (PhaseTimings.Timer timer = startPhase("create")) {
+                super.runLibertyMojoCreate();
+            }
+        }
+    }
+
+    /**
+     * Executes the war:exploded goal and resets the exploded webapp changes.
+     * 
+     * @throws MojoExecutionException
+     */
+    @Override
+    protected void runExplodedMojo() throws MojoExecutionException {
+        try (PhaseTimings.Timer timer = startPhase("war exploded")) {
+            super.runExplodedMojo();
+        }
+        getExplodedWarSynchronizer().reset();
+    }
+
+    /**
+     * Executes liberty:deploy and resets the exploded webapp changes once the deploy goal
+     * assembled the webapp directory.
+     * 
+     * @throws MojoExecutionException
+     */
+    @Override
+    protected void runLibertyMojoDeploy(boolean forceLooseApp) throws MojoExecutionException {
+        try (PhaseTimings.Timer timer = startPhase("deploy")) {
+            super.runLibertyMojoDeploy(forceLooseApp);
+        }
+        if (project.getPackaging().equals("war") && LooseWarApplication.isExploded(project)) {
+            // the deploy goal assembled the webapp directory
+            getExplodedWarSynchronizer().reset();
         }
     }
 
+    /**
+     * @return the timer of a phase, or null before dev mode is initialized
+     */
+    private PhaseTimings.Timer startPhase(String phase) {
+        return util != null ? util.timings.start(phase) : null;
+    }
+
+    private synchronized ExplodedWarSynchronizer getExplodedWarSynchronizer() {
+        if (explodedWarSynchronizer == null || explodedWarSynchronizer.getProject() != project) {
+            explodedWarSynchronizer = new ExplodedWarSynchronizer(project, getLog());
+        }
+        return explodedWarSynchronizer;
+    }
+
     /**
      * Executes liberty:generate-features.
      * 
@@ -2163,6 +3704,8 @@ public class DevMojo extends LooseAppSupport {
      */
     @Override
     protected void runLibertyMojoGenerateFeatures(Element classFiles, boolean optimize) throws MojoExecutionException {
-        super.runLibertyMojoGenerateFeatures(classFiles, optimize);
+        try (PhaseTimings.Timer timer = startPhase("generate-features")) {
+            super.runLibertyMojoGenerateFeatures(classFiles, optimize);
+        }
     }
 }
@@ -26,10 +26,10 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 public class DevcMojo extends DevMojo {
 
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         super.setContainer(true);
 
         // call dev mode
-        super.execute();
+        super.doExecute();
     }
 }
\ No newline at end of file
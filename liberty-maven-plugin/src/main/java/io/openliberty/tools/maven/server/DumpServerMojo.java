@@ -57,7 +57,7 @@ public class DumpServerMojo extends StartDebugMojoSupport {
     private boolean threadDump;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
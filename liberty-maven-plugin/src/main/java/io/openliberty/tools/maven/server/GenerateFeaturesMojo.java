@@ -18,10 +18,17 @@ package io.openliberty.tools.maven.server;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
@@ -33,7 +40,6 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuildingException;
-import org.apache.maven.project.ProjectBuildingResult;
 import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 
@@ -45,6 +51,11 @@ import io.openliberty.tools.common.plugins.util.PluginExecutionException;
 import io.openliberty.tools.common.plugins.util.ServerFeatureUtil;
 import io.openliberty.tools.common.plugins.util.ServerFeatureUtil.FeaturesPlatforms;
 import io.openliberty.tools.maven.ServerFeatureSupport;
+import io.openliberty.tools.maven.utils.BinaryScanCache;
+import io.openliberty.tools.maven.utils.BuildStateJournal;
+import io.openliberty.tools.maven.utils.MavenProjectCache;
+import io.openliberty.tools.maven.utils.TaskExecutors;
+import io.openliberty.tools.maven.utils.WarmBinaryScanner;
 
 /**
  * This mojo generates the features required in the featureManager element in
@@ -65,6 +76,8 @@ public class GenerateFeaturesMojo extends PluginConfigSupport {
     public static final String NO_NEW_FEATURES_COMMENT = "No additional features generated";
     public static final String NO_CLASSES_DIR_WARNING = "Could not find classes directory to generate features against. Liberty features will not be generated. "
             + "Ensure your project has first been compiled.";
+    public static final String SCAN_CACHE_FILE_NAME = "liberty-binary-scanner-cache.properties";
+    public static final String STATE_FILE_NAME = "liberty-generate-features-state.properties";
 
     private File binaryScanner;
 
@@ -78,6 +91,13 @@ public class GenerateFeaturesMojo extends PluginConfigSupport {
     @Parameter(property = "optimize", defaultValue = "true")
     private boolean optimize;
 
+    /**
+     * The number of modules whose classes are scanned at the same time when all the classes
+     * of a multi-module project are scanned
+     */
+    @Parameter(property = "scanThreads", defaultValue = "1")
+    private int scanThreads;
+
     @Override
     protected void init() throws MojoExecutionException {
         // @see io.openliberty.tools.maven.BasicSupport#init() skip server config
@@ -89,7 +109,7 @@ public class GenerateFeaturesMojo extends PluginConfigSupport {
     }
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
@@ -158,7 +178,6 @@ public class GenerateFeaturesMojo extends PluginConfigSupport {
         }
 
         binaryScanner = getBinaryScannerJarFromRepository();
-        BinaryScannerHandler binaryScannerHandler = new BinaryScannerHandler(binaryScanner);
 
         getLog().debug("--- Generate Features values ---");
         getLog().debug("Binary scanner jar: " + binaryScanner.getName());
@@ -196,26 +215,58 @@ public class GenerateFeaturesMojo extends PluginConfigSupport {
             if (!feature.contains(":")) nonCustomFeatures.add(feature);
         }
 
+        List<MavenProject> mavenProjects = new ArrayList<MavenProject>();
+        mavenProjects.addAll(upstreamProjects);
+        mavenProjects.add(project);
+        Set<String> directories = getClassesDirectories(mavenProjects);
+        String eeVersion = getEEVersion(mavenProjects);
+        String mpVersion = getMPVersion(mavenProjects);
+
+        // skip the scan and the configuration files when nothing changed since the last successful run
+        File newServerXmlSrc = new File(configDirectory, GENERATED_FEATURES_FILE_PATH);
+        BuildStateJournal stateJournal = new BuildStateJournal(new File(project.getBuild().getDirectory(), STATE_FILE_NAME),
+                getInputsContext(existingFeatures, eeVersion, mpVersion), getLog());
+        List<File> stateFiles = getStateFiles(directories, newServerXmlSrc);
+        if (stateJournal.isUpToDate("generate-features", stateFiles)) {
+            getLog().info("Skipping liberty:generate-features, no changes since the previous run.");
+            return;
+        }
+
+        // the scanner stays loaded for the later runs in the session, such as those of dev mode
+        WarmBinaryScanner binaryScannerHandler = WarmBinaryScanner.getInstance(session, binaryScanner);
         Set<String> scannedFeatureList = null;
-        String eeVersion = null;
-        String mpVersion = null;
         try {
-            List<MavenProject> mavenProjects = new ArrayList<MavenProject>();
-            mavenProjects.addAll(upstreamProjects);
-            mavenProjects.add(project);
-            Set<String> directories = getClassesDirectories(mavenProjects);
             if (directories.isEmpty() && (classFiles == null || classFiles.isEmpty())) {
                 // log as warning and continue to call binary scanner to detect conflicts in
                 // user specified features
                 getLog().warn(NO_CLASSES_DIR_WARNING);
             }
-            eeVersion = getEEVersion(mavenProjects);
-            mpVersion = getMPVersion(mavenProjects);
 
             String logLocation = project.getBuild().getDirectory();
             String eeVersionArg = composeEEVersion(eeVersion);
             String mpVersionArg = composeMPVersion(mpVersion);
-            scannedFeatureList = binaryScannerHandler.runBinaryScanner(nonCustomFeatures, classFiles, directories, logLocation, eeVersionArg, mpVersionArg, optimize);
+            // only a scan of all the classes is cached, the classes of a scan in dev mode are already the changed ones
+            BinaryScanCache scanCache = null;
+            BinaryScanCache.Delta scanDelta = null;
+            if (optimize && (classFiles == null || classFiles.isEmpty())) {
+                String scanContext = binaryScanner.getName() + "|" + eeVersionArg + "|" + mpVersionArg + "|" + new TreeSet<String>(nonCustomFeatures);
+                scanCache = new BinaryScanCache(new File(logLocation, SCAN_CACHE_FILE_NAME), scanContext, getLog());
+                scanDelta = scanCache.compare(directories);
+                if (scanDelta.isIncremental()) {
+                    scannedFeatureList = runIncrementalBinaryScanner(binaryScannerHandler, scanDelta, nonCustomFeatures, directories, logLocation,
+                            eeVersionArg, mpVersionArg);
+                }
+            }
+            if (scannedFeatureList == null && scanCache != null && scanThreads > 1 && directories.size() > 1) {
+                scannedFeatureList = runParallelBinaryScanner(binaryScannerHandler, nonCustomFeatures, directories, logLocation,
+                        eeVersionArg, mpVersionArg);
+            }
+            if (scannedFeatureList == null) {
+                scannedFeatureList = binaryScannerHandler.runBinaryScanner(getLog(), nonCustomFeatures, classFiles, directories, logLocation, eeVersionArg, mpVersionArg, optimize);
+            }
+            if (scanCache != null) {
+                scanCache.record(scanDelta, scannedFeatureList);
+            }
         } catch (BinaryScannerUtil.NoRecommendationException noRecommendation) {
             throw new MojoExecutionException(String.format(BinaryScannerUtil.BINARY_SCANNER_CONFLICT_MESSAGE3, noRecommendation.getConflicts()));
         } catch (BinaryScannerUtil.FeatureModifiedException featuresModified) {
@@ -278,7 +329,6 @@ public class GenerateFeaturesMojo extends PluginConfigSupport {
         }
         getLog().debug("Features detected by binary scanner which are not in server.xml" + missingLibertyFeatures);
 
-        File newServerXmlSrc = new File(configDirectory, GENERATED_FEATURES_FILE_PATH);
         File serverXml = findConfigFile("server.xml", serverXmlFile);
         ServerConfigXmlDocument doc = getServerXmlDocFromConfig(serverXml);
         getLog().debug("Xml document we'll try to update after generate features doc=" + doc + " file=" + serverXml);
@@ -325,6 +375,112 @@ public class GenerateFeaturesMojo extends PluginConfigSupport {
                                 + ". Ensure your id has write permission to the server configuration directory.",
                         e);
         }
+        stateJournal.record("generate-features", stateFiles);
+    }
+
+    // Returns the inputs of the binary scanner that are not files, and the parameters of this run
+    private String getInputsContext(Set<String> existingFeatures, String eeVersion, String mpVersion) {
+        StringBuilder context = new StringBuilder(binaryScanner.getName());
+        context.append('|').append(eeVersion).append('|').append(mpVersion);
+        context.append('|').append(new TreeSet<String>(existingFeatures));
+        context.append('|').append(optimize);
+        if (classFiles != null) {
+            context.append('|').append(new TreeSet<String>(classFiles));
+        }
+        return context.toString();
+    }
+
+    // Returns the classes directories and class files that are scanned, and the generated file
+    private List<File> getStateFiles(Set<String> directories, File generatedFeaturesFile) {
+        List<File> files = new ArrayList<File>();
+        for (String directory : new TreeSet<String>(directories)) {
+            files.add(new File(directory));
+        }
+        if (classFiles != null) {
+            for (String classFile : new TreeSet<String>(classFiles)) {
+                files.add(new File(classFile));
+            }
+        }
+        files.add(generatedFeaturesFile);
+        return files;
+    }
+
+    /**
+     * Generates the features from the cached result of the last scan of all the classes and
+     * a scan of the classes that were added since, as dev mode does when classes change.
+     * 
+     * @return the features, or null if all the classes need to be scanned
+     */
+    private Set<String> runIncrementalBinaryScanner(WarmBinaryScanner binaryScannerHandler, BinaryScanCache.Delta scanDelta,
+            Set<String> userFeatures, Set<String> directories, String logLocation, String eeVersionArg, String mpVersionArg) {
+        if (scanDelta.getChangedClasses().isEmpty()) {
+            getLog().debug("No classes changed since the last binary scan, reusing the features " + scanDelta.getCachedFeatures());
+            return scanDelta.getCachedFeatures();
+        }
+        getLog().debug("Scanning the " + scanDelta.getChangedClasses().size() + " classes added since the last binary scan");
+        Set<String> currentFeatures = new HashSet<String>(userFeatures);
+        currentFeatures.addAll(scanDelta.getCachedFeatures());
+        try {
+            return binaryScannerHandler.runBinaryScanner(getLog(), currentFeatures, scanDelta.getChangedClasses(), directories, logLocation,
+                    eeVersionArg, mpVersionArg, false);
+        } catch (PluginExecutionException | BinaryScannerUtil.NoRecommendationException | BinaryScannerUtil.RecommendationSetException
+                | BinaryScannerUtil.FeatureModifiedException | BinaryScannerUtil.FeatureUnavailableException
+                | BinaryScannerUtil.IllegalTargetException | BinaryScannerUtil.IllegalTargetComboException e) {
+            // report the problem, if any, from a scan of all the classes
+            getLog().debug("The scan of the added classes failed, scanning all the classes: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Scans the classes directory of each module on its own scanner, on up to scanThreads
+     * threads, then resolves the union of the features of the modules into a working set.
+     * 
+     * @return the features, or null if all the classes need to be scanned together
+     */
+    private Set<String> runParallelBinaryScanner(WarmBinaryScanner binaryScannerHandler, Set<String> userFeatures, Set<String> directories,
+            String logLocation, String eeVersionArg, String mpVersionArg) {
+        int threads = Math.min(scanThreads, directories.size());
+        getLog().debug("Scanning the classes of " + directories.size() + " modules using up to " + threads + " threads");
+        BlockingQueue<WarmBinaryScanner> scanners = new ArrayBlockingQueue<WarmBinaryScanner>(threads);
+        for (int i = 0; i < threads; i++) {
+            scanners.add(WarmBinaryScanner.getInstance(session, binaryScanner, i));
+        }
+        ExecutorService pool = TaskExecutors.newDaemonPool(threads, "liberty-feature-scan");
+        Set<String> moduleFeatures = new HashSet<String>(userFeatures);
+        try {
+            List<Future<Set<String>>> partialResults = new ArrayList<Future<Set<String>>>();
+            for (final String directory : directories) {
+                partialResults.add(pool.submit(() -> {
+                    WarmBinaryScanner scanner = scanners.take();
+                    try {
+                        // each module logs to its own build directory
+                        return scanner.runBinaryScanner(getLog(), userFeatures, null, Collections.singleton(directory),
+                                new File(directory).getParent(), eeVersionArg, mpVersionArg, true);
+                    } finally {
+                        scanners.add(scanner);
+                    }
+                }));
+            }
+            for (Future<Set<String>> partialResult : partialResults) {
+                moduleFeatures.addAll(partialResult.get());
+            }
+            // resolve the features of all the modules together, without scanning any class again
+            return binaryScannerHandler.runBinaryScanner(getLog(), moduleFeatures, Collections.<String>emptyList(), directories, logLocation,
+                    eeVersionArg, mpVersionArg, false);
+        } catch (ExecutionException | PluginExecutionException | BinaryScannerUtil.NoRecommendationException
+                | BinaryScannerUtil.RecommendationSetException | BinaryScannerUtil.FeatureModifiedException
+                | BinaryScannerUtil.FeatureUnavailableException | BinaryScannerUtil.IllegalTargetException
+                | BinaryScannerUtil.IllegalTargetComboException e) {
+            // report the problem, if any, from a scan of all the classes
+            getLog().debug("The scan of the modules failed, scanning all the classes together: " + e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            pool.shutdownNow();
+        }
     }
 
     // Get the features from the server config and optionally exclude the specified config files from the search.
@@ -585,42 +741,10 @@ public class GenerateFeaturesMojo extends PluginConfigSupport {
         throw new NoUmbrellaDependencyException();
     }
 
-    // Define the logging functions of the binary scanner handler and make it available in this plugin
-    private class BinaryScannerHandler extends BinaryScannerUtil {
-        BinaryScannerHandler(File scannerFile) {
-            super(scannerFile);
-        }
-        @Override
-        public void debug(String msg) {
-            getLog().debug(msg);
-        }
-        @Override
-        public void debug(String msg, Throwable t) {
-            getLog().debug(msg, t);
-        }
-        @Override
-        public void error(String msg) {
-            getLog().error(msg);
-        }
-        @Override
-        public void warn(String msg) {
-            getLog().warn(msg);
-        }
-        @Override
-        public void info(String msg) {
-            getLog().info(msg);
-        }
-        @Override
-        public boolean isDebugEnabled() {
-            return getLog().isDebugEnabled();
-        }
-    }
-
     // using the current MavenSession build the project (resolves dependencies)
     private MavenProject getMavenProject(File buildFile) throws ProjectBuildingException {
-        ProjectBuildingResult build = mavenProjectBuilder.build(buildFile,
+        return MavenProjectCache.getInstance(session).getProject(buildFile, mavenProjectBuilder,
                 session.getProjectBuildingRequest().setResolveDependencies(true));
-        return build.getProject();
     }
 
     /**
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -31,6 +32,7 @@ import org.apache.maven.plugins.annotations.Parameter;
 import io.openliberty.tools.ant.InstallFeatureTask;
 import io.openliberty.tools.ant.FeatureManagerTask.Feature;
 import io.openliberty.tools.maven.InstallFeatureSupport;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent;
 import io.openliberty.tools.common.plugins.util.DevUtil;
 import io.openliberty.tools.common.plugins.util.InstallFeatureUtil;
 import io.openliberty.tools.common.plugins.util.PluginExecutionException;
@@ -60,7 +62,7 @@ public class InstallFeatureMojo extends InstallFeatureSupport {
     private File serverDir;
 
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if(!initialize()) {
@@ -116,12 +118,33 @@ public class InstallFeatureMojo extends InstallFeatureSupport {
         	installFromAnt = true;
         }
 
-        if(installFromAnt) {
-            installFeaturesFromAnt(features.getFeatures());
-        } else if(util != null) {
-            util.installFeatures(features.isAcceptLicense(), new ArrayList<String>(featuresToInstall), new ArrayList<String>(platformsToInstall));
-        } 
-       
+        try (FlightRecorderEvent event = INSTALL_FEATURES_EVENT.begin(getLog())) {
+            if(installFromAnt) {
+                installFeaturesFromAnt(features.getFeatures());
+            } else if(util != null) {
+                if (containerName == null) {
+                    startFeatureArtifactPrefetch(openLibertyVersion, featuresToInstall, platformsToInstall, pluginListedEsas);
+                }
+                try {
+                    util.installFeatures(features.isAcceptLicense(), new ArrayList<String>(featuresToInstall), new ArrayList<String>(platformsToInstall));
+                    if (featureArtifactPrefetch != null) {
+                        featureArtifactPrefetch.record();
+                    }
+                } finally {
+                    featureArtifactPrefetch = null;
+                }
+            }
+            if (event.isEnabled()) {
+                Set<String> installed = new TreeSet<String>(featuresToInstall);
+                if (installFromAnt) {
+                    for (Feature feature : features.getFeatures()) {
+                        installed.add(feature.getFeature());
+                    }
+                }
+                event.set("features", String.join(",", installed)).set("platforms", String.join(",", new TreeSet<String>(platformsToInstall)))
+                        .set("featureCount", installed.size());
+            }
+        }
     }
 
     @SuppressWarnings("deprecation")
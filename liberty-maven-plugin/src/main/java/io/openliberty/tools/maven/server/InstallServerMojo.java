@@ -26,7 +26,7 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 public class InstallServerMojo extends PluginConfigSupport {
    
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
@@ -44,7 +44,7 @@ public class JavaDumpServerMojo extends StartDebugMojoSupport {
     private boolean systemDump;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
@@ -126,7 +126,7 @@ public class PackageServerMojo extends StartDebugMojoSupport {
     protected boolean skipLibertyPackage = false;
        
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         // Set default outputDirectory to liberty-alt-output-dir for package goal.
@@ -35,7 +35,7 @@ import io.openliberty.tools.maven.PrepareFeatureSupport;
 public class PrepareFeatureMojo extends PrepareFeatureSupport {
 	    
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
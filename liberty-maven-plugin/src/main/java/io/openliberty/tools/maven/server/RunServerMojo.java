@@ -46,7 +46,7 @@ public class RunServerMojo extends PluginConfigSupport {
     private boolean embedded;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
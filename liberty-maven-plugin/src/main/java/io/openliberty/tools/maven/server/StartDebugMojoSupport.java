@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -42,6 +43,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
@@ -65,6 +67,8 @@ import io.openliberty.tools.common.plugins.config.ServerConfigXmlDocument;
 import io.openliberty.tools.maven.ServerFeatureSupport;
 import io.openliberty.tools.maven.applications.LooseWarApplication;
 import io.openliberty.tools.maven.utils.ExecuteMojoUtil;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent.Field;
 
 /**
  * Start/Debug server support.
@@ -77,6 +81,13 @@ public abstract class StartDebugMojoSupport extends ServerFeatureSupport {
     private static final String LATE_PROP_RESOLUTION_SYNTAX = "@\\{(.+?)\\}";
     private static final Pattern LATE_PROP_PATTERN = Pattern.compile(LATE_PROP_RESOLUTION_SYNTAX);
 
+    private static final FlightRecorderEvent.Type COPY_CONFIG_FILES_EVENT = FlightRecorderEvent.type("CopyConfigFiles",
+            "Copy Config Files", "Copies and generates the server configuration files in the server directory",
+            Field.text("serverDirectory", "Server Directory"), Field.count("configDirectoryFiles", "Config Directory Files"));
+    private static final FlightRecorderEvent.Type COPY_DEPENDENCIES_EVENT = FlightRecorderEvent.type("CopyDependencies",
+            "Copy Dependencies", "Copies the dependencies of the copyDependencies configuration to the server",
+            Field.count("artifacts", "Artifacts Copied"), Field.bytes("bytes", "Bytes Copied"));
+
     private boolean configFilesCopied = false;
 
     protected final String PLUGIN_VARIABLE_CONFIG_OVERRIDES_XML = "configDropins/overrides/liberty-plugin-variable-config.xml";
@@ -310,6 +321,25 @@ public abstract class StartDebugMojoSupport extends ServerFeatureSupport {
     }
 
     private void copyDependencies() throws MojoExecutionException, IOException {
+        if (copyDependencies != null) {
+            try (FlightRecorderEvent event = COPY_DEPENDENCIES_EVENT.begin(getLog())) {
+                Set<Artifact> copied = copyConfiguredDependencies();
+                if (event.isEnabled()) {
+                    long bytes = 0;
+                    for (Artifact artifact : copied) {
+                        bytes += artifact.getFile().length();
+                    }
+                    event.set("artifacts", copied.size()).set("bytes", bytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the artifacts that were copied
+     */
+    private Set<Artifact> copyConfiguredDependencies() throws MojoExecutionException, IOException {
+        Set<Artifact> copied = new HashSet<Artifact>();
         if (copyDependencies != null) {
             List<Dependency> deps = copyDependencies.getDependencies();
             boolean defaultStripVersion = copyDependencies.isStripVersion();
@@ -341,7 +371,7 @@ public abstract class StartDebugMojoSupport extends ServerFeatureSupport {
                 // Resolve property references in dependency coordinates
                 resolveDependencyPropertyReferences(dep);
 
-                copyDependencies(dep, null, dftLocationPath, defaultStripVersion);                
+                copied.addAll(copyDependencies(dep, null, dftLocationPath, defaultStripVersion));
             }
 
             List<DependencyGroup> depGroups = copyDependencies.getDependencyGroups();
@@ -364,14 +394,15 @@ public abstract class StartDebugMojoSupport extends ServerFeatureSupport {
                     // Resolve property references in dependency coordinates
                     resolveDependencyPropertyReferences(dep);
 
-                    copyDependencies(dep, overrideLocation, dftLocationPath, stripVersion);                
+                    copied.addAll(copyDependencies(dep, overrideLocation, dftLocationPath, stripVersion));
                 }
             }
 
         }
+        return copied;
     }
 
-    private void copyDependencies(Dependency dep, String overrideLocation, String defaultLocation, boolean stripVersion) throws MojoExecutionException, IOException {
+    private Set<Artifact> copyDependencies(Dependency dep, String overrideLocation, String defaultLocation, boolean stripVersion) throws MojoExecutionException, IOException {
 
         String location = defaultLocation;
 
@@ -429,6 +460,7 @@ public abstract class StartDebugMojoSupport extends ServerFeatureSupport {
                 getLog().info("copyDependencies copied file "+nextFile.getName()+" to location "+location+"/"+targetFileName+".");
             }
         }
+        return artifactsToCopy;
     }
 
     private void resolveDependencyPropertyReferences(Dependency dep) {
@@ -454,6 +486,25 @@ public abstract class StartDebugMojoSupport extends ServerFeatureSupport {
      * @throws MojoExecutionException
      */
     protected void copyConfigFiles() throws IOException, MojoExecutionException {
+        try (FlightRecorderEvent event = COPY_CONFIG_FILES_EVENT.begin(getLog())) {
+            if (event.isEnabled()) {
+                event.set("serverDirectory", serverDirectory.getPath());
+                if (configDirectory != null && configDirectory.isDirectory()) {
+                    try (Stream<Path> files = Files.walk(configDirectory.toPath())) {
+                        event.set("configDirectoryFiles", files.filter(Files::isRegularFile).count());
+                    }
+                }
+            }
+            copyServerConfigFiles();
+        }
+
+        configFilesCopied = true;
+
+        // Now process the copyDependencies configuration
+        copyDependencies();
+    }
+
+    private void copyServerConfigFiles() throws IOException, MojoExecutionException {
 
         String jvmOptionsPath = null;
         String bootStrapPropertiesPath = null;
@@ -631,11 +682,6 @@ public abstract class StartDebugMojoSupport extends ServerFeatureSupport {
             getLog().info(MessageFormat.format(messages.getString("info.server.start.update.config"),
                 "server.env", serverEnvPath));
         }
-
-        configFilesCopied = true;
-
-        // Now process the copyDependencies configuration
-        copyDependencies();
     }
 
     /**
@@ -1080,11 +1126,24 @@ public abstract class StartDebugMojoSupport extends ServerFeatureSupport {
      * @param artifactToUpdate
      */
     protected void updateArtifactPathToOutputDirectory(MavenProject mavenProject, Artifact artifactToUpdate) {
+        updateArtifactPathToOutputDirectory(new File(mavenProject.getBuild().getDirectory()),
+                new File(mavenProject.getBuild().getOutputDirectory()), artifactToUpdate);
+    }
+
+    /**
+     * Same as {@link #updateArtifactPathToOutputDirectory(MavenProject,Artifact)}, for a module
+     * whose model is not at hand.
+     * 
+     * @param buildDirectory the build directory of the module
+     * @param outputDirectory the build output directory of the module
+     * @param artifactToUpdate
+     */
+    protected void updateArtifactPathToOutputDirectory(File buildDirectory, File outputDirectory, Artifact artifactToUpdate) {
         Path outputDir = null; 
         if (artifactToUpdate.getType().equals("ear")) {
-            outputDir = Paths.get(mavenProject.getBuild().getDirectory());
+            outputDir = buildDirectory.toPath();
         } else {
-            outputDir = Paths.get(mavenProject.getBuild().getOutputDirectory());
+            outputDir = outputDirectory.toPath();
         }
 
         try {
@@ -24,6 +24,8 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 
 import io.openliberty.tools.ant.ServerTask;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent;
+import io.openliberty.tools.maven.utils.FlightRecorderEvent.Field;
 
 /**
  * Start a liberty server
@@ -32,6 +34,10 @@ import io.openliberty.tools.ant.ServerTask;
 
 public class StartServerMojo extends StartDebugMojoSupport {
 
+    private static final FlightRecorderEvent.Type START_SERVER_EVENT = FlightRecorderEvent.type("StartServer",
+            "Start Server", "Starts the server and waits for the configured applications to start",
+            Field.text("serverName", "Server Name"), Field.text("applications", "Applications"));
+
     /**
      * Time in seconds to wait while verifying that the server has started.
      */
@@ -63,7 +69,7 @@ public class StartServerMojo extends StartDebugMojoSupport {
     private boolean embedded;
    
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
@@ -100,8 +106,14 @@ public class StartServerMojo extends StartDebugMojoSupport {
             serverStartTimeout = 30;
         }
         serverTask.setTimeout(Long.toString(serverStartTimeout * 1000));
-        serverTask.execute();
+        try (FlightRecorderEvent event = START_SERVER_EVENT.begin(getLog())) {
+            event.set("serverName", serverName).set("applications", applications);
+            serverTask.execute();
+            verifyApplicationsStarted(serverTask);
+        }
+    }
 
+    private void verifyApplicationsStarted(ServerTask serverTask) throws MojoExecutionException {
         if (verifyTimeout < 0) {
             verifyTimeout = 30;
         }
@@ -36,7 +36,7 @@ public class StopServerMojo extends StartDebugMojoSupport {
     private boolean embedded;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
         if (skip) {
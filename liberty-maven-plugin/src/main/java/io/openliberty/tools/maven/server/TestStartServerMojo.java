@@ -30,7 +30,7 @@ public class TestStartServerMojo extends StartServerMojo {
     private boolean skipTestServer;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         
         String mavenSkipTest = System.getProperty( "maven.test.skip" );
         String skipTests = System.getProperty( "skipTests" );
@@ -42,6 +42,6 @@ public class TestStartServerMojo extends StartServerMojo {
             getLog().info("\nSkipping test-start goal.\n");
             return;
         }
-        super.execute();
+        super.doExecute();
     }
 }
@@ -30,7 +30,7 @@ public class TestStopServerMojo extends StopServerMojo {
     private boolean skipTestServer;
     
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
          
         String mavenSkipTest = System.getProperty( "maven.test.skip" );
         String skipTests = System.getProperty( "skipTests" );
@@ -42,6 +42,6 @@ public class TestStopServerMojo extends StopServerMojo {
             getLog().info("\nSkipping test-stop goal.\n");
             return;
         }
-        super.execute();
+        super.doExecute();
     }
 }
@@ -45,7 +45,7 @@ public class UninstallFeatureMojo extends BasicSupport {
     private Features features;
 
     @Override
-    public void execute() throws MojoExecutionException {
+    protected void doExecute() throws MojoExecutionException {
         init();
 
          if (skip) {
@@ -0,0 +1,243 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Cache of the result of the binary scanner, persisted in the build directory so that
+ * generate-features only scans the classes that changed since the last scan.
+ * <p>
+ * Each scanned class is recorded with the hash of its content, and the features that the
+ * scanner generated for all the classes are recorded with them. The cache only applies
+ * to scans with the same context, such as the EE and MicroProfile versions and the
+ * features that the user specified. The features are not recorded per class, so a class
+ * that changed or was removed may have needed features that no other class needs. When
+ * classes were only added, the features generated for the existing classes are passed to
+ * the scanner along with the added classes only.
+ */
+public class BinaryScanCache {
+
+    private static final String CONTEXT_KEY = "context";
+    private static final String FEATURES_KEY = "features";
+    private static final String CLASS_PREFIX = "class.";
+
+    private final File file;
+    private final String context;
+    private final Log log;
+    private final Properties entries = new Properties();
+
+    /**
+     * Loads the cache from the given file, if it exists and was recorded in the same
+     * context.
+     *
+     * @param file the cache file
+     * @param context a string identifying the scan, such as the versions passed to the
+     *            scanner and the features specified by the user
+     * @param log the logger
+     */
+    public BinaryScanCache(File file, String context, Log log) {
+        this.file = file;
+        this.context = context;
+        this.log = log;
+        if (file.isFile()) {
+            try (InputStream in = new FileInputStream(file)) {
+                entries.load(in);
+            } catch (IOException e) {
+                log.debug("Could not read the binary scanner cache from " + file + ": " + e.getMessage());
+                entries.clear();
+            }
+            if (!context.equals(entries.getProperty(CONTEXT_KEY))) {
+                log.debug("The binary scanner cache " + file + " was recorded for a different scan");
+                entries.clear();
+            }
+        }
+    }
+
+    /**
+     * The classes of a scan compared with the classes of the cached scan.
+     */
+    public static class Delta {
+        private final Set<String> features;
+        private final List<String> changedClasses = new ArrayList<String>();
+        private final Map<String, String> classes = new HashMap<String, String>();
+        private int modifiedClasses;
+        private int removedClasses;
+
+        private Delta(Set<String> features) {
+            this.features = features;
+        }
+
+        /**
+         * @return whether the cached features and the changed classes are enough to
+         *         generate the features, that is a scan is cached and classes were only
+         *         added
+         */
+        public boolean isIncremental() {
+            return features != null && modifiedClasses == 0 && removedClasses == 0;
+        }
+
+        /**
+         * @return the features generated by the cached scan
+         */
+        public Set<String> getCachedFeatures() {
+            return features;
+        }
+
+        /**
+         * @return the paths of the classes that were added or changed since the cached scan
+         */
+        public List<String> getChangedClasses() {
+            return changedClasses;
+        }
+
+        public int getModifiedClasses() {
+            return modifiedClasses;
+        }
+
+        public int getRemovedClasses() {
+            return removedClasses;
+        }
+    }
+
+    /**
+     * Compares the classes under the given directories with the classes of the cached
+     * scan.
+     *
+     * @param directories the classes directories that are scanned
+     * @return the delta, which is recorded with the features once the scan completes
+     */
+    public synchronized Delta compare(Collection<String> directories) {
+        String cachedFeatures = entries.getProperty(FEATURES_KEY);
+        Delta delta = new Delta(cachedFeatures == null ? null : split(cachedFeatures));
+        for (String directory : new TreeSet<String>(directories)) {
+            addClasses(delta, new File(directory));
+        }
+        for (String key : entries.stringPropertyNames()) {
+            if (key.startsWith(CLASS_PREFIX) && !delta.classes.containsKey(key.substring(CLASS_PREFIX.length()))) {
+                delta.removedClasses++;
+            }
+        }
+        log.debug("Binary scanner cache: " + delta.classes.size() + " classes, " + (delta.changedClasses.size() - delta.modifiedClasses)
+                + " added, " + delta.modifiedClasses + " modified, " + delta.removedClasses + " removed");
+        return delta;
+    }
+
+    /**
+     * Records the result of a scan of the classes of the given delta.
+     *
+     * @param delta the delta that the scan was run for
+     * @param features the features generated by the scanner
+     */
+    public synchronized void record(Delta delta, Set<String> features) {
+        entries.clear();
+        entries.setProperty(CONTEXT_KEY, context);
+        entries.setProperty(FEATURES_KEY, String.join(",", new TreeSet<String>(features)));
+        for (Map.Entry<String, String> entry : delta.classes.entrySet()) {
+            entries.setProperty(CLASS_PREFIX + entry.getKey(), entry.getValue());
+        }
+        save();
+    }
+
+    private void addClasses(Delta delta, File f) {
+        if (f.isDirectory()) {
+            String[] children = f.list();
+            if (children != null) {
+                Arrays.sort(children);
+                for (String child : children) {
+                    addClasses(delta, new File(f, child));
+                }
+            }
+        } else if (f.isFile() && f.getName().endsWith(".class")) {
+            String path = f.getAbsolutePath();
+            String recorded = entries.getProperty(CLASS_PREFIX + path);
+            // only hash the content again if the size or time stamp of the file changed
+            String stamp = f.length() + ":" + f.lastModified() + ":";
+            String entry;
+            if (recorded != null && recorded.startsWith(stamp)) {
+                entry = recorded;
+            } else {
+                entry = stamp + hash(f);
+                if (recorded == null) {
+                    delta.changedClasses.add(path);
+                } else if (!hashOf(recorded).equals(hashOf(entry))) {
+                    delta.changedClasses.add(path);
+                    delta.modifiedClasses++;
+                }
+            }
+            delta.classes.put(path, entry);
+        }
+    }
+
+    private static String hashOf(String entry) {
+        return entry.substring(entry.lastIndexOf(':') + 1);
+    }
+
+    private String hash(File f) {
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(f.toPath()))) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.debug("Could not hash " + f + ": " + e.getMessage());
+            // a class that cannot be read is always scanned again
+            return "unreadable-" + System.nanoTime();
+        }
+    }
+
+    private static Set<String> split(String features) {
+        Set<String> set = new TreeSet<String>();
+        if (!features.isEmpty()) {
+            Collections.addAll(set, features.split(","));
+        }
+        return set;
+    }
+
+    private void save() {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            log.debug("Could not create directory " + parent + " for the binary scanner cache");
+            return;
+        }
+        try (OutputStream out = new FileOutputStream(file)) {
+            entries.store(out, "Liberty binary scanner cache");
+        } catch (IOException e) {
+            log.debug("Could not write the binary scanner cache to " + file + ": " + e.getMessage());
+        }
+    }
+}
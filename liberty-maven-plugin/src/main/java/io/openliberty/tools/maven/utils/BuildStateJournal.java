@@ -0,0 +1,167 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Properties;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Journal of the fingerprints of the inputs and outputs of the steps that dev mode runs
+ * on startup, persisted in the build directory so that a later dev mode session can skip
+ * the steps whose files did not change since they last completed.
+ * <p>
+ * A fingerprint covers the path, size and modification time of every file under the
+ * given files and directories, plus a context string that identifies the configuration
+ * the steps ran with. A step is recorded after it completes, so its fingerprint includes
+ * the files that it wrote.
+ */
+public class BuildStateJournal {
+
+    private final File file;
+    private final String context;
+    private final Log log;
+    private final Properties fingerprints = new Properties();
+
+    /**
+     * Loads the journal from the given file, if it exists.
+     *
+     * @param file the journal file
+     * @param context a string identifying the configuration of the steps, such as the
+     *            plugin version and the user properties. All steps are out of date when
+     *            it differs from the context they were recorded with.
+     * @param log the logger
+     */
+    public BuildStateJournal(File file, String context, Log log) {
+        this.file = file;
+        this.context = context;
+        this.log = log;
+        if (file.isFile()) {
+            try (InputStream in = new FileInputStream(file)) {
+                fingerprints.load(in);
+            } catch (IOException e) {
+                log.debug("Could not read dev mode build state from " + file + ": " + e.getMessage());
+                fingerprints.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the given step was recorded with the same files as it would be now.
+     *
+     * @param step the step name
+     * @param files the files and directories the step reads and writes
+     * @return true if the step does not need to run again
+     */
+    public synchronized boolean isUpToDate(String step, Collection<File> files) {
+        String recorded = fingerprints.getProperty(step);
+        if (recorded == null) {
+            log.debug("No recorded build state for step " + step);
+            return false;
+        }
+        boolean upToDate = recorded.equals(fingerprint(files));
+        log.debug("Recorded build state for step " + step + (upToDate ? " is up to date" : " is out of date"));
+        return upToDate;
+    }
+
+    /**
+     * Records the current state of the files of a step that completed successfully.
+     *
+     * @param step the step name
+     * @param files the files and directories the step reads and writes
+     */
+    public synchronized void record(String step, Collection<File> files) {
+        fingerprints.setProperty(step, fingerprint(files));
+        save();
+    }
+
+    /**
+     * Removes the recorded state of a step, so that it runs on the next startup.
+     *
+     * @param step the step name
+     */
+    public synchronized void invalidate(String step) {
+        if (fingerprints.remove(step) != null) {
+            save();
+        }
+    }
+
+    private void save() {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            log.debug("Could not create directory " + parent + " for the dev mode build state");
+            return;
+        }
+        try (OutputStream out = new FileOutputStream(file)) {
+            fingerprints.store(out, "Liberty dev mode build state");
+        } catch (IOException e) {
+            log.debug("Could not write dev mode build state to " + file + ": " + e.getMessage());
+        }
+    }
+
+    private String fingerprint(Collection<File> files) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, context);
+        for (File f : files) {
+            update(digest, f.getAbsolutePath());
+            addFile(digest, f, "");
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static void addFile(MessageDigest digest, File f, String relativePath) {
+        if (f.isDirectory()) {
+            update(digest, relativePath + "/");
+            String[] children = f.list();
+            if (children == null) {
+                return;
+            }
+            Arrays.sort(children);
+            for (String child : children) {
+                addFile(digest, new File(f, child), relativePath + "/" + child);
+            }
+        } else if (f.isFile()) {
+            update(digest, relativePath + ":" + f.length() + ":" + f.lastModified());
+        } else {
+            update(digest, relativePath + ":missing");
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
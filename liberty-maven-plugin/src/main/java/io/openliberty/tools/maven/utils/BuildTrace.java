@@ -0,0 +1,297 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Records a timeline of the Liberty goals run by a build and of the stages within them,
+ * and writes it as a Chrome trace event file that can be opened in Perfetto or
+ * chrome://tracing. Each reactor module is shown as a process and each thread as a
+ * thread of that process.
+ * <p>
+ * A goal is traced with {@link #beginGoal}. The stages that run on the thread of a goal,
+ * or on threads started by it, are traced with {@link #beginStage} and are shown in the
+ * lane of the module of the goal. Stages outside of a traced goal are ignored.
+ */
+public class BuildTrace {
+
+    private static final String SESSION_KEY = BuildTrace.class.getName();
+    private static final long WRITE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final Span NO_SPAN = new Span(null, null, null, null, 0);
+    private static final InheritableThreadLocal<Lane> currentLane = new InheritableThreadLocal<Lane>();
+
+    private final File traceFile;
+    private final Log log;
+    private final long originNanos = System.nanoTime();
+    private final long originMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    private final Map<String, Integer> modules = new LinkedHashMap<String, Integer>();
+    private final Map<String, String> threads = new LinkedHashMap<String, String>();
+    private final List<String> events = new ArrayList<String>();
+    private long lastWriteNanos;
+
+    private BuildTrace(File traceFile, Log log) {
+        this.traceFile = traceFile;
+        this.log = log;
+    }
+
+    /**
+     * A traced goal or stage, which ends when it is closed.
+     */
+    public static class Span implements AutoCloseable {
+        private final BuildTrace trace;
+        private final Lane lane;
+        private final Lane previousLane;
+        private final String name;
+        private final long startMicros;
+        private final Map<String, Object> args = new LinkedHashMap<String, Object>();
+        private boolean closed;
+
+        private Span(BuildTrace trace, Lane lane, Lane previousLane, String name, long startMicros) {
+            this.trace = trace;
+            this.lane = lane;
+            this.previousLane = previousLane;
+            this.name = name;
+            this.startMicros = startMicros;
+        }
+
+        /**
+         * @return whether the span is recorded
+         */
+        public boolean isActive() {
+            return trace != null;
+        }
+
+        /**
+         * Adds an argument that is shown with the span.
+         *
+         * @param key the name of the argument
+         * @param value a string or a number
+         * @return this span
+         */
+        public Span arg(String key, Object value) {
+            if (trace != null && value != null) {
+                args.put(key, value);
+            }
+            return this;
+        }
+
+        @Override
+        public void close() {
+            if (trace == null || closed) {
+                return;
+            }
+            closed = true;
+            trace.complete(lane, name, startMicros, trace.nowMicros() - startMicros, args);
+            if (lane.category.equals("goal")) {
+                currentLane.set(previousLane);
+                trace.write();
+            } else {
+                // a goal such as dev runs until the build is stopped
+                trace.writeIfStale();
+            }
+        }
+    }
+
+    private static class Lane {
+        private final BuildTrace trace;
+        private final int pid;
+        private final String category;
+
+        private Lane(BuildTrace trace, int pid, String category) {
+            this.trace = trace;
+            this.pid = pid;
+            this.category = category;
+        }
+    }
+
+    /**
+     * Begins tracing a goal of a module on the current thread. A goal that another
+     * traced goal runs, such as dev mode running a goal of the plugin, is shown as a
+     * stage of that goal.
+     *
+     * @param session the Maven session, which the trace of the build is kept in
+     * @param traceFile the trace file, or null to not trace the goal
+     * @param module the name of the reactor module
+     * @param goal the name of the goal, such as liberty:deploy
+     * @param log the logger
+     * @return the span to close when the goal ends
+     */
+    public static Span beginGoal(MavenSession session, File traceFile, String module, String goal, Log log) {
+        Lane outer = currentLane.get();
+        if (outer != null) {
+            return beginStage(goal);
+        }
+        if (traceFile == null) {
+            return NO_SPAN;
+        }
+        BuildTrace trace = getInstance(session, traceFile, log);
+        Lane lane = new Lane(trace, trace.getModulePid(module), "goal");
+        currentLane.set(lane);
+        return new Span(trace, lane, null, goal, trace.nowMicros());
+    }
+
+    /**
+     * Begins tracing a stage of the traced goal of the current thread.
+     *
+     * @param name the name of the stage
+     * @return the span to close when the stage ends, which does nothing if no goal is traced
+     */
+    public static Span beginStage(String name) {
+        Lane goalLane = currentLane.get();
+        if (goalLane == null) {
+            return NO_SPAN;
+        }
+        Lane lane = new Lane(goalLane.trace, goalLane.pid, "stage");
+        return new Span(goalLane.trace, lane, goalLane, name, goalLane.trace.nowMicros());
+    }
+
+    /**
+     * Records a stage of the traced goal of the current thread that already ended.
+     *
+     * @param name the name of the stage
+     * @param startMillis the start of the stage, in milliseconds since the epoch
+     * @param durationNanos the duration of the stage
+     */
+    public static void recordStage(String name, long startMillis, long durationNanos) {
+        Lane goalLane = currentLane.get();
+        if (goalLane != null) {
+            Lane lane = new Lane(goalLane.trace, goalLane.pid, "stage");
+            goalLane.trace.complete(lane, name, TimeUnit.MILLISECONDS.toMicros(startMillis), TimeUnit.NANOSECONDS.toMicros(durationNanos),
+                    new LinkedHashMap<String, Object>());
+            goalLane.trace.writeIfStale();
+        }
+    }
+
+    private static BuildTrace getInstance(MavenSession session, File traceFile, Log log) {
+        SessionData data = session.getRepositorySession().getData();
+        String key = SESSION_KEY + ":" + traceFile.getAbsolutePath();
+        synchronized (data) {
+            Object trace = data.get(key);
+            if (trace instanceof BuildTrace) {
+                return (BuildTrace) trace;
+            }
+            BuildTrace newTrace = new BuildTrace(traceFile, log);
+            if (trace == null) {
+                // a trace from another version of the plugin is left in place
+                data.set(key, newTrace);
+            }
+            return newTrace;
+        }
+    }
+
+    private long nowMicros() {
+        return originMicros + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - originNanos);
+    }
+
+    private synchronized int getModulePid(String module) {
+        Integer pid = modules.get(module);
+        if (pid == null) {
+            pid = modules.size() + 1;
+            modules.put(module, pid);
+        }
+        return pid;
+    }
+
+    private synchronized void complete(Lane lane, String name, long startMicros, long durationMicros, Map<String, Object> args) {
+        Thread thread = Thread.currentThread();
+        threads.put(lane.pid + ":" + thread.getId(), thread.getName());
+        StringBuilder event = new StringBuilder("{\"name\":").append(quote(name));
+        event.append(",\"cat\":").append(quote(lane.category));
+        event.append(",\"ph\":\"X\",\"ts\":").append(startMicros).append(",\"dur\":").append(Math.max(0, durationMicros));
+        event.append(",\"pid\":").append(lane.pid).append(",\"tid\":").append(thread.getId());
+        if (!args.isEmpty()) {
+            event.append(",\"args\":{");
+            String separator = "";
+            for (Map.Entry<String, Object> arg : args.entrySet()) {
+                Object value = arg.getValue();
+                event.append(separator).append(quote(arg.getKey())).append(':')
+                        .append(value instanceof Number ? value.toString() : quote(value.toString()));
+                separator = ",";
+            }
+            event.append('}');
+        }
+        events.add(event.append('}').toString());
+    }
+
+    private synchronized void writeIfStale() {
+        if (System.nanoTime() - lastWriteNanos >= WRITE_INTERVAL_NANOS) {
+            write();
+        }
+    }
+
+    /**
+     * Writes the events recorded so far, replacing the trace file.
+     */
+    private synchronized void write() {
+        lastWriteNanos = System.nanoTime();
+        StringBuilder json = new StringBuilder("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        String separator = "\n";
+        for (Map.Entry<String, Integer> module : modules.entrySet()) {
+            json.append(separator).append("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":").append(module.getValue())
+                    .append(",\"args\":{\"name\":").append(quote(module.getKey())).append("}}");
+            separator = ",\n";
+            json.append(separator).append("{\"name\":\"process_sort_index\",\"ph\":\"M\",\"pid\":").append(module.getValue())
+                    .append(",\"args\":{\"sort_index\":").append(module.getValue()).append("}}");
+        }
+        for (Map.Entry<String, String> thread : threads.entrySet()) {
+            String[] lane = thread.getKey().split(":");
+            json.append(separator).append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":").append(lane[0]).append(",\"tid\":")
+                    .append(lane[1]).append(",\"args\":{\"name\":").append(quote(thread.getValue())).append("}}");
+        }
+        for (String event : events) {
+            json.append(separator).append(event);
+        }
+        json.append("\n]}\n");
+        try {
+            File parent = traceFile.getAbsoluteFile().getParentFile();
+            parent.mkdirs();
+            // replace the file at once, so that a viewer never reads a partial trace
+            File temp = new File(parent, traceFile.getName() + ".tmp");
+            Files.write(temp.toPath(), json.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp.toPath(), traceFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Unable to write the build trace to " + traceFile + ": " + e.getMessage());
+        }
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
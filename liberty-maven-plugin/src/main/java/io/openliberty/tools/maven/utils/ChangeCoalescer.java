@@ -0,0 +1,157 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Coalesces the actions that dev mode takes in response to file changes into batches.
+ * <p>
+ * An action is submitted under a key, and a batch runs once no action was submitted for
+ * a quiet period. An action submitted under the same key as a pending action replaces
+ * it, so a batch runs each kind of action at most once, in the order given when they
+ * were submitted. The quiet period adapts to the pace of the changes: it is twice the
+ * longest gap seen between the submissions of the pending batch, bounded by a minimum
+ * and a maximum, so that a burst of changes spread over time, such as an IDE saving the
+ * files of a refactoring, is processed as a single batch.
+ * <p>
+ * Batches run on a single background thread while holding the work lock, which other
+ * work, such as compilation, can hold to avoid running at the same time as a batch.
+ */
+public class ChangeCoalescer {
+
+    private static class Action {
+        private final int order;
+        private final Runnable runnable;
+
+        private Action(int order, Runnable runnable) {
+            this.order = order;
+            this.runnable = runnable;
+        }
+    }
+
+    private final long minQuietMillis;
+    private final long maxQuietMillis;
+    private final Log log;
+    private final Object workLock = new Object();
+    private final Map<String, Action> pending = new LinkedHashMap<String, Action>();
+    private final ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledBatch;
+    private long lastSubmitMillis;
+    private long longestGapMillis;
+
+    /**
+     * @param minQuietMillis the minimum time without submissions before a batch runs
+     * @param maxQuietMillis the maximum time without submissions before a batch runs
+     * @param log the logger
+     */
+    public ChangeCoalescer(long minQuietMillis, long maxQuietMillis, Log log) {
+        this.minQuietMillis = Math.max(0, minQuietMillis);
+        this.maxQuietMillis = Math.max(this.minQuietMillis, maxQuietMillis);
+        this.log = log;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "liberty-dev-changes");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits an action to the pending batch, replacing any pending action with the same key.
+     *
+     * @param key the kind of the action
+     * @param order the position of the action in the batch, lower values running first
+     * @param action the action
+     */
+    public synchronized void submit(String key, int order, Runnable action) {
+        long now = System.currentTimeMillis();
+        if (pending.isEmpty()) {
+            longestGapMillis = 0;
+        } else {
+            longestGapMillis = Math.max(longestGapMillis, now - lastSubmitMillis);
+        }
+        lastSubmitMillis = now;
+        pending.put(key, new Action(order, action));
+        if (scheduledBatch != null) {
+            scheduledBatch.cancel(false);
+        }
+        long quietMillis = getQuietMillis();
+        log.debug("Pending changes: " + pending.keySet() + ", processing after " + quietMillis + " ms without further changes");
+        scheduledBatch = scheduler.schedule(this::runBatch, quietMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the quiet period for the pending batch, in milliseconds
+     */
+    synchronized long getQuietMillis() {
+        return Math.min(maxQuietMillis, Math.max(minQuietMillis, 2 * longestGapMillis));
+    }
+
+    /**
+     * @return true if actions are waiting for the quiet period to end
+     */
+    public synchronized boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * @return the lock held while a batch runs
+     */
+    public Object getWorkLock() {
+        return workLock;
+    }
+
+    /**
+     * Discards the pending actions and stops the background thread.
+     */
+    public synchronized void close() {
+        pending.clear();
+        scheduler.shutdownNow();
+    }
+
+    private void runBatch() {
+        List<Action> actions;
+        synchronized (this) {
+            actions = new ArrayList<Action>(pending.values());
+            pending.clear();
+            scheduledBatch = null;
+        }
+        if (actions.isEmpty()) {
+            return;
+        }
+        Collections.sort(actions, Comparator.comparingInt(a -> a.order));
+        synchronized (workLock) {
+            for (Action action : actions) {
+                try {
+                    action.runnable.run();
+                } catch (RuntimeException e) {
+                    log.error("An error occurred while processing file changes", e);
+                }
+            }
+        }
+    }
+}
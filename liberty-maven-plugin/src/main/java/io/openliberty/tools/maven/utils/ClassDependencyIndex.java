@@ -0,0 +1,567 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Index of the types referenced by compiled classes, built from the constant pool of
+ * the class files in one or more classes output directories.
+ * <p>
+ * Every scan of an output directory records the types whose class file content has
+ * changed, was added or was removed. A source file is considered affected if it has
+ * not been compiled yet, has been modified after its classes were written, or if one
+ * of its classes references a type (or a subtype of a type) that changed after the
+ * class was indexed.
+ * <p>
+ * The compiler inlines the values of constant fields into the classes that use them,
+ * which then do not reference the type of the field. Once the value of a constant field
+ * changed, every source file whose classes were indexed before the change is therefore
+ * considered affected.
+ */
+public class ClassDependencyIndex {
+
+    private final Log log;
+    private final Map<String, ClassEntry> classes = new HashMap<String, ClassEntry>();
+    private final Map<String, Long> changedTypes = new HashMap<String, Long>();
+    private final Set<File> scannedDirectories = new HashSet<File>();
+    private long generation = 0;
+    private long constantsChanged = 0;
+
+    public ClassDependencyIndex(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Scans the class files of the given output directory. The first scan of a directory
+     * only records the current state, later scans record the types that changed.
+     *
+     * @param classesDirectory the classes output directory
+     * @return the internal names of the types that changed since the previous scan
+     */
+    public synchronized Set<String> scan(File classesDirectory) {
+        boolean initialScan = scannedDirectories.add(classesDirectory);
+        generation++;
+
+        Map<String, File> classFiles = new HashMap<String, File>();
+        collectClassFiles(classesDirectory, "", classFiles);
+
+        Set<String> changed = new HashSet<String>();
+        Iterator<Map.Entry<String, ClassEntry>> it = classes.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, ClassEntry> entry = it.next();
+            if (entry.getValue().classesDirectory.equals(classesDirectory) && !classFiles.containsKey(entry.getKey())) {
+                it.remove();
+                changed.add(entry.getKey());
+                if (!entry.getValue().constants.isEmpty()) {
+                    constantsChanged = generation;
+                }
+            }
+        }
+
+        for (Map.Entry<String, File> classFile : classFiles.entrySet()) {
+            String className = classFile.getKey();
+            File file = classFile.getValue();
+            ClassEntry existing = classes.get(className);
+            if (existing != null && existing.lastModified == file.lastModified() && existing.length == file.length()) {
+                continue;
+            }
+            try {
+                byte[] bytes = Files.readAllBytes(file.toPath());
+                CRC32 crc = new CRC32();
+                crc.update(bytes, 0, bytes.length);
+                if (existing != null && existing.checksum == crc.getValue()) {
+                    existing.lastModified = file.lastModified();
+                    existing.length = file.length();
+                    existing.generation = generation;
+                    continue;
+                }
+                ClassEntry entry = parse(bytes);
+                entry.classesDirectory = classesDirectory;
+                entry.lastModified = file.lastModified();
+                entry.length = file.length();
+                entry.checksum = crc.getValue();
+                // classes found by the first scan predate every recorded change
+                entry.generation = initialScan ? 0 : generation;
+                classes.put(className, entry);
+                if (!initialScan) {
+                    changed.add(className);
+                }
+                if (existing != null && !existing.constants.equals(entry.constants)) {
+                    log.debug("The constant fields of " + className + " changed");
+                    constantsChanged = generation;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Unable to read class file " + file + " for the class dependency index", e);
+                classes.remove(className);
+                changed.add(className);
+                if (existing != null && !existing.constants.isEmpty()) {
+                    constantsChanged = generation;
+                }
+            }
+        }
+
+        for (String className : changed) {
+            changedTypes.put(className, generation);
+        }
+        if (!changed.isEmpty()) {
+            log.debug("Changed types in " + classesDirectory + ": " + changed);
+        }
+        return changed;
+    }
+
+    /**
+     * Selects the source files that need to be compiled from the given candidates.
+     *
+     * @param candidates the candidate Java source files
+     * @param sourceDirectory the source directory that the candidates belong to
+     * @param classesDirectory the classes output directory of the source directory
+     * @return the affected source files, in the order of the candidates
+     */
+    public synchronized List<File> getAffectedSources(Collection<File> candidates, File sourceDirectory, File classesDirectory) {
+        Map<String, List<ClassEntry>> classesBySource = new HashMap<String, List<ClassEntry>>();
+        for (ClassEntry entry : classes.values()) {
+            if (entry.classesDirectory.equals(classesDirectory)) {
+                List<ClassEntry> entries = classesBySource.get(entry.sourcePath);
+                if (entries == null) {
+                    entries = new ArrayList<ClassEntry>();
+                    classesBySource.put(entry.sourcePath, entries);
+                }
+                entries.add(entry);
+            }
+        }
+
+        List<File> affected = new ArrayList<File>();
+        String sourceRoot = getPath(sourceDirectory);
+        for (File candidate : candidates) {
+            String path = getPath(candidate);
+            if (!path.startsWith(sourceRoot)) {
+                affected.add(candidate);
+                continue;
+            }
+            String relativePath = path.substring(sourceRoot.length()).replace(File.separatorChar, '/');
+            if (relativePath.startsWith("/")) {
+                relativePath = relativePath.substring(1);
+            }
+            List<ClassEntry> entries = classesBySource.get(relativePath);
+            if (entries == null || isAffected(candidate, entries)) {
+                affected.add(candidate);
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Returns the types of a classes output directory that are among the given types or
+     * that reference one of them, directly or through other indexed types.
+     *
+     * @param types the internal names of the types
+     * @param classesDirectory the classes output directory to return the types of
+     * @return the internal names of the dependent types in the directory
+     */
+    public synchronized Set<String> getDependentTypes(Collection<String> types, File classesDirectory) {
+        Map<String, List<String>> referrers = new HashMap<String, List<String>>();
+        for (Map.Entry<String, ClassEntry> entry : classes.entrySet()) {
+            for (String reference : entry.getValue().references) {
+                List<String> list = referrers.get(reference);
+                if (list == null) {
+                    list = new ArrayList<String>();
+                    referrers.put(reference, list);
+                }
+                list.add(entry.getKey());
+            }
+        }
+
+        Set<String> visited = new HashSet<String>(types);
+        List<String> queue = new ArrayList<String>(types);
+        while (!queue.isEmpty()) {
+            List<String> list = referrers.get(queue.remove(queue.size() - 1));
+            if (list != null) {
+                for (String referrer : list) {
+                    if (visited.add(referrer)) {
+                        queue.add(referrer);
+                    }
+                }
+            }
+        }
+
+        Set<String> dependents = new HashSet<String>();
+        for (String type : visited) {
+            ClassEntry entry = classes.get(type);
+            if (entry != null && entry.classesDirectory.equals(classesDirectory)) {
+                dependents.add(type);
+            }
+        }
+        return dependents;
+    }
+
+    private boolean isAffected(File sourceFile, List<ClassEntry> entries) {
+        long sourceModified = sourceFile.lastModified();
+        for (ClassEntry entry : entries) {
+            if (sourceModified > entry.lastModified || entry.generation < constantsChanged) {
+                return true;
+            }
+            for (String reference : entry.references) {
+                if (getChangeGeneration(reference, new HashSet<String>()) > entry.generation) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the latest generation in which the type or one of its supertypes changed.
+     */
+    private long getChangeGeneration(String type, Set<String> visited) {
+        if (!visited.add(type)) {
+            return 0;
+        }
+        Long changed = changedTypes.get(type);
+        long result = changed == null ? 0 : changed;
+        ClassEntry entry = classes.get(type);
+        if (entry != null) {
+            if (entry.superName != null) {
+                result = Math.max(result, getChangeGeneration(entry.superName, visited));
+            }
+            for (String iface : entry.interfaces) {
+                result = Math.max(result, getChangeGeneration(iface, visited));
+            }
+        }
+        return result;
+    }
+
+    private static String getPath(File file) {
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+
+    private static void collectClassFiles(File dir, String packagePath, Map<String, File> classFiles) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                collectClassFiles(file, packagePath + name + "/", classFiles);
+            } else if (name.endsWith(".class")) {
+                classFiles.put(packagePath + name.substring(0, name.length() - ".class".length()), file);
+            }
+        }
+    }
+
+    /**
+     * Reads the type references, the supertypes and the source file name of a class file.
+     */
+    static ClassEntry parse(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        int poolCount = in.readUnsignedShort();
+        String[] utf8 = new String[poolCount];
+        // the values of the constants that declarations can refer to
+        String[] constants = new String[poolCount];
+        int[] classNameIndexes = new int[poolCount];
+        int[] stringIndexes = new int[poolCount];
+        for (int i = 1; i < poolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    constants[i] = utf8[i];
+                    break;
+                case 7: // Class
+                    classNameIndexes[i] = in.readUnsignedShort();
+                    break;
+                case 8: // String
+                    stringIndexes[i] = in.readUnsignedShort();
+                    break;
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.readUnsignedShort();
+                    break;
+                case 15: // MethodHandle
+                    in.readUnsignedByte();
+                    in.readUnsignedShort();
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                    constants[i] = (tag == 3 ? "I" : "F") + Integer.toHexString(in.readInt());
+                    break;
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.readInt();
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    constants[i] = (tag == 5 ? "J" : "D") + Long.toHexString(in.readLong());
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        for (int i = 1; i < poolCount; i++) {
+            if (stringIndexes[i] != 0) {
+                constants[i] = "\"" + utf8[stringIndexes[i]] + "\"";
+            }
+        }
+
+        ClassEntry entry = new ClassEntry();
+        Set<String> classNames = new HashSet<String>();
+        for (int i = 1; i < poolCount; i++) {
+            if (classNameIndexes[i] != 0) {
+                classNames.add(utf8[classNameIndexes[i]]);
+            }
+        }
+        for (String className : classNames) {
+            addTypeReferences(className, entry.references);
+        }
+        for (String value : utf8) {
+            if (value != null && value.indexOf(';') > 0) {
+                addDescriptorReferences(value, entry.references);
+            }
+        }
+
+        int accessFlags = in.readUnsignedShort();
+        String thisName = utf8[classNameIndexes[in.readUnsignedShort()]];
+        int superIndex = in.readUnsignedShort();
+        entry.superName = superIndex == 0 ? null : utf8[classNameIndexes[superIndex]];
+        int interfaceCount = in.readUnsignedShort();
+        for (int i = 0; i < interfaceCount; i++) {
+            entry.interfaces.add(utf8[classNameIndexes[in.readUnsignedShort()]]);
+        }
+        entry.references.remove(thisName);
+
+        StringBuilder schema = new StringBuilder();
+        schema.append(Integer.toHexString(accessFlags)).append(' ').append(thisName).append(" extends ").append(entry.superName)
+                .append(" implements ").append(entry.interfaces.isEmpty() ? "" : new TreeSet<String>(entry.interfaces));
+        // record the declarations of the fields and methods, skipping their code, to reach the class attributes
+        for (int members = 0; members < 2; members++) {
+            Set<String> declarations = new TreeSet<String>();
+            int count = in.readUnsignedShort();
+            for (int i = 0; i < count; i++) {
+                int memberAccessFlags = in.readUnsignedShort();
+                StringBuilder declaration = new StringBuilder();
+                declaration.append(utf8[in.readUnsignedShort()]).append(utf8[in.readUnsignedShort()]).append(' ')
+                        .append(Integer.toHexString(memberAccessFlags));
+                boolean constant = false;
+                int attributeCount = in.readUnsignedShort();
+                for (int j = 0; j < attributeCount; j++) {
+                    String name = utf8[in.readUnsignedShort()];
+                    int length = in.readInt();
+                    constant |= "ConstantValue".equals(name);
+                    if (!readDeclarationAttribute(name, in, constants, declaration)) {
+                        in.skipBytes(length);
+                    }
+                }
+                declarations.add(declaration.toString());
+                if (constant) {
+                    entry.constants.add(declaration.toString());
+                }
+            }
+            schema.append(members == 0 ? "\nfields " : "\nmethods ").append(declarations);
+        }
+        String sourceFile = null;
+        schema.append("\nclass");
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String name = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if ("SourceFile".equals(name)) {
+                sourceFile = utf8[in.readUnsignedShort()];
+            } else if (!readDeclarationAttribute(name, in, constants, schema)) {
+                in.skipBytes(length);
+            }
+        }
+        entry.schema = schema.toString();
+
+        int packageEnd = thisName.lastIndexOf('/');
+        String packagePath = packageEnd < 0 ? "" : thisName.substring(0, packageEnd + 1);
+        if (sourceFile == null) {
+            String simpleName = thisName.substring(packageEnd + 1);
+            int nested = simpleName.indexOf('$');
+            sourceFile = (nested > 0 ? simpleName.substring(0, nested) : simpleName) + ".java";
+        }
+        entry.sourcePath = packagePath + sourceFile;
+        return entry;
+    }
+
+    /**
+     * Returns the declarations of a class that a running JVM cannot redefine, or that a
+     * runtime only reads when the class is loaded: its modifiers, supertypes, and the
+     * names, descriptors and modifiers of its fields and methods, with their generic
+     * signatures, constant values and runtime visible annotations. Two versions of a
+     * class with the same schema differ only in the code of their methods or in their
+     * debug attributes.
+     *
+     * @param classFile the content of a class file
+     * @return the schema of the class
+     * @throws IOException if the content is not a valid class file
+     */
+    public static String getSchema(byte[] classFile) throws IOException {
+        return parse(classFile).schema;
+    }
+
+    /**
+     * Appends the value of an attribute that is part of the schema of a class.
+     *
+     * @return false if the attribute is not part of the schema and was not read
+     */
+    private static boolean readDeclarationAttribute(String name, DataInputStream in, String[] constants, StringBuilder schema)
+            throws IOException {
+        switch (name) {
+            case "Signature":
+                schema.append(" signature ").append(constants[in.readUnsignedShort()]);
+                return true;
+            case "ConstantValue":
+                schema.append(" = ").append(constants[in.readUnsignedShort()]);
+                return true;
+            case "AnnotationDefault":
+                schema.append(" default ");
+                readElementValue(in, constants, schema);
+                return true;
+            case "RuntimeVisibleAnnotations":
+                readAnnotations(in, constants, schema);
+                return true;
+            case "RuntimeVisibleParameterAnnotations":
+                int parameterCount = in.readUnsignedByte();
+                for (int i = 0; i < parameterCount; i++) {
+                    schema.append(" parameter ").append(i);
+                    readAnnotations(in, constants, schema);
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void readAnnotations(DataInputStream in, String[] constants, StringBuilder schema) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            schema.append(' ');
+            readAnnotation(in, constants, schema);
+        }
+    }
+
+    private static void readAnnotation(DataInputStream in, String[] constants, StringBuilder schema) throws IOException {
+        schema.append('@').append(constants[in.readUnsignedShort()]).append('(');
+        int pairCount = in.readUnsignedShort();
+        for (int i = 0; i < pairCount; i++) {
+            schema.append(i == 0 ? "" : ",").append(constants[in.readUnsignedShort()]).append('=');
+            readElementValue(in, constants, schema);
+        }
+        schema.append(')');
+    }
+
+    private static void readElementValue(DataInputStream in, String[] constants, StringBuilder schema) throws IOException {
+        char tag = (char) in.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                schema.append(constants[in.readUnsignedShort()]).append('.').append(constants[in.readUnsignedShort()]);
+                break;
+            case '@':
+                readAnnotation(in, constants, schema);
+                break;
+            case '[':
+                int count = in.readUnsignedShort();
+                schema.append('{');
+                for (int i = 0; i < count; i++) {
+                    schema.append(i == 0 ? "" : ",");
+                    readElementValue(in, constants, schema);
+                }
+                schema.append('}');
+                break;
+            default:
+                // a constant, a string or a class literal
+                schema.append(tag).append(constants[in.readUnsignedShort()]);
+                break;
+        }
+    }
+
+    private static void addTypeReferences(String className, Set<String> references) {
+        if (className.startsWith("[")) {
+            addDescriptorReferences(className, references);
+        } else {
+            references.add(className);
+        }
+    }
+
+    /**
+     * Adds every object type of the form Lpkg/Name; found in a descriptor or signature.
+     */
+    private static void addDescriptorReferences(String descriptor, Set<String> references) {
+        int start = descriptor.indexOf('L');
+        while (start >= 0) {
+            int end = start + 1;
+            while (end < descriptor.length()) {
+                char c = descriptor.charAt(end);
+                if (c == ';' || c == '<' || c == '.' || c == '[' || c == '(' || c == ')' || c == ' ') {
+                    break;
+                }
+                end++;
+            }
+            if (end < descriptor.length() && end > start + 1 && descriptor.charAt(end) != '[' && descriptor.charAt(end) != '(') {
+                references.add(descriptor.substring(start + 1, end));
+            }
+            start = descriptor.indexOf('L', end);
+        }
+    }
+
+    static class ClassEntry {
+        File classesDirectory;
+        long lastModified;
+        long length;
+        long checksum;
+        long generation;
+        String superName;
+        String sourcePath;
+        String schema;
+        final Set<String> interfaces = new HashSet<String>();
+        final Set<String> constants = new TreeSet<String>();
+        final Set<String> references = new HashSet<String>();
+    }
+}
@@ -0,0 +1,229 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Downloads the feature artifacts, such as the ESA files and their signatures, in batches
+ * instead of one at a time. The install kernel resolves the features first and then
+ * requests their artifacts one at a time, so each request then finds its artifact in the
+ * local repository instead of waiting for its own download. The artifacts that an install
+ * of the same features needed before are downloaded while the features are being
+ * resolved, and the artifacts of the resolved features as soon as they are known.
+ * <p>
+ * The artifacts requested by the last install are recorded under a key that identifies
+ * the features and the runtime, so that they are only downloaded in advance for an install
+ * of the same features. The record file only keeps the last install, so it does not grow.
+ */
+public class FeatureArtifactPrefetch {
+
+    /**
+     * Resolves a batch of artifacts into the local repository.
+     */
+    public interface BatchResolver {
+        /**
+         * @param coordinates the artifacts, as groupId:artifactId:type:version
+         * @throws Exception if some of the artifacts could not be resolved
+         */
+        void resolve(List<String> coordinates) throws Exception;
+    }
+
+    private final File recordFile;
+    private final String key;
+    private final Log log;
+    private final Set<String> recorded = new LinkedHashSet<String>();
+    private final Map<String, CompletableFuture<Void>> batches = new HashMap<String, CompletableFuture<Void>>();
+    private final Set<String> requested = Collections.synchronizedSet(new LinkedHashSet<String>());
+    private BatchResolver resolver;
+
+    /**
+     * Loads the artifacts recorded for the given key.
+     *
+     * @param recordFile the file that the artifacts of the last install are recorded in
+     * @param key identifies the features and the runtime they are installed to
+     * @param log the logger
+     */
+    public FeatureArtifactPrefetch(File recordFile, String key, Log log) {
+        this.recordFile = recordFile;
+        this.key = key;
+        this.log = log;
+        String recorded = load().getProperty(key);
+        if (recorded != null && !recorded.isEmpty()) {
+            Collections.addAll(this.recorded, recorded.split(","));
+        }
+    }
+
+    /**
+     * Starts downloading the recorded artifacts in the background.
+     *
+     * @param resolver resolves the batch of artifacts
+     */
+    public synchronized void start(BatchResolver resolver) {
+        this.resolver = resolver;
+        download(recorded);
+    }
+
+    /**
+     * Starts downloading the artifacts of the features that the install kernel resolved,
+     * in the background, except for those that are already being downloaded.
+     *
+     * @param resolvedFeatures the resolved features, as groupId:artifactId:version
+     * @param signatures whether the signatures of the features are downloaded too
+     */
+    public synchronized void resolved(Collection<?> resolvedFeatures, boolean signatures) {
+        List<String> coordinates = new ArrayList<String>();
+        for (Object resolvedFeature : resolvedFeatures) {
+            String[] parts = String.valueOf(resolvedFeature).split(":");
+            if (parts.length == 3) {
+                coordinates.add(parts[0] + ":" + parts[1] + ":esa:" + parts[2]);
+                if (signatures) {
+                    coordinates.add(parts[0] + ":" + parts[1] + ":esa.asc:" + parts[2]);
+                }
+            }
+        }
+        download(coordinates);
+    }
+
+    private void download(Collection<String> artifacts) {
+        if (resolver == null) {
+            return;
+        }
+        final List<String> coordinates = new ArrayList<String>();
+        for (String artifact : artifacts) {
+            if (!batches.containsKey(artifact)) {
+                coordinates.add(artifact);
+            }
+        }
+        if (coordinates.isEmpty()) {
+            return;
+        }
+        log.debug("Downloading " + coordinates.size() + " feature artifacts in a batch");
+        final BatchResolver resolver = this.resolver;
+        final CompletableFuture<Void> prefetch = new CompletableFuture<Void>();
+        for (String artifact : coordinates) {
+            batches.put(artifact, prefetch);
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                resolver.resolve(coordinates);
+            } catch (Exception e) {
+                // the artifacts that failed are requested again on their own, which reports the problem
+                log.debug("Could not download all the feature artifacts in a batch: " + e.getMessage());
+            } finally {
+                prefetch.complete(null);
+            }
+        }, "liberty-feature-prefetch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Waits for the batch that downloads the given artifact, if it is part of a batch, so
+     * that the artifact is not downloaded twice.
+     *
+     * @param coordinates the artifact, as groupId:artifactId:type:version
+     */
+    public void await(String coordinates) {
+        CompletableFuture<Void> current;
+        synchronized (this) {
+            current = batches.get(coordinates);
+        }
+        if (current != null) {
+            current.join();
+        }
+    }
+
+    /**
+     * Notes an artifact that the install requested, to download it in the batch of the
+     * next install of the same features.
+     *
+     * @param coordinates the artifact, as groupId:artifactId:type:version
+     */
+    public void requested(String coordinates) {
+        requested.add(coordinates);
+    }
+
+    /**
+     * Records the artifacts that the install requested, once it completed, in place of the
+     * record of the previous install.
+     */
+    public void record() {
+        String value;
+        synchronized (requested) {
+            value = String.join(",", requested);
+        }
+        synchronized (FeatureArtifactPrefetch.class) {
+            Properties records = load();
+            if (records.size() == 1 && value.equals(records.getProperty(key))) {
+                return;
+            }
+            records.clear();
+            records.setProperty(key, value);
+            File parent = recordFile.getParentFile();
+            if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                log.debug("Could not create directory " + parent + " for the feature artifacts record");
+                return;
+            }
+            // replace the file at once, since other builds may read it at the same time
+            File temp = null;
+            try {
+                temp = File.createTempFile(recordFile.getName(), ".tmp", parent);
+                try (OutputStream out = new FileOutputStream(temp)) {
+                    records.store(out, "Liberty feature artifacts");
+                }
+                Files.move(temp.toPath(), recordFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.debug("Could not write the feature artifacts record to " + recordFile + ": " + e.getMessage());
+                if (temp != null) {
+                    temp.delete();
+                }
+            }
+        }
+    }
+
+    private Properties load() {
+        Properties records = new Properties();
+        if (recordFile.isFile()) {
+            try (InputStream in = new FileInputStream(recordFile)) {
+                records.load(in);
+            } catch (IOException e) {
+                log.debug("Could not read the feature artifacts record from " + recordFile + ": " + e.getMessage());
+                records.clear();
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,292 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Lists the directories and files of a tree in a single walk, skipping excluded
+ * directories such as build output and, optionally, the paths ignored by .gitignore
+ * files. The subtrees below the top level directory are walked in parallel.
+ */
+public class FileTreeScanner {
+
+    /**
+     * The result of a scan.
+     */
+    public static class Scan {
+        private final Set<Path> directories;
+        private final Set<Path> ignoredDirectories;
+        private final List<Path> files;
+
+        private Scan(Set<Path> directories, Set<Path> ignoredDirectories, List<Path> files) {
+            this.directories = directories;
+            this.ignoredDirectories = ignoredDirectories;
+            this.files = files;
+        }
+
+        /**
+         * @return the directories that are not ignored, including the top level directory, sorted
+         */
+        public Set<Path> getDirectories() {
+            return directories;
+        }
+
+        /**
+         * @return the ignored directories, whose subtrees were not walked, sorted
+         */
+        public Set<Path> getIgnoredDirectories() {
+            return ignoredDirectories;
+        }
+
+        /**
+         * @return the files that are not ignored and have the requested extension, sorted
+         */
+        public List<Path> getFiles() {
+            return files;
+        }
+    }
+
+    private final Set<Path> excludedDirectories;
+    private final boolean useGitignore;
+
+    /**
+     * @param excludedDirectories the directories to skip, such as build output directories
+     * @param useGitignore whether to skip the paths ignored by .gitignore files
+     */
+    public FileTreeScanner(Collection<Path> excludedDirectories, boolean useGitignore) {
+        this.excludedDirectories = new HashSet<Path>();
+        for (Path directory : excludedDirectories) {
+            this.excludedDirectories.add(directory.toAbsolutePath().normalize());
+        }
+        this.useGitignore = useGitignore;
+    }
+
+    /**
+     * Scans the directories of a tree without listing its files.
+     *
+     * @param root the top level directory
+     * @return the scan
+     * @throws IOException if the top level directory could not be read
+     */
+    public Scan scanDirectories(Path root) throws IOException {
+        return scan(root, null, false);
+    }
+
+    /**
+     * Scans a directory tree. The top level directory is never ignored, while the
+     * .gitignore files of its parent directories within the same git working tree apply
+     * to its contents.
+     *
+     * @param root the top level directory
+     * @param extension the extension of the files to list without the dot, matched
+     *            ignoring case, or null to list all files
+     * @return the scan
+     * @throws IOException if the top level directory could not be read
+     */
+    public Scan scan(Path root, String extension) throws IOException {
+        return scan(root, extension, true);
+    }
+
+    /**
+     * Checks whether a scan of a tree skips a directory of the tree, because the directory
+     * or one of its parent directories below the top level directory is ignored.
+     *
+     * @param root the top level directory
+     * @param directory a directory within the tree
+     * @return true if the directory is ignored
+     * @throws IOException if a .gitignore file could not be read
+     */
+    public boolean isIgnored(Path root, Path directory) throws IOException {
+        Path top = root.toAbsolutePath().normalize();
+        Path target = directory.toAbsolutePath().normalize();
+        if (!target.startsWith(top)) {
+            return false;
+        }
+        Deque<IgnoreRules> rules = new ArrayDeque<IgnoreRules>();
+        if (useGitignore) {
+            loadParentRules(top, rules);
+            addRules(top, rules);
+        }
+        Path current = top;
+        for (Path name : top.relativize(target)) {
+            if (name.toString().isEmpty()) {
+                continue;
+            }
+            current = current.resolve(name);
+            if (isIgnored(current, true, rules)) {
+                return true;
+            }
+            if (useGitignore) {
+                addRules(current, rules);
+            }
+        }
+        return false;
+    }
+
+    private Scan scan(Path root, final String extension, final boolean listFiles) throws IOException {
+        final Path top = root.toAbsolutePath().normalize();
+        final Deque<IgnoreRules> inheritedRules = new ArrayDeque<IgnoreRules>();
+        if (useGitignore) {
+            loadParentRules(top, inheritedRules);
+            addRules(top, inheritedRules);
+        }
+        final Set<Path> directories = Collections.synchronizedSet(new TreeSet<Path>());
+        final Set<Path> ignoredDirectories = Collections.synchronizedSet(new TreeSet<Path>());
+        final Collection<Path> files = new ConcurrentLinkedQueue<Path>();
+        directories.add(top);
+
+        List<Path> subdirectories = new ArrayList<Path>();
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(top)) {
+            for (Path child : children) {
+                BasicFileAttributes attributes = Files.readAttributes(child, BasicFileAttributes.class);
+                if (attributes.isDirectory()) {
+                    subdirectories.add(child);
+                } else if (listFiles && attributes.isRegularFile() && accept(child, extension, inheritedRules)) {
+                    files.add(child);
+                }
+            }
+        }
+        try {
+            subdirectories.parallelStream().forEach(subdirectory -> {
+                try {
+                    walk(subdirectory, extension, listFiles, new ArrayDeque<IgnoreRules>(inheritedRules), directories, ignoredDirectories, files);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        List<Path> sortedFiles = new ArrayList<Path>(files);
+        Collections.sort(sortedFiles);
+        return new Scan(Collections.unmodifiableSet(directories), Collections.unmodifiableSet(ignoredDirectories),
+                Collections.unmodifiableList(sortedFiles));
+    }
+
+    private void walk(Path subtree, final String extension, final boolean listFiles, final Deque<IgnoreRules> rules, final Set<Path> directories,
+            final Set<Path> ignoredDirectories, final Collection<Path> files) throws IOException {
+        Files.walkFileTree(subtree, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (isIgnored(dir, true, rules)) {
+                    ignoredDirectories.add(dir);
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                directories.add(dir);
+                if (useGitignore && !addRules(dir, rules)) {
+                    // keep the stack aligned with the directories so that it can be popped after the visit
+                    rules.push(IgnoreRules.parse(dir, Collections.<String> emptyList()));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (listFiles && attrs.isRegularFile() && accept(file, extension, rules)) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                // a directory removed or made unreadable during the walk is left out
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) {
+                if (useGitignore) {
+                    rules.pop();
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private boolean accept(Path file, String extension, Deque<IgnoreRules> rules) {
+        if (extension != null && !file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith("." + extension.toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        return !isIgnored(file, false, rules);
+    }
+
+    private boolean isIgnored(Path path, boolean directory, Deque<IgnoreRules> rules) {
+        if (directory && excludedDirectories.contains(path)) {
+            return true;
+        }
+        if (!useGitignore) {
+            return false;
+        }
+        if (directory && ".git".equals(path.getFileName().toString())) {
+            return true;
+        }
+        // the rules of the nearest .gitignore file take precedence
+        for (IgnoreRules directoryRules : rules) {
+            Boolean ignored = directoryRules.match(path, directory);
+            if (ignored != null) {
+                return ignored;
+            }
+        }
+        return false;
+    }
+
+    private static boolean addRules(Path directory, Deque<IgnoreRules> rules) throws IOException {
+        IgnoreRules directoryRules = IgnoreRules.load(directory);
+        if (directoryRules != null) {
+            rules.push(directoryRules);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Loads the .gitignore files of the parent directories up to the root of the git
+     * working tree, if the directory is in one.
+     */
+    private static void loadParentRules(Path directory, Deque<IgnoreRules> rules) throws IOException {
+        List<Path> parents = new ArrayList<Path>();
+        for (Path parent = directory.getParent(); parent != null; parent = parent.getParent()) {
+            parents.add(parent);
+            if (Files.exists(parent.resolve(".git"))) {
+                for (int i = parents.size() - 1; i >= 0; i--) {
+                    addRules(parents.get(i), rules);
+                }
+                return;
+            }
+        }
+    }
+}
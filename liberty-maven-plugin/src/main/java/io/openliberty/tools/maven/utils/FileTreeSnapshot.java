@@ -0,0 +1,159 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Keeps the size and modification time of the files of directory trees, to find the
+ * changes that a file watcher did not report, such as the changes whose events
+ * overflowed its queue, by scanning the trees again.
+ */
+public class FileTreeSnapshot {
+
+    private final FileTreeScanner scanner;
+    private final Map<Path, String> extensions = new LinkedHashMap<Path, String>();
+    private final Map<Path, Map<Path, String>> stamps = new HashMap<Path, Map<Path, String>>();
+
+    /**
+     * @param scanner the scanner that lists the files of the trees
+     */
+    public FileTreeSnapshot(FileTreeScanner scanner) {
+        this.scanner = scanner;
+    }
+
+    /**
+     * Records the files of a tree, unless it is already recorded.
+     *
+     * @param root the top level directory
+     * @param extension the extension of the files to record without the dot, or null to
+     *            record all files
+     * @return true if the tree was not recorded before
+     * @throws IOException if the top level directory could not be read
+     */
+    public synchronized boolean addRoot(Path root, String extension) throws IOException {
+        Path top = root.toAbsolutePath().normalize();
+        if (extensions.containsKey(top)) {
+            return false;
+        }
+        extensions.put(top, extension);
+        stamps.put(top, stamp(top, extension));
+        return true;
+    }
+
+    /**
+     * @param path a file or directory
+     * @return the recorded tree that contains the path, or null if there is none
+     */
+    public synchronized Path getRoot(Path path) {
+        Path normalized = path.toAbsolutePath().normalize();
+        for (Path root : extensions.keySet()) {
+            if (normalized.startsWith(root)) {
+                return root;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records the current state of a file that a change was reported for, so that a
+     * rescan does not find the change again.
+     *
+     * @param file the file
+     */
+    public synchronized void update(Path file) {
+        Path normalized = file.toAbsolutePath().normalize();
+        Path root = getRoot(normalized);
+        String extension = root == null ? null : extensions.get(root);
+        if (root == null || extension != null
+                && !normalized.getFileName().toString().toLowerCase(Locale.ROOT).endsWith("." + extension.toLowerCase(Locale.ROOT))) {
+            return;
+        }
+        String stamp = stamp(normalized);
+        if (stamp == null) {
+            stamps.get(root).remove(normalized);
+        } else {
+            stamps.get(root).put(normalized, stamp);
+        }
+    }
+
+    /**
+     * Scans the recorded trees again and records their current files.
+     *
+     * @return the files that were created, modified or deleted since they were recorded,
+     *         sorted, by the tree that contains them
+     * @throws IOException if a top level directory could not be read
+     */
+    public synchronized Map<Path, List<Path>> rescan() throws IOException {
+        Map<Path, List<Path>> changes = new LinkedHashMap<Path, List<Path>>();
+        for (Map.Entry<Path, String> entry : extensions.entrySet()) {
+            Path root = entry.getKey();
+            Map<Path, String> previous = stamps.get(root);
+            Map<Path, String> current = Files.isDirectory(root) ? stamp(root, entry.getValue()) : new HashMap<Path, String>();
+            TreeSet<Path> changed = new TreeSet<Path>();
+            for (Map.Entry<Path, String> file : current.entrySet()) {
+                if (!file.getValue().equals(previous.get(file.getKey()))) {
+                    changed.add(file.getKey());
+                }
+            }
+            for (Path file : previous.keySet()) {
+                // a reported file that the scan skips, such as an ignored file, is not deleted
+                if (!current.containsKey(file) && stamp(file) == null) {
+                    changed.add(file);
+                }
+            }
+            stamps.put(root, current);
+            if (!changed.isEmpty()) {
+                changes.put(root, new ArrayList<Path>(changed));
+            }
+        }
+        return changes;
+    }
+
+    private Map<Path, String> stamp(Path root, String extension) throws IOException {
+        Map<Path, String> files = new HashMap<Path, String>();
+        if (!Files.isDirectory(root)) {
+            return files;
+        }
+        for (Path file : scanner.scan(root, extension).getFiles()) {
+            String stamp = stamp(file);
+            if (stamp != null) {
+                files.put(file, stamp);
+            }
+        }
+        return files;
+    }
+
+    private static String stamp(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.isRegularFile() ? attributes.size() + ":" + attributes.lastModifiedTime().toMillis() : null;
+        } catch (IOException e) {
+            // deleted since it was listed
+            return null;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * A Java Flight Recorder event for an operation of the plugin, such as installing the
+ * runtime or copying the server configuration. The events are defined at run time
+ * through the jdk.jfr API, so that the plugin still runs on a JVM without it. An event
+ * that no recording has enabled is not created at all. The event is also traced as a
+ * stage of the goal that runs it, if the build is {@link BuildTrace traced}. If the
+ * flight recorder fails to record an event, events of its type are no longer recorded.
+ * <p>
+ * Typical use:
+ *
+ * <pre>
+ * try (FlightRecorderEvent event = COPY_EVENT.begin(getLog())) {
+ *     ...
+ *     event.set("files", count);
+ * }
+ * </pre>
+ */
+public class FlightRecorderEvent implements AutoCloseable {
+
+    private static final String NAME_PREFIX = "io.openliberty.tools.maven.";
+    private static final String[] CATEGORY = { "Liberty", "Maven Plugin" };
+    private static final FlightRecorderEvent DISABLED = new FlightRecorderEvent(null, null, null, null);
+
+    private final Type type;
+    private Object event;
+    private final BuildTrace.Span span;
+    private final Log log;
+
+    private FlightRecorderEvent(Type type, Object event, BuildTrace.Span span, Log log) {
+        this.type = type;
+        this.event = event;
+        this.span = span;
+        this.log = log;
+    }
+
+    /**
+     * Defines an event type. The type is registered with the flight recorder when an
+     * event of the type is first begun.
+     *
+     * @param name the simple name of the event, such as InstallServerAssembly
+     * @param label the label shown for the event
+     * @param description what the event measures
+     * @param fields the attributes of the event
+     * @return the event type
+     */
+    public static Type type(String name, String label, String description, Field... fields) {
+        return new Type(NAME_PREFIX + name, label, description, fields);
+    }
+
+    /**
+     * @return whether the event is recorded, so that attributes that are expensive to
+     *         compute can be skipped otherwise
+     */
+    public boolean isEnabled() {
+        return type != null;
+    }
+
+    /**
+     * Sets an attribute of the event.
+     *
+     * @param field the name of the field
+     * @param value the value, of the type of the field
+     * @return this event
+     */
+    public FlightRecorderEvent set(String field, Object value) {
+        if (type != null) {
+            for (int i = 0; i < type.fields.length; i++) {
+                if (type.fields[i].name.equals(field)) {
+                    if (type.fields[i].valueType == long.class && value instanceof Number) {
+                        value = ((Number) value).longValue();
+                    }
+                    if (event != null) {
+                        try {
+                            Jfr.invoke(Jfr.set, event, i, value);
+                        } catch (IllegalStateException e) {
+                            failed(e);
+                        }
+                    }
+                    span.arg(field, value);
+                    return this;
+                }
+            }
+            throw new IllegalArgumentException("Unknown field " + field + " of event " + type.name);
+        }
+        return this;
+    }
+
+    /**
+     * Ends the event and commits it if it lasted longer than the recording threshold.
+     */
+    @Override
+    public void close() {
+        if (span != null) {
+            span.close();
+        }
+        if (event != null) {
+            try {
+                Jfr.invoke(Jfr.end, event);
+                if ((Boolean) Jfr.invoke(Jfr.shouldCommit, event)) {
+                    Jfr.invoke(Jfr.commit, event);
+                }
+            } catch (IllegalStateException e) {
+                failed(e);
+            }
+        }
+    }
+
+    private void failed(IllegalStateException e) {
+        event = null;
+        type.disable(e, log);
+    }
+
+    /**
+     * An attribute of an event.
+     */
+    public static class Field {
+        private final Class<?> valueType;
+        private final String name;
+        private final String label;
+        private final boolean bytes;
+
+        private Field(Class<?> valueType, String name, String label, boolean bytes) {
+            this.valueType = valueType;
+            this.name = name;
+            this.label = label;
+            this.bytes = bytes;
+        }
+
+        public static Field text(String name, String label) {
+            return new Field(String.class, name, label, false);
+        }
+
+        public static Field count(String name, String label) {
+            return new Field(long.class, name, label, false);
+        }
+
+        /**
+         * @return a field whose long value is shown as an amount of data
+         */
+        public static Field bytes(String name, String label) {
+            return new Field(long.class, name, label, true);
+        }
+    }
+
+    /**
+     * A type of event.
+     */
+    public static class Type {
+        private final String name;
+        private final String label;
+        private final String description;
+        private final Field[] fields;
+        private Object factory;
+        private Object eventType;
+        private boolean registered;
+
+        private Type(String name, String label, String description, Field[] fields) {
+            this.name = name;
+            this.label = label;
+            this.description = description;
+            this.fields = fields;
+        }
+
+        /**
+         * Begins an event of this type.
+         *
+         * @param log the logger for failures to record the event
+         * @return the event, which does nothing if neither a recording nor the build trace
+         *         has enabled it
+         */
+        public FlightRecorderEvent begin(Log log) {
+            BuildTrace.Span span = BuildTrace.beginStage(label);
+            Object event = null;
+            Object eventFactory = register(log);
+            if (eventFactory != null) {
+                try {
+                    if ((Boolean) Jfr.invoke(Jfr.isEnabled, eventType)) {
+                        event = Jfr.invoke(Jfr.newEvent, eventFactory);
+                        Jfr.invoke(Jfr.begin, event);
+                    }
+                } catch (IllegalStateException e) {
+                    event = null;
+                    disable(e, log);
+                }
+            }
+            if (event == null && !span.isActive()) {
+                return DISABLED;
+            }
+            return new FlightRecorderEvent(this, event, span, log);
+        }
+
+        /**
+         * Stops recording events of this type.
+         */
+        private synchronized void disable(Exception e, Log log) {
+            if (factory != null) {
+                factory = null;
+                log.debug("Unable to record the flight recorder event " + name + ", events of this type are no longer recorded", e);
+            }
+        }
+
+        /**
+         * @return the factory of the events, or null if they are not recorded
+         */
+        private synchronized Object register(Log log) {
+            if (!registered) {
+                registered = true;
+                if (Jfr.available) {
+                    try {
+                        List<Object> annotations = new ArrayList<Object>();
+                        annotations.add(Jfr.annotation(Jfr.nameAnnotation, name));
+                        annotations.add(Jfr.annotation(Jfr.labelAnnotation, label));
+                        annotations.add(Jfr.annotation(Jfr.descriptionAnnotation, description));
+                        annotations.add(Jfr.annotation(Jfr.categoryAnnotation, CATEGORY));
+                        List<Object> descriptors = new ArrayList<Object>();
+                        for (Field field : fields) {
+                            List<Object> fieldAnnotations = new ArrayList<Object>();
+                            fieldAnnotations.add(Jfr.annotation(Jfr.labelAnnotation, field.label));
+                            if (field.bytes) {
+                                fieldAnnotations.add(Jfr.annotation(Jfr.dataAmountAnnotation, "BYTES"));
+                            }
+                            descriptors.add(Jfr.valueDescriptor.newInstance(field.valueType, field.name, fieldAnnotations));
+                        }
+                        factory = Jfr.create.invoke(null, annotations, descriptors);
+                        eventType = Jfr.invoke(Jfr.getEventType, factory);
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        factory = null;
+                        log.debug("Unable to register the flight recorder event " + name, e);
+                    }
+                }
+            }
+            return factory;
+        }
+    }
+
+    /**
+     * The jdk.jfr API, if the JVM has it.
+     */
+    private static class Jfr {
+        static boolean available;
+        static Class<?> nameAnnotation;
+        static Class<?> labelAnnotation;
+        static Class<?> descriptionAnnotation;
+        static Class<?> categoryAnnotation;
+        static Class<?> dataAmountAnnotation;
+        static Constructor<?> annotationElement;
+        static Constructor<?> valueDescriptor;
+        static Method create;
+        static Method getEventType;
+        static Method newEvent;
+        static Method isEnabled;
+        static Method begin;
+        static Method end;
+        static Method shouldCommit;
+        static Method commit;
+        static Method set;
+
+        static {
+            try {
+                nameAnnotation = Class.forName("jdk.jfr.Name");
+                labelAnnotation = Class.forName("jdk.jfr.Label");
+                descriptionAnnotation = Class.forName("jdk.jfr.Description");
+                categoryAnnotation = Class.forName("jdk.jfr.Category");
+                dataAmountAnnotation = Class.forName("jdk.jfr.DataAmount");
+                Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+                annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+                valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+                Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+                create = eventFactory.getMethod("create", List.class, List.class);
+                getEventType = eventFactory.getMethod("getEventType");
+                newEvent = eventFactory.getMethod("newEvent");
+                isEnabled = Class.forName("jdk.jfr.EventType").getMethod("isEnabled");
+                Class<?> event = Class.forName("jdk.jfr.Event");
+                begin = event.getMethod("begin");
+                end = event.getMethod("end");
+                shouldCommit = event.getMethod("shouldCommit");
+                commit = event.getMethod("commit");
+                set = event.getMethod("set", int.class, Object.class);
+                available = true;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Java 8, or a JVM without the flight recorder
+                available = false;
+            }
+        }
+
+        static Object annotation(Class<?> annotationType, Object value) throws ReflectiveOperationException {
+            return annotationElement.newInstance(annotationType, value);
+        }
+
+        static Object invoke(Method method, Object target, Object... args) {
+            try {
+                return method.invoke(target, args);
+            } catch (ReflectiveOperationException | IllegalArgumentException e) {
+                throw new IllegalStateException("Unable to record the flight recorder event", e);
+            }
+        }
+    }
+}
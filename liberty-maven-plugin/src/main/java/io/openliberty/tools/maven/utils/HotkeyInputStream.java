@@ -0,0 +1,101 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Console input that handles additional hotkeys before the dev mode hotkey reader
+ * sees them. The input is read a line at a time, and a line that matches one of the
+ * hotkeys runs its action instead of being passed on.
+ */
+public class HotkeyInputStream extends InputStream {
+
+    private final InputStream in;
+    private final Map<String, Runnable> hotkeys;
+    private byte[] line = new byte[0];
+    private int position;
+
+    /**
+     * @param in the console input
+     * @param hotkeys the actions keyed by the lower case text of their hotkey
+     */
+    public HotkeyInputStream(InputStream in, Map<String, Runnable> hotkeys) {
+        this.in = in;
+        this.hotkeys = hotkeys;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return line[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(len, line.length - position);
+        System.arraycopy(line, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return line.length - position;
+    }
+
+    /**
+     * Reads lines until one that is not a hotkey is buffered.
+     *
+     * @return false at the end of the input
+     */
+    private boolean fill() throws IOException {
+        while (position >= line.length) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                buffer.write(b);
+                if (b == '\n') {
+                    break;
+                }
+            }
+            if (buffer.size() == 0) {
+                return false;
+            }
+            line = buffer.toByteArray();
+            position = 0;
+            Runnable action = hotkeys.get(new String(line, Charset.defaultCharset()).trim().toLowerCase(Locale.ROOT));
+            if (action != null) {
+                position = line.length;
+                action.run();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The patterns of a .gitignore file, which apply to the paths below the directory
+ * containing the file.
+ */
+public class IgnoreRules {
+
+    public static final String FILE_NAME = ".gitignore";
+
+    private static class Rule {
+        private final Pattern pattern;
+        private final boolean negated;
+        private final boolean directoryOnly;
+        private final boolean matchName;
+
+        private Rule(Pattern pattern, boolean negated, boolean directoryOnly, boolean matchName) {
+            this.pattern = pattern;
+            this.negated = negated;
+            this.directoryOnly = directoryOnly;
+            this.matchName = matchName;
+        }
+    }
+
+    private final Path base;
+    private final List<Rule> rules;
+
+    private IgnoreRules(Path base, List<Rule> rules) {
+        this.base = base;
+        this.rules = rules;
+    }
+
+    /**
+     * Reads the .gitignore file of a directory.
+     *
+     * @param directory the directory
+     * @return the rules, or null if the directory has no .gitignore file or it has no patterns
+     * @throws IOException if the file could not be read
+     */
+    public static IgnoreRules load(Path directory) throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        IgnoreRules rules = parse(directory, Files.readAllLines(file, StandardCharsets.UTF_8));
+        return rules.rules.isEmpty() ? null : rules;
+    }
+
+    /**
+     * @param base the directory that the patterns are relative to
+     * @param lines the lines of a .gitignore file
+     * @return the rules
+     */
+    public static IgnoreRules parse(Path base, List<String> lines) {
+        List<Rule> rules = new ArrayList<Rule>();
+        for (String line : lines) {
+            String pattern = line.trim();
+            if (pattern.isEmpty() || pattern.startsWith("#")) {
+                continue;
+            }
+            boolean negated = pattern.startsWith("!");
+            if (negated) {
+                pattern = pattern.substring(1);
+            }
+            boolean directoryOnly = pattern.endsWith("/");
+            while (pattern.endsWith("/")) {
+                pattern = pattern.substring(0, pattern.length() - 1);
+            }
+            // a pattern without a separator matches a name at any depth
+            boolean matchName = pattern.indexOf('/') < 0;
+            if (pattern.startsWith("/")) {
+                pattern = pattern.substring(1);
+            }
+            if (!pattern.isEmpty()) {
+                rules.add(new Rule(Pattern.compile(toRegex(pattern)), negated, directoryOnly, matchName));
+            }
+        }
+        return new IgnoreRules(base, rules);
+    }
+
+    /**
+     * Matches a path against the patterns, the last matching pattern taking precedence.
+     *
+     * @param path a path below the directory of the rules
+     * @param directory whether the path is a directory
+     * @return true if the path is ignored, false if a negated pattern includes it again,
+     *         or null if no pattern matches it
+     */
+    public Boolean match(Path path, boolean directory) {
+        if (!path.startsWith(base) || path.equals(base)) {
+            return null;
+        }
+        String relativePath = base.relativize(path).toString().replace('\\', '/');
+        String name = path.getFileName().toString();
+        for (int i = rules.size() - 1; i >= 0; i--) {
+            Rule rule = rules.get(i);
+            if (rule.directoryOnly && !directory) {
+                continue;
+            }
+            if (rule.pattern.matcher(rule.matchName ? name : relativePath).matches()) {
+                return !rule.negated;
+            }
+        }
+        return null;
+    }
+
+    private static String toRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' && glob.startsWith("**/", i)) {
+                regex.append("(?:.*/)?");
+                i += 2;
+            } else if (c == '*' && glob.startsWith("**", i)) {
+                regex.append(".*");
+                i++;
+            } else if (c == '*') {
+                regex.append("[^/]*");
+            } else if (c == '?') {
+                regex.append("[^/]");
+            } else if (c == '[' && glob.indexOf(']', i + 1) > i + 1) {
+                int end = glob.indexOf(']', i + 1);
+                String range = glob.substring(i + 1, end);
+                regex.append('[').append(range.startsWith("!") ? "^" + range.substring(1) : range).append(']');
+                i = end;
+            } else if (c == '\\' && i + 1 < glob.length()) {
+                regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return regex.toString();
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Java compiler that stays warm for the whole dev mode session.
+ * <p>
+ * A single system {@link JavaCompiler} is shared by all modules, and one
+ * {@link StandardJavaFileManager} is kept per classes output directory so that
+ * the archives opened for the classpath are reused between compilations. The
+ * file manager is only recreated when the classpath entries or the compiler
+ * options of that output directory change, or when a classpath archive is
+ * modified on disk.
+ */
+public class IncrementalJavaCompiler {
+
+    private final Log log;
+    private JavaCompiler compiler;
+    private final Map<File, CompilationState> states = new HashMap<File, CompilationState>();
+
+    public IncrementalJavaCompiler(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Returns whether the given options differ from the options that were last used
+     * to compile into the given output directory. An output directory that has not been
+     * compiled into yet is not considered changed.
+     *
+     * @param outputDirectory the classes output directory
+     * @param options the compiler options
+     * @return true if the options changed since the last compilation
+     */
+    public synchronized boolean optionsChanged(File outputDirectory, List<String> options) {
+        CompilationState state = states.get(outputDirectory);
+        return state != null && !state.options.equals(options);
+    }
+
+    /**
+     * Discards the file manager of the given output directory and records the options
+     * that the classes were compiled with, e.g. after a full compile of the module
+     * through the maven-compiler-plugin.
+     *
+     * @param outputDirectory the classes output directory
+     * @param options the compiler options
+     */
+    public synchronized void reset(File outputDirectory, List<String> options) {
+        CompilationState state = states.remove(outputDirectory);
+        if (state != null) {
+            state.close(log);
+        }
+        states.put(outputDirectory, new CompilationState(new ArrayList<String>(options)));
+    }
+
+    /**
+     * Compiles the given source files into the output directory.
+     *
+     * @param sourceFiles the Java source files to compile
+     * @param classPath the classpath entries
+     * @param outputDirectory the classes output directory
+     * @param options the compiler options
+     * @return true if the compilation was successful
+     * @throws IOException if the system Java compiler is not available or the
+     *                     classpath cannot be set
+     */
+    public synchronized boolean compile(Collection<File> sourceFiles, Collection<File> classPath, File outputDirectory,
+            List<String> options) throws IOException {
+        if (compiler == null) {
+            compiler = ToolProvider.getSystemJavaCompiler();
+            if (compiler == null) {
+                throw new IOException("The system Java compiler is not available. Ensure dev mode is running with a JDK.");
+            }
+        }
+
+        CompilationState state = states.get(outputDirectory);
+        if (state == null || !state.options.equals(options)) {
+            if (state != null) {
+                state.close(log);
+            }
+            state = new CompilationState(new ArrayList<String>(options));
+            states.put(outputDirectory, state);
+        }
+
+        Map<File, Long> classPathIndex = indexClassPath(classPath);
+        if (state.fileManager == null || !classPathIndex.equals(state.classPathIndex)) {
+            if (state.fileManager != null) {
+                log.debug("Classpath for " + outputDirectory + " has changed, refreshing the compiler file manager");
+                state.close(log);
+            }
+            state.fileManager = compiler.getStandardFileManager(null, null, null);
+            state.fileManager.setLocation(StandardLocation.CLASS_PATH, classPathIndex.keySet());
+            state.classPathIndex = classPathIndex;
+        }
+        state.fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(outputDirectory));
+
+        List<File> existingFiles = new ArrayList<File>();
+        for (File sourceFile : sourceFiles) {
+            if (sourceFile.isFile()) {
+                existingFiles.add(sourceFile);
+            } else {
+                log.debug("The Java file " + sourceFile + " does not exist and will not be compiled.");
+            }
+        }
+        Iterable<? extends JavaFileObject> compilationUnits = state.fileManager.getJavaFileObjectsFromFiles(existingFiles);
+        return compiler.getTask(null, state.fileManager, null, options, null, compilationUnits).call();
+    }
+
+    /**
+     * Closes all file managers held by this compiler.
+     */
+    public synchronized void close() {
+        for (CompilationState state : states.values()) {
+            state.close(log);
+        }
+        states.clear();
+    }
+
+    private static Map<File, Long> indexClassPath(Collection<File> classPath) {
+        Map<File, Long> index = new LinkedHashMap<File, Long>();
+        for (File entry : classPath) {
+            // directories are read fresh by the file manager, only archives are cached
+            index.put(entry, entry.isFile() ? entry.lastModified() : 0L);
+        }
+        return index;
+    }
+
+    private static class CompilationState {
+        private final List<String> options;
+        private StandardJavaFileManager fileManager;
+        private Map<File, Long> classPathIndex;
+
+        private CompilationState(List<String> options) {
+            this.options = options;
+        }
+
+        private void close(Log log) {
+            if (fileManager != null) {
+                try {
+                    fileManager.close();
+                } catch (IOException e) {
+                    log.debug("Unable to close the compiler file manager", e);
+                }
+                fileManager = null;
+                classPathIndex = null;
+            }
+        }
+    }
+}
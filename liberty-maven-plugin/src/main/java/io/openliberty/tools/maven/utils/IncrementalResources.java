@@ -0,0 +1,173 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.twdata.maven.mojoexecutor.MojoExecutor.element;
+import static org.twdata.maven.mojoexecutor.MojoExecutor.name;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.model.Resource;
+import org.codehaus.plexus.util.DirectoryScanner;
+import org.codehaus.plexus.util.MatchPatterns;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.twdata.maven.mojoexecutor.MojoExecutor.Element;
+
+/**
+ * Builds a configuration of the maven-resources-plugin copy-resources goal from the
+ * configuration of the resources goal, narrowed to the changed resource files, so that
+ * only those files are copied and filtered while still applying the filters, delimiters
+ * and encoding configured for the project. The resources parameter of the resources goal
+ * is read-only, so it cannot be narrowed there.
+ * <p>
+ * The resource configuration that the narrowed configurations are based on is recorded,
+ * so that a change to it can be detected and all resources processed again.
+ */
+public class IncrementalResources {
+
+    private String resourceConfiguration;
+
+    /**
+     * Returns whether the resource configuration differs from the one recorded by the
+     * previous call, and records the given configuration. The first call records the
+     * configuration and returns false.
+     *
+     * @param resources the resources of the project
+     * @param filters the filter files of the project
+     * @param goalConfig the configuration of the resources goal
+     * @return true if the resource configuration changed
+     */
+    public synchronized boolean isConfigurationChanged(List<Resource> resources, List<String> filters, Xpp3Dom goalConfig) {
+        StringBuilder sb = new StringBuilder();
+        for (Resource resource : resources) {
+            sb.append(resource.getDirectory()).append('|').append(resource.getTargetPath()).append('|')
+                    .append(resource.isFiltering()).append('|').append(resource.getIncludes()).append('|')
+                    .append(resource.getExcludes()).append('\n');
+        }
+        sb.append(filters).append('\n').append(goalConfig);
+        String configuration = sb.toString();
+        boolean changed = resourceConfiguration != null && !resourceConfiguration.equals(configuration);
+        resourceConfiguration = configuration;
+        return changed;
+    }
+
+    /**
+     * Returns a copy-resources goal configuration, based on the resources goal configuration,
+     * that processes only the given files.
+     *
+     * @param goalConfig the configuration of the resources goal
+     * @param resources the resources of the project
+     * @param files the changed files, mapped to the resource directories containing them
+     * @param outputDirectory the output directory of the resources, usually the build
+     *            output directory of the project
+     * @return the narrowed configuration, or null if any of the files is not included by
+     *         the resources of its directory
+     * @throws IOException if the paths of the files or the resource directories cannot be
+     *             resolved
+     */
+    public Xpp3Dom getFilesConfiguration(Xpp3Dom goalConfig, List<Resource> resources, Map<File, File> files,
+            File outputDirectory) throws IOException {
+        boolean addDefaultExcludes = goalConfig.getChild("addDefaultExcludes") == null
+                || Boolean.parseBoolean(goalConfig.getChild("addDefaultExcludes").getValue());
+
+        List<Element> resourceElements = new ArrayList<Element>();
+        for (Map.Entry<File, File> entry : files.entrySet()) {
+            String parentPath = entry.getValue().getCanonicalPath();
+            String filePath = entry.getKey().getCanonicalPath();
+            if (!filePath.startsWith(parentPath + File.separator)) {
+                return null;
+            }
+            String relativePath = filePath.substring(parentPath.length() + 1);
+            boolean included = false;
+            for (Resource resource : resources) {
+                if (resource.getDirectory() == null || !parentPath.equals(new File(resource.getDirectory()).getCanonicalPath())
+                        || !isIncluded(resource, relativePath, addDefaultExcludes)) {
+                    continue;
+                }
+                List<Element> children = new ArrayList<Element>();
+                children.add(element(name("directory"), resource.getDirectory()));
+                children.add(element(name("filtering"), Boolean.toString(resource.isFiltering())));
+                if (resource.getTargetPath() != null) {
+                    children.add(element(name("targetPath"), resource.getTargetPath()));
+                }
+                children.add(element(name("includes"), element(name("include"), relativePath.replace(File.separatorChar, '/'))));
+                resourceElements.add(element(name("resource"), children.toArray(new Element[children.size()])));
+                included = true;
+            }
+            if (!included) {
+                return null;
+            }
+        }
+
+        Xpp3Dom config = new Xpp3Dom(goalConfig);
+        for (int i = config.getChildCount() - 1; i >= 0; i--) {
+            String childName = config.getChild(i).getName();
+            if ("resources".equals(childName) || "outputDirectory".equals(childName)) {
+                config.removeChild(i);
+            }
+        }
+        config.addChild(element(name("outputDirectory"), outputDirectory.getAbsolutePath()).toDom());
+        config.addChild(element(name("resources"), resourceElements.toArray(new Element[resourceElements.size()])).toDom());
+        return config;
+    }
+
+    private static boolean isIncluded(Resource resource, String relativePath, boolean addDefaultExcludes) {
+        return isIncluded(resource.getIncludes(), resource.getExcludes(), relativePath, addDefaultExcludes);
+    }
+
+    /**
+     * Returns whether a path is selected by include and exclude patterns, the same way as
+     * the directory scanner used by the resources goal.
+     *
+     * @param includes the include patterns, where an empty list includes all paths
+     * @param excludes the exclude patterns
+     * @param relativePath the path relative to the scanned directory
+     * @param addDefaultExcludes whether to also exclude the default excludes, such as
+     *            version control metadata
+     * @return true if the path is included and not excluded
+     */
+    public static boolean isIncluded(List<String> includes, List<String> excludes, String relativePath, boolean addDefaultExcludes) {
+        List<String> allIncludes = includes.isEmpty() ? Collections.singletonList("**/**") : includes;
+        List<String> allExcludes = new ArrayList<String>(excludes);
+        if (addDefaultExcludes) {
+            allExcludes.addAll(Arrays.asList(DirectoryScanner.DEFAULTEXCLUDES));
+        }
+        String path = relativePath.replace('/', File.separatorChar);
+        return MatchPatterns.from(normalizePatterns(allIncludes)).matches(path, true)
+                && !MatchPatterns.from(normalizePatterns(allExcludes)).matches(path, true);
+    }
+
+    /**
+     * Normalizes patterns the same way as the directory scanner used by the resources goal.
+     */
+    private static List<String> normalizePatterns(List<String> patterns) {
+        List<String> normalized = new ArrayList<String>(patterns.size());
+        for (String pattern : patterns) {
+            String p = pattern.trim().replace('/', File.separatorChar).replace('\\', File.separatorChar);
+            if (p.endsWith(File.separator)) {
+                p += "**";
+            }
+            normalized.add(p);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redefines loaded classes in a JVM through the Java Debug Wire Protocol, as a debugger
+ * does for hot code replace. Each call attaches to the debug port, redefines the classes
+ * and detaches, so that a debugger can attach to the same port between calls.
+ * <p>
+ * A JVM only accepts a redefinition that changes the code of existing methods. The
+ * caller is expected to compare the {@link ClassDependencyIndex#getSchema(byte[]) schema}
+ * of the classes first, while the JVM still rejects any other change with an error.
+ */
+public class JdwpHotSwapper {
+
+    private static final byte[] HANDSHAKE = "JDWP-Handshake".getBytes(StandardCharsets.US_ASCII);
+    private static final int REPLY_FLAG = 0x80;
+
+    // command set 1 (VirtualMachine)
+    private static final int CLASSES_BY_SIGNATURE = 2;
+    private static final int DISPOSE = 6;
+    private static final int ID_SIZES = 7;
+    private static final int REDEFINE_CLASSES = 18;
+
+    private final String host;
+    private final int port;
+    private final int timeout;
+
+    /**
+     * @param host the host of the debug port
+     * @param port the debug port
+     * @param timeout the connect and read timeout in milliseconds
+     */
+    public JdwpHotSwapper(String host, int port, int timeout) {
+        this.host = host;
+        this.port = port;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Redefines classes that are all loaded in the JVM. Nothing is redefined if one of the
+     * classes is not loaded, since its next load reads the class file from disk anyway.
+     *
+     * @param classFiles the content of the class files keyed by the internal class name,
+     *            such as com/example/Greeter
+     * @return true if the classes were redefined, false if one of them is not loaded
+     * @throws IOException if the JVM could not be reached or rejected the redefinition
+     */
+    public boolean redefineLoadedClasses(Map<String, byte[]> classFiles) throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), timeout);
+            socket.setSoTimeout(timeout);
+            Connection connection = new Connection(socket);
+            connection.handshake();
+            try {
+                DataInputStream idSizes = connection.command(ID_SIZES, new byte[0]);
+                idSizes.readInt(); // field ID size
+                idSizes.readInt(); // method ID size
+                idSizes.readInt(); // object ID size
+                int referenceTypeIdSize = idSizes.readInt();
+
+                Map<byte[], byte[]> redefinitions = new LinkedHashMap<byte[], byte[]>();
+                for (Map.Entry<String, byte[]> classFile : classFiles.entrySet()) {
+                    List<byte[]> typeIds = findLoadedClasses(connection, classFile.getKey(), referenceTypeIdSize);
+                    if (typeIds.isEmpty()) {
+                        return false;
+                    }
+                    // a class loaded by several class loaders is redefined in each of them
+                    for (byte[] typeId : typeIds) {
+                        redefinitions.put(typeId, classFile.getValue());
+                    }
+                }
+
+                ByteArrayOutputStream data = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(data);
+                out.writeInt(redefinitions.size());
+                for (Map.Entry<byte[], byte[]> redefinition : redefinitions.entrySet()) {
+                    out.write(redefinition.getKey());
+                    out.writeInt(redefinition.getValue().length);
+                    out.write(redefinition.getValue());
+                }
+                connection.command(REDEFINE_CLASSES, data.toByteArray());
+                return true;
+            } finally {
+                connection.dispose();
+            }
+        }
+    }
+
+    private static List<byte[]> findLoadedClasses(Connection connection, String className, int referenceTypeIdSize) throws IOException {
+        byte[] signature = ("L" + className + ";").getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(data);
+        out.writeInt(signature.length);
+        out.write(signature);
+        DataInputStream reply = connection.command(CLASSES_BY_SIGNATURE, data.toByteArray());
+        int count = reply.readInt();
+        List<byte[]> typeIds = new ArrayList<byte[]>(count);
+        for (int i = 0; i < count; i++) {
+            reply.readByte(); // type tag
+            byte[] typeId = new byte[referenceTypeIdSize];
+            reply.readFully(typeId);
+            reply.readInt(); // status
+            typeIds.add(typeId);
+        }
+        return typeIds;
+    }
+
+    private static class Connection {
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private int nextId = 1;
+
+        private Connection(Socket socket) throws IOException {
+            this.in = new DataInputStream(socket.getInputStream());
+            this.out = new DataOutputStream(socket.getOutputStream());
+        }
+
+        private void handshake() throws IOException {
+            out.write(HANDSHAKE);
+            out.flush();
+            byte[] reply = new byte[HANDSHAKE.length];
+            in.readFully(reply);
+            if (!new String(reply, StandardCharsets.US_ASCII).equals(new String(HANDSHAKE, StandardCharsets.US_ASCII))) {
+                throw new IOException("Unexpected JDWP handshake reply");
+            }
+        }
+
+        private DataInputStream command(int command, byte[] data) throws IOException {
+            int id = nextId++;
+            out.writeInt(11 + data.length);
+            out.writeInt(id);
+            out.writeByte(0); // flags
+            out.writeByte(1); // VirtualMachine command set
+            out.writeByte(command);
+            out.write(data);
+            out.flush();
+
+            while (true) {
+                int length = in.readInt();
+                int replyId = in.readInt();
+                int flags = in.readUnsignedByte();
+                int errorCode = in.readUnsignedShort();
+                byte[] replyData = new byte[length - 11];
+                in.readFully(replyData);
+                // events sent by the JVM in the meantime are not replies
+                if ((flags & REPLY_FLAG) == 0 || replyId != id) {
+                    continue;
+                }
+                if (errorCode != 0) {
+                    throw new IOException("JDWP command " + command + " failed with error code " + errorCode);
+                }
+                return new DataInputStream(new ByteArrayInputStream(replyData));
+            }
+        }
+
+        private void dispose() {
+            try {
+                command(DISPOSE, new byte[0]);
+            } catch (IOException e) {
+                // the connection is closed anyway
+            }
+        }
+    }
+}
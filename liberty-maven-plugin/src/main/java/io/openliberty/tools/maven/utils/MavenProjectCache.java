@@ -0,0 +1,234 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.project.ProjectBuildingException;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.WorkspaceReader;
+
+/**
+ * Cache of the Maven project models built from pom.xml files during a Maven session.
+ * <p>
+ * A cached project is keyed by the inputs of building it and resolving its dependencies:
+ * the content hash of its pom.xml, of every pom.xml in its local parent chain and of the
+ * pom.xml of every reactor module it depends on, the size and time stamp of its resolved
+ * dependency files, and the local repository, profiles and properties of the request. A
+ * change to any of those rebuilds the project, such as an updated SNAPSHOT dependency,
+ * while the projects that are not affected by the change are reused along with their
+ * resolved dependencies. The models are softly referenced, since the model of a module
+ * with its resolved dependencies is large, so that the cache of a big reactor gives way
+ * to memory pressure and the projects are built again when they are next needed.
+ * <p>
+ * Callers get their own copy of a cached project and of its artifacts, since they
+ * modify them, for example to point the artifacts of the upstream modules to their
+ * output directories.
+ * <p>
+ * Projects built from different pom.xml files are built concurrently, while the builds
+ * of the same pom.xml wait for each other so that it is built only once.
+ */
+public class MavenProjectCache {
+
+    /**
+     * The class is loaded once for each version of the plugin, so each version keeps its
+     * own cache in the session.
+     */
+    private static final Object SESSION_KEY = MavenProjectCache.class;
+
+    private final Map<String, CachedProject> projects = new ConcurrentHashMap<String, CachedProject>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<String, Object>();
+
+    /**
+     * Returns the cache for the given Maven session, creating it if needed.
+     *
+     * @param session the Maven session
+     * @return the project cache of the session
+     */
+    public static MavenProjectCache getInstance(MavenSession session) {
+        SessionData data = session.getRepositorySession().getData();
+        Object cache = data.get(SESSION_KEY);
+        while (cache == null) {
+            // another thread may store its cache first
+            data.set(SESSION_KEY, null, new MavenProjectCache());
+            cache = data.get(SESSION_KEY);
+        }
+        return (MavenProjectCache) cache;
+    }
+
+    /**
+     * Returns a copy of the project built from the given pom.xml, building it only if the
+     * inputs of the project changed since it was last built.
+     *
+     * @param buildFile the pom.xml file
+     * @param projectBuilder the Maven project builder
+     * @param request the project building request
+     * @return the Maven project
+     * @throws ProjectBuildingException if the project could not be built
+     */
+    public MavenProject getProject(File buildFile, ProjectBuilder projectBuilder, ProjectBuildingRequest request)
+            throws ProjectBuildingException {
+        String key = getPath(buildFile);
+        String context = getContext(request);
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            CachedProject cached = projects.get(key);
+            MavenProject cachedProject = cached != null && cached.isCurrent(context) ? cached.project.get() : null;
+            if (cachedProject != null) {
+                return copy(cachedProject);
+            }
+            MavenProject project = projectBuilder.build(buildFile, request).getProject();
+            CachedProject newCached = new CachedProject(project, context, request.getRepositorySession());
+            if (newCached.digests != null) {
+                projects.put(key, newCached);
+            } else {
+                projects.remove(key);
+            }
+            return copy(project);
+        }
+    }
+
+    /**
+     * Copies the project along with its artifacts, whose files the callers change.
+     */
+    static MavenProject copy(MavenProject project) {
+        MavenProject copy = project.clone();
+        Set<Artifact> artifacts = new LinkedHashSet<Artifact>();
+        for (Artifact artifact : project.getArtifacts()) {
+            artifacts.add(ArtifactUtils.copyArtifact(artifact));
+        }
+        copy.setArtifacts(artifacts);
+        return copy;
+    }
+
+    /**
+     * Returns the inputs of the request that affect the built project and its dependencies.
+     */
+    private static String getContext(ProjectBuildingRequest request) {
+        StringBuilder context = new StringBuilder();
+        RepositorySystemSession repositorySession = request.getRepositorySession();
+        if (repositorySession != null && repositorySession.getLocalRepository() != null) {
+            context.append(repositorySession.getLocalRepository().getBasedir().getAbsolutePath());
+        }
+        context.append('|').append(request.getActiveProfileIds()).append('|').append(request.getInactiveProfileIds());
+        context.append('|').append(new TreeMap<Object, Object>(request.getUserProperties()));
+        context.append('|').append(request.isResolveDependencies());
+        return context.toString();
+    }
+
+    private static String getPath(File file) {
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+
+    private static byte[] digest(File file) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file.toPath()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static String getStamp(File file) {
+        return file.length() + ":" + file.lastModified();
+    }
+
+    private static class CachedProject {
+        private final SoftReference<MavenProject> project;
+        private final String context;
+        private final Set<File> buildFiles = new LinkedHashSet<File>();
+        private final Map<File, String> dependencyStamps = new LinkedHashMap<File, String>();
+        private List<byte[]> digests = new ArrayList<byte[]>();
+
+        private CachedProject(MavenProject project, String context, RepositorySystemSession repositorySession) {
+            this.project = new SoftReference<MavenProject>(project);
+            this.context = context;
+            addBuildFiles(project);
+            WorkspaceReader workspace = repositorySession == null ? null : repositorySession.getWorkspaceReader();
+            for (Artifact artifact : project.getArtifacts()) {
+                File file = artifact.getFile();
+                if (file != null && file.isFile()) {
+                    dependencyStamps.put(file, getStamp(file));
+                }
+                if (workspace != null) {
+                    // the dependencies of a reactor module are read from its pom.xml
+                    File modulePom = workspace.findArtifact(
+                            new DefaultArtifact(artifact.getGroupId(), artifact.getArtifactId(), "pom", artifact.getBaseVersion()));
+                    if (modulePom != null && modulePom.isFile()) {
+                        buildFiles.add(modulePom);
+                    }
+                }
+            }
+            for (File file : buildFiles) {
+                byte[] digest = digest(file);
+                if (digest == null) {
+                    // do not cache a project whose pom.xml files cannot be read
+                    digests = null;
+                    break;
+                }
+                digests.add(digest);
+            }
+        }
+
+        private void addBuildFiles(MavenProject project) {
+            for (MavenProject p = project; p != null && p.getFile() != null; p = p.getParent()) {
+                buildFiles.add(p.getFile());
+            }
+        }
+
+        private boolean isCurrent(String currentContext) {
+            if (!context.equals(currentContext)) {
+                return false;
+            }
+            int i = 0;
+            for (File file : buildFiles) {
+                if (!Arrays.equals(digests.get(i++), digest(file))) {
+                    return false;
+                }
+            }
+            for (Map.Entry<File, String> stamp : dependencyStamps.entrySet()) {
+                if (!stamp.getValue().equals(getStamp(stamp.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the tests of several modules concurrently on a bounded thread pool, so that the
+ * tests of a module can run while other work, such as the tests of other modules or
+ * waiting for the application to be updated, is in progress.
+ * <p>
+ * The runs are tracked by module until their result is collected, so that work which
+ * must follow the tests of a module, such as its integration tests, can wait for them.
+ */
+public class ModuleTestRunner {
+
+    /**
+     * The tests of a module.
+     */
+    public interface TestRun {
+        void run() throws Exception;
+    }
+
+    private final ExecutorService pool;
+    private final Map<String, Future<Void>> runs = new HashMap<String, Future<Void>>();
+
+    /**
+     * @param threads the maximum number of modules to run the tests of at the same time
+     * @param threadNamePrefix the prefix of the pool thread names
+     */
+    public ModuleTestRunner(int threads, String threadNamePrefix) {
+        this.pool = TaskExecutors.newDaemonPool(threads, threadNamePrefix);
+    }
+
+    /**
+     * Submits the tests of a module. A run submitted earlier for the same module, whose
+     * result was not collected, is waited for and replaced.
+     *
+     * @param module the name of the module
+     * @param run the tests
+     */
+    public synchronized void submit(String module, final TestRun run) {
+        Future<Void> previous = runs.remove(module);
+        if (previous != null) {
+            waitFor(previous);
+        }
+        runs.put(module, pool.submit(() -> {
+            run.run();
+            return null;
+        }));
+    }
+
+    /**
+     * Waits for the tests of a module to complete and collects their result, so that
+     * the run is no longer tracked.
+     *
+     * @param module the name of the module
+     * @return the failure of the tests, or null if they passed or if no run of the module
+     *         was submitted since its result was last collected
+     */
+    public Exception await(String module) {
+        Future<Void> run;
+        synchronized (this) {
+            run = runs.remove(module);
+        }
+        return run == null ? null : waitFor(run);
+    }
+
+    /**
+     * Stops the pool threads, interrupting any tests in progress.
+     */
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private static Exception waitFor(Future<Void> run) {
+        try {
+            run.get();
+            return null;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            return cause instanceof Exception ? (Exception) cause : new ExecutionException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        }
+    }
+}
@@ -0,0 +1,392 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Measures how long the phases of the dev mode inner loop take, such as compiling,
+ * deploying, waiting for the application update and running the tests.
+ * <p>
+ * The phases that run between two idle periods form a cycle. A phase started while
+ * another phase runs on the same thread pauses the other phase, so that the time of
+ * each phase excludes its nested phases. Once a cycle completes, a summary line is
+ * logged, the cycle is added to a rolling window used for percentiles, and the cycle is
+ * appended as a line of JSON to a log file.
+ */
+public class PhaseTimings {
+
+    /**
+     * A running phase, which ends when it is closed.
+     */
+    public final class Timer implements AutoCloseable {
+        private final String phase;
+        private final Timer parent;
+        private final BuildTrace.Span span;
+        private long startNanos;
+        private long elapsedNanos;
+        private boolean closed;
+
+        private Timer(String phase, Timer parent, long startNanos, BuildTrace.Span span) {
+            this.phase = phase;
+            this.parent = parent;
+            this.startNanos = startNanos;
+            this.span = span;
+        }
+
+        @Override
+        public void close() {
+            end(true);
+        }
+
+        /**
+         * Ends the phase without recording it, e.g. when what it waited for did not happen.
+         */
+        public void cancel() {
+            end(false);
+        }
+
+        private void end(boolean record) {
+            if (record && span != null) {
+                span.close();
+            }
+            if (closed || phase == null) {
+                return;
+            }
+            closed = true;
+            long now = System.nanoTime();
+            elapsedNanos += now - startNanos;
+            running.get().remove(this);
+            if (parent != null && !parent.closed) {
+                parent.startNanos = now;
+            }
+            finish(record ? phase : null, elapsedNanos, now);
+        }
+    }
+
+    private static class Cycle {
+        private final long startMillis;
+        private final long totalNanos;
+        private final Map<String, Long> phases;
+
+        private Cycle(long startMillis, long totalNanos, Map<String, Long> phases) {
+            this.startMillis = startMillis;
+            this.totalNanos = totalNanos;
+            this.phases = phases;
+        }
+    }
+
+    private static final String TOTAL = "total";
+
+    private final long idleMillis;
+    private final int windowSize;
+    private final File logFile;
+    private final String pluginVersion;
+    private final BooleanSupplier pendingWork;
+    private final Log log;
+    private final Timer disabledTimer = new Timer(null, null, 0, null);
+    private final ThreadLocal<Deque<Timer>> running = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Deque<Cycle> window = new ArrayDeque<Cycle>();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean enabled;
+
+    // the cycle in progress
+    private long cycleStartNanos;
+    private long cycleEndNanos;
+    private int activePhases;
+    private Map<String, Long> cyclePhases = new LinkedHashMap<String, Long>();
+    private Set<String> cyclePhaseOrder = new LinkedHashSet<String>();
+
+    /**
+     * @param idleMillis the time without running phases after which a cycle completes
+     * @param windowSize the number of recent cycles that the percentiles are computed from
+     * @param logFile the file that the cycles are appended to, or null
+     * @param pluginVersion the version of the plugin recorded with each cycle
+     * @param pendingWork returns true while work that is about to start a phase is pending,
+     *            which keeps the cycle from completing
+     * @param log the logger
+     */
+    public PhaseTimings(long idleMillis, int windowSize, File logFile, String pluginVersion, BooleanSupplier pendingWork, Log log) {
+        this.idleMillis = idleMillis;
+        this.windowSize = windowSize;
+        this.logFile = logFile;
+        this.pluginVersion = pluginVersion;
+        this.pendingWork = pendingWork;
+        this.log = log;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "liberty-dev-timings");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts recording phases. Phases started before are not recorded.
+     */
+    public void enable() {
+        enabled = true;
+    }
+
+    /**
+     * @return true if phases are recorded
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a phase on the current thread. The phase is also traced as a stage of the
+     * dev goal, if the build is traced.
+     *
+     * @param phase the name of the phase
+     * @return the timer to close when the phase ends
+     */
+    public Timer start(String phase) {
+        BuildTrace.Span span = BuildTrace.beginStage(phase);
+        if (!enabled) {
+            return span.isActive() ? new Timer(null, null, 0, span) : disabledTimer;
+        }
+        long now = System.nanoTime();
+        Deque<Timer> stack = running.get();
+        Timer parent = stack.peek();
+        if (parent != null) {
+            parent.elapsedNanos += now - parent.startNanos;
+        }
+        Timer timer = new Timer(phase, parent, now, span);
+        stack.push(timer);
+        begin(phase, now);
+        return timer;
+    }
+
+    /**
+     * Records a phase that started at a given time and ends now, such as the time from
+     * saving a file until dev mode processes it.
+     *
+     * @param phase the name of the phase
+     * @param startMillis the start of the phase, in milliseconds since the epoch
+     */
+    public void recordSince(String phase, long startMillis) {
+        long elapsedMillis = System.currentTimeMillis() - startMillis;
+        if (elapsedMillis <= 0 || elapsedMillis > TimeUnit.MINUTES.toMillis(10)) {
+            return;
+        }
+        long elapsedNanos = TimeUnit.MILLISECONDS.toNanos(elapsedMillis);
+        BuildTrace.recordStage(phase, startMillis, elapsedNanos);
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        begin(phase, now - elapsedNanos);
+        finish(phase, elapsedNanos, now);
+    }
+
+    /**
+     * Returns the 50th and 90th percentiles and the maximum time of each phase and of the
+     * whole cycles, over the recent cycles.
+     *
+     * @return the table, or null if no cycle completed yet
+     */
+    public String getPercentileTable() {
+        List<Cycle> cycles;
+        synchronized (this) {
+            cycles = new ArrayList<Cycle>(window);
+        }
+        if (cycles.isEmpty()) {
+            return null;
+        }
+        Set<String> phases = new LinkedHashSet<String>();
+        for (Cycle cycle : cycles) {
+            phases.addAll(cycle.phases.keySet());
+        }
+        phases.add(TOTAL);
+        int nameWidth = TOTAL.length();
+        for (String phase : phases) {
+            nameWidth = Math.max(nameWidth, phase.length());
+        }
+        String format = "%-" + nameWidth + "s %7s %10s %10s %10s%n";
+        StringBuilder table = new StringBuilder();
+        table.append("Dev mode phase times over the last ").append(cycles.size()).append(cycles.size() == 1 ? " cycle:" : " cycles:")
+                .append(System.lineSeparator());
+        table.append(String.format(Locale.ROOT, format, "phase", "cycles", "p50", "p90", "max"));
+        for (String phase : phases) {
+            List<Long> times = new ArrayList<Long>();
+            for (Cycle cycle : cycles) {
+                Long time = TOTAL.equals(phase) ? Long.valueOf(cycle.totalNanos) : cycle.phases.get(phase);
+                if (time != null) {
+                    times.add(time);
+                }
+            }
+            Collections.sort(times);
+            table.append(String.format(Locale.ROOT, format, phase, times.size(), formatNanos(percentile(times, 50)),
+                    formatNanos(percentile(times, 90)), formatNanos(times.get(times.size() - 1))));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Completes the cycle in progress and stops the background thread.
+     */
+    public void close() {
+        scheduler.shutdownNow();
+        completeCycle(true);
+    }
+
+    private synchronized void begin(String phase, long startNanos) {
+        if (cycleStartNanos == 0 || startNanos < cycleStartNanos) {
+            cycleStartNanos = startNanos;
+        }
+        cyclePhaseOrder.add(phase);
+        activePhases++;
+    }
+
+    private void finish(String phase, long elapsedNanos, long endNanos) {
+        synchronized (this) {
+            if (phase != null) {
+                Long previous = cyclePhases.get(phase);
+                cyclePhases.put(phase, previous == null ? elapsedNanos : previous + elapsedNanos);
+                cycleEndNanos = Math.max(cycleEndNanos, endNanos);
+            }
+            if (--activePhases > 0) {
+                return;
+            }
+        }
+        scheduleIdleCheck();
+    }
+
+    private void scheduleIdleCheck() {
+        try {
+            scheduler.schedule(() -> completeCycle(false), idleMillis, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // the timings were closed
+        }
+    }
+
+    private void completeCycle(boolean force) {
+        Cycle cycle;
+        synchronized (this) {
+            if (cycleStartNanos == 0 || activePhases > 0) {
+                return;
+            }
+            if (cyclePhases.isEmpty()) {
+                // only cancelled phases ran
+                cycleStartNanos = 0;
+                cyclePhaseOrder.clear();
+                return;
+            }
+            if (!force && (System.nanoTime() - cycleEndNanos < TimeUnit.MILLISECONDS.toNanos(idleMillis) || pendingWork.getAsBoolean())) {
+                scheduleIdleCheck();
+                return;
+            }
+            long totalNanos = cycleEndNanos - cycleStartNanos;
+            long startMillis = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cycleStartNanos);
+            // list the phases in the order they started
+            Map<String, Long> phases = new LinkedHashMap<String, Long>();
+            for (String phase : cyclePhaseOrder) {
+                if (cyclePhases.containsKey(phase)) {
+                    phases.put(phase, cyclePhases.get(phase));
+                }
+            }
+            cycle = new Cycle(startMillis, totalNanos, phases);
+            cyclePhases = new LinkedHashMap<String, Long>();
+            cyclePhaseOrder.clear();
+            cycleStartNanos = 0;
+            cycleEndNanos = 0;
+            window.addLast(cycle);
+            while (window.size() > windowSize) {
+                window.removeFirst();
+            }
+        }
+
+        BuildTrace.recordStage("dev cycle", cycle.startMillis, cycle.totalNanos);
+        StringBuilder summary = new StringBuilder("Dev mode cycle took ").append(formatNanos(cycle.totalNanos));
+        String separator = ": ";
+        for (Map.Entry<String, Long> phase : cycle.phases.entrySet()) {
+            summary.append(separator).append(phase.getKey()).append(' ').append(formatNanos(phase.getValue()));
+            separator = ", ";
+        }
+        log.info(summary.toString());
+        if (logFile != null) {
+            try {
+                File parent = logFile.getParentFile();
+                if (parent != null) {
+                    parent.mkdirs();
+                }
+                Files.write(logFile.toPath(), (toJson(cycle) + "\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                log.debug("Unable to write the phase timings to " + logFile, e);
+            }
+        }
+    }
+
+    private String toJson(Cycle cycle) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.ROOT);
+        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        StringBuilder json = new StringBuilder("{\"start\":\"").append(dateFormat.format(new Date(cycle.startMillis))).append('"');
+        json.append(",\"pluginVersion\":").append(pluginVersion == null ? "null" : "\"" + escape(pluginVersion) + "\"");
+        json.append(",\"totalMillis\":").append(toMillis(cycle.totalNanos));
+        json.append(",\"phases\":{");
+        String separator = "";
+        for (Map.Entry<String, Long> phase : cycle.phases.entrySet()) {
+            json.append(separator).append('"').append(escape(phase.getKey())).append("\":").append(toMillis(phase.getValue()));
+            separator = ",";
+        }
+        return json.append("}}").toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+
+    private static long percentile(List<Long> sortedTimes, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sortedTimes.size());
+        return sortedTimes.get(Math.max(0, rank - 1));
+    }
+
+    static String formatNanos(long nanos) {
+        if (nanos < TimeUnit.SECONDS.toNanos(1)) {
+            return TimeUnit.NANOSECONDS.toMillis(nanos) + " ms";
+        }
+        return String.format(Locale.ROOT, "%.2f s", nanos / 1e9);
+    }
+}
@@ -0,0 +1,286 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.maven.model.Dependency;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+/**
+ * Compares the parts of two versions of a pom.xml that dev mode acts on, and classifies
+ * each changed element to the actions needed to apply it to the running server. Elements
+ * that the server does not depend on, such as the order of the dependencies, the deploy
+ * timeout or test scoped dependencies, need no action.
+ */
+public class PomChangeClassifier {
+
+    /**
+     * The actions that apply a change, from the cheapest to the most expensive.
+     */
+    public enum Action {
+        GENERATE_FEATURES("generate features"),
+        INSTALL_FEATURE("install features"),
+        REDEPLOY("redeploy the application"),
+        CREATE("create the server"),
+        RESTART("restart the server"),
+        REINSTALL("reinstall the Liberty runtime");
+
+        private final String description;
+
+        Action(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static final Set<Action> NONE = Collections.unmodifiableSet(EnumSet.noneOf(Action.class));
+
+    private static final Map<String, Set<Action>> PROPERTY_PREFIX_ACTIONS = new LinkedHashMap<String, Set<Action>>();
+    static {
+        PROPERTY_PREFIX_ACTIONS.put("liberty.runtime.", EnumSet.of(Action.REINSTALL));
+        PROPERTY_PREFIX_ACTIONS.put("liberty.bootstrap.", EnumSet.of(Action.RESTART));
+        PROPERTY_PREFIX_ACTIONS.put("liberty.jvm.", EnumSet.of(Action.RESTART));
+        PROPERTY_PREFIX_ACTIONS.put("liberty.env.", EnumSet.of(Action.RESTART));
+        PROPERTY_PREFIX_ACTIONS.put("liberty.var.", EnumSet.of(Action.CREATE));
+        PROPERTY_PREFIX_ACTIONS.put("liberty.defaultVar.", EnumSet.of(Action.CREATE));
+    }
+
+    // the Liberty plugin parameters shared by several goals are classified by what they
+    // affect rather than by every goal they are passed to
+    private static final Map<String, Set<Action>> LIBERTY_PARAMETER_ACTIONS = new HashMap<String, Set<Action>>();
+    static {
+        for (String parameter : Arrays.asList("installDirectory", "runtimeArchive", "runtimeArtifact", "assemblyArchive",
+                "assemblyArtifact", "libertyRuntimeGroupId", "libertyRuntimeArtifactId", "libertyRuntimeVersion", "serverName",
+                "userDirectory", "outputDirectory", "runtimeInstallDirectory", "assemblyInstallDirectory", "install")) {
+            LIBERTY_PARAMETER_ACTIONS.put(parameter, EnumSet.of(Action.REINSTALL));
+        }
+        for (String parameter : Arrays.asList("bootstrapProperties", "bootstrapPropertiesFile", "jvmOptions", "jvmOptionsFile",
+                "serverEnv", "serverEnvFile", "configDirectory")) {
+            LIBERTY_PARAMETER_ACTIONS.put(parameter, EnumSet.of(Action.RESTART));
+        }
+        for (String parameter : Arrays.asList("serverXmlFile", "configFile")) {
+            LIBERTY_PARAMETER_ACTIONS.put(parameter, EnumSet.of(Action.CREATE, Action.INSTALL_FEATURE, Action.GENERATE_FEATURES));
+        }
+        for (String parameter : Arrays.asList("template", "libertySettingsFolder", "noPassword", "copyDependencies",
+                "mergeServerEnv", "licenseArtifact")) {
+            LIBERTY_PARAMETER_ACTIONS.put(parameter, EnumSet.of(Action.CREATE));
+        }
+        for (String parameter : Arrays.asList("appsDirectory", "stripVersion", "deployPackages", "installAppPackages",
+                "looseApplication", "copyLibsDirectory")) {
+            LIBERTY_PARAMETER_ACTIONS.put(parameter, EnumSet.of(Action.REDEPLOY));
+        }
+        LIBERTY_PARAMETER_ACTIONS.put("features", EnumSet.of(Action.INSTALL_FEATURE));
+        // only used while the goals run or when the runtime is installed
+        for (String parameter : Arrays.asList("timeout", "refresh", "skip")) {
+            LIBERTY_PARAMETER_ACTIONS.put(parameter, NONE);
+        }
+    }
+
+    private final Set<Action> actions = EnumSet.noneOf(Action.class);
+    private final List<String> explanations = new ArrayList<String>();
+    private boolean dependenciesChanged;
+
+    /**
+     * Compares the liberty.* properties that configure the server.
+     *
+     * @param oldProperties the previous project properties
+     * @param newProperties the current project properties
+     */
+    public void compareProperties(Properties oldProperties, Properties newProperties) {
+        Set<String> keys = new TreeSet<String>();
+        keys.addAll(oldProperties.stringPropertyNames());
+        keys.addAll(newProperties.stringPropertyNames());
+        for (String key : keys) {
+            for (Map.Entry<String, Set<Action>> prefix : PROPERTY_PREFIX_ACTIONS.entrySet()) {
+                if (key.startsWith(prefix.getKey())
+                        && !Objects.equals(oldProperties.getProperty(key), newProperties.getProperty(key))) {
+                    record("property " + key, prefix.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Compares the configuration of a goal element by element.
+     *
+     * @param goal the plugin artifact id and goal, such as liberty-maven-plugin:create
+     * @param oldConfig the previous configuration of the goal
+     * @param newConfig the current configuration of the goal
+     * @param defaultActions the actions for the elements that are not classified individually
+     */
+    public void compareConfiguration(String goal, Xpp3Dom oldConfig, Xpp3Dom newConfig, Set<Action> defaultActions) {
+        boolean libertyGoal = goal.startsWith("liberty-maven-plugin:");
+        for (String name : getChildNames(oldConfig, newConfig)) {
+            if (!Arrays.equals(getChildren(oldConfig, name), getChildren(newConfig, name))) {
+                Set<Action> elementActions = libertyGoal ? LIBERTY_PARAMETER_ACTIONS.get(name) : null;
+                record(goal + " configuration " + name, elementActions != null ? elementActions : defaultActions);
+            }
+        }
+    }
+
+    /**
+     * Compares the version of a plugin whose goal dev mode runs.
+     *
+     * @param plugin the plugin artifact id
+     * @param oldVersion the previous version
+     * @param newVersion the current version
+     * @param versionActions the actions that apply a version change
+     */
+    public void compareVersion(String plugin, String oldVersion, String newVersion, Set<Action> versionActions) {
+        if (!Objects.equals(oldVersion, newVersion)) {
+            record(plugin + " version " + oldVersion + " -> " + newVersion, versionActions);
+        }
+    }
+
+    /**
+     * Compares the dependencies by coordinates, regardless of their order. Changes of
+     * compile dependencies, which are part of the application, need a redeploy, while
+     * provided dependencies only affect the generated features.
+     *
+     * @param oldDependencies the previous dependencies
+     * @param newDependencies the current dependencies
+     */
+    public void compareDependencies(List<Dependency> oldDependencies, List<Dependency> newDependencies) {
+        Map<String, Dependency> oldByKey = byKey(oldDependencies);
+        Map<String, Dependency> newByKey = byKey(newDependencies);
+        Set<String> keys = new TreeSet<String>(oldByKey.keySet());
+        keys.addAll(newByKey.keySet());
+        for (String key : keys) {
+            Dependency oldDependency = oldByKey.get(key);
+            Dependency newDependency = newByKey.get(key);
+            if (oldDependency != null && newDependency != null && Objects.equals(oldDependency.getVersion(), newDependency.getVersion())
+                    && Objects.equals(oldDependency.getScope(), newDependency.getScope())) {
+                continue;
+            }
+            dependenciesChanged = true;
+            String change = oldDependency == null ? "added" : newDependency == null ? "removed"
+                    : describe(oldDependency) + " -> " + describe(newDependency);
+            Set<Action> dependencyActions = EnumSet.noneOf(Action.class);
+            for (Dependency dependency : Arrays.asList(oldDependency, newDependency)) {
+                if (dependency == null) {
+                    continue;
+                }
+                if ("esa".equals(dependency.getType())) {
+                    dependencyActions.add(Action.INSTALL_FEATURE);
+                } else if ("compile".equals(dependency.getScope())) {
+                    dependencyActions.add(Action.REDEPLOY);
+                    dependencyActions.add(Action.GENERATE_FEATURES);
+                } else if ("provided".equals(dependency.getScope())) {
+                    dependencyActions.add(Action.GENERATE_FEATURES);
+                }
+            }
+            record("dependency " + key + " " + change, dependencyActions);
+        }
+        if (!dependenciesChanged && !keysInOrder(oldDependencies).equals(keysInOrder(newDependencies))) {
+            explanations.add("dependencies reordered: no action needed");
+        }
+    }
+
+    /**
+     * @param action an action
+     * @return true if a change needs the action
+     */
+    public boolean requires(Action action) {
+        return actions.contains(action);
+    }
+
+    /**
+     * @return the actions that the changes need
+     */
+    public Set<Action> getActions() {
+        return Collections.unmodifiableSet(actions);
+    }
+
+    /**
+     * @return true if a dependency was added or removed, or its version or scope changed
+     */
+    public boolean isDependenciesChanged() {
+        return dependenciesChanged;
+    }
+
+    /**
+     * @return a description of each change and the actions it needs
+     */
+    public List<String> getExplanations() {
+        return Collections.unmodifiableList(explanations);
+    }
+
+    private void record(String change, Set<Action> changeActions) {
+        actions.addAll(changeActions);
+        explanations.add(change + ": " + (changeActions.isEmpty() ? "no action needed" : changeActions));
+    }
+
+    private static Set<String> getChildNames(Xpp3Dom... configs) {
+        Set<String> names = new TreeSet<String>();
+        for (Xpp3Dom config : configs) {
+            if (config != null) {
+                for (Xpp3Dom child : config.getChildren()) {
+                    names.add(child.getName());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static Xpp3Dom[] getChildren(Xpp3Dom config, String name) {
+        return config == null ? new Xpp3Dom[0] : config.getChildren(name);
+    }
+
+    private static Map<String, Dependency> byKey(List<Dependency> dependencies) {
+        Map<String, Dependency> byKey = new HashMap<String, Dependency>();
+        if (dependencies != null) {
+            for (Dependency dependency : dependencies) {
+                byKey.put(key(dependency), dependency);
+            }
+        }
+        return byKey;
+    }
+
+    private static List<String> keysInOrder(List<Dependency> dependencies) {
+        List<String> keys = new ArrayList<String>();
+        if (dependencies != null) {
+            for (Dependency dependency : dependencies) {
+                keys.add(key(dependency));
+            }
+        }
+        return keys;
+    }
+
+    private static String key(Dependency dependency) {
+        return dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getType()
+                + (dependency.getClassifier() == null ? "" : ":" + dependency.getClassifier());
+    }
+
+    private static String describe(Dependency dependency) {
+        return dependency.getVersion() + " (" + dependency.getScope() + ")";
+    }
+}
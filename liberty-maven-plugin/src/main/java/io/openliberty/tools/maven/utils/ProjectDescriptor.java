@@ -0,0 +1,174 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * The parts of an upstream module that dev mode compares when the pom.xml of the module
+ * changes, kept instead of the full Maven project model. The model of a module with its
+ * resolved dependencies takes far more memory than this, so dev mode only builds the
+ * model again when the pom.xml actually changes.
+ * <p>
+ * The classpath elements are {@link Interner interned}, so that the many modules of a
+ * large reactor that have the same dependencies share the same strings and lists.
+ */
+public class ProjectDescriptor {
+
+    private final File buildFile;
+    private final String groupId;
+    private final String artifactId;
+    private final String packaging;
+    private final String buildDirectory;
+    private final String outputDirectory;
+    private final List<String> compileClasspath;
+    private final List<String> testClasspath;
+    private final List<String> compileDependencies;
+    private final List<String> compilerOptions;
+
+    private ProjectDescriptor(MavenProject project, List<String> compilerOptions, Interner interner)
+            throws DependencyResolutionRequiredException {
+        this.buildFile = project.getFile();
+        this.groupId = interner.intern(project.getGroupId());
+        this.artifactId = project.getArtifactId();
+        this.packaging = interner.intern(project.getPackaging());
+        this.buildDirectory = project.getBuild().getDirectory();
+        this.outputDirectory = project.getBuild().getOutputDirectory();
+        this.compileClasspath = interner.intern(project.getCompileClasspathElements());
+        this.testClasspath = interner.intern(project.getTestClasspathElements());
+        List<String> dependencies = new ArrayList<String>();
+        for (Dependency dependency : project.getDependencies()) {
+            if ("compile".equals(dependency.getScope()) || "provided".equals(dependency.getScope())) {
+                dependencies.add(dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getType() + ":"
+                        + dependency.getVersion() + ":" + dependency.getScope());
+            }
+        }
+        this.compileDependencies = interner.intern(dependencies);
+        this.compilerOptions = interner.intern(compilerOptions);
+    }
+
+    /**
+     * Describes a project whose dependencies are resolved.
+     *
+     * @param project the project
+     * @param compilerOptions the options that the project is compiled with
+     * @param interner the interner shared by the descriptors of the reactor
+     * @return the descriptor
+     * @throws DependencyResolutionRequiredException if the dependencies are not resolved
+     */
+    public static ProjectDescriptor of(MavenProject project, List<String> compilerOptions, Interner interner)
+            throws DependencyResolutionRequiredException {
+        return new ProjectDescriptor(project, compilerOptions, interner);
+    }
+
+    public File getBuildFile() {
+        return buildFile;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public String getPackaging() {
+        return packaging;
+    }
+
+    public File getBuildDirectory() {
+        return new File(buildDirectory);
+    }
+
+    public File getOutputDirectory() {
+        return new File(outputDirectory);
+    }
+
+    public List<String> getCompileClasspathElements() {
+        return compileClasspath;
+    }
+
+    public List<String> getTestClasspathElements() {
+        return testClasspath;
+    }
+
+    /**
+     * @return the compile and provided scope dependencies in the order of the pom.xml, as
+     *         groupId:artifactId:type:version:scope
+     */
+    public List<String> getCompileDependencies() {
+        return compileDependencies;
+    }
+
+    public List<String> getCompilerOptions() {
+        return compilerOptions;
+    }
+
+    /**
+     * Shares equal strings and lists of strings, such as the classpath elements of the
+     * modules of a reactor.
+     */
+    public static class Interner {
+        private final Map<String, String> strings = new HashMap<String, String>();
+        private final Map<List<String>, List<String>> lists = new HashMap<List<String>, List<String>>();
+
+        public synchronized String intern(String value) {
+            if (value == null) {
+                return null;
+            }
+            String interned = strings.putIfAbsent(value, value);
+            return interned != null ? interned : value;
+        }
+
+        /**
+         * @return an unmodifiable list equal to the given list, shared with the other
+         *         equal lists
+         */
+        public synchronized List<String> intern(List<String> values) {
+            List<String> interned = lists.get(values);
+            if (interned == null) {
+                String[] elements = new String[values.size()];
+                for (int i = 0; i < elements.length; i++) {
+                    elements[i] = intern(values.get(i));
+                }
+                interned = Collections.unmodifiableList(Arrays.asList(elements));
+                lists.put(interned, interned);
+            }
+            return interned;
+        }
+
+        /**
+         * Adds the interned values to a collection, such as the classpath set of a module.
+         */
+        public synchronized void addAll(Collection<String> target, Collection<String> values) {
+            for (String value : values) {
+                target.add(intern(value));
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Runs a task for each project of a Maven reactor on a bounded thread pool. A task
+ * only starts once the tasks of all of its upstream projects have completed, so
+ * projects that do not depend on each other are processed concurrently.
+ */
+public class ProjectGraphExecutor {
+
+    /**
+     * Task to run for a single project.
+     */
+    public interface ProjectTask {
+        void run(MavenProject project) throws Exception;
+    }
+
+    private final ProjectDependencyGraph graph;
+    private final int threads;
+    private final String threadNamePrefix;
+
+    /**
+     * @param graph the project dependency graph of the reactor
+     * @param threads the maximum number of tasks to run at the same time
+     * @param threadNamePrefix the prefix of the pool thread names
+     */
+    public ProjectGraphExecutor(ProjectDependencyGraph graph, int threads, String threadNamePrefix) {
+        this.graph = graph;
+        this.threads = Math.max(1, threads);
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    /**
+     * Runs the task for each of the given projects. The tasks of the downstream projects
+     * of a failed task do not run, and fail as well.
+     *
+     * @param projects the projects to run the task for, in reactor order
+     * @param task the task
+     * @return the failures of the tasks, keyed by project, in the order of the given projects
+     * @throws InterruptedException if interrupted while waiting for the tasks
+     */
+    public Map<MavenProject, Throwable> execute(List<MavenProject> projects, final ProjectTask task) throws InterruptedException {
+        final Map<MavenProject, Throwable> failures = new ConcurrentHashMap<MavenProject, Throwable>();
+        ExecutorService pool = TaskExecutors.newDaemonPool(Math.min(threads, projects.size()), threadNamePrefix);
+        try {
+            Map<MavenProject, CompletableFuture<Void>> futures = new LinkedHashMap<MavenProject, CompletableFuture<Void>>();
+            for (final MavenProject project : graph.getSortedProjects()) {
+                if (!projects.contains(project)) {
+                    continue;
+                }
+                List<CompletableFuture<Void>> upstreamFutures = new ArrayList<CompletableFuture<Void>>();
+                for (MavenProject upstream : graph.getUpstreamProjects(project, true)) {
+                    CompletableFuture<Void> upstreamFuture = futures.get(upstream);
+                    if (upstreamFuture != null) {
+                        upstreamFutures.add(upstreamFuture);
+                    }
+                }
+                CompletableFuture<Void> future = TaskExecutors.runAfter(upstreamFutures, () -> {
+                    for (MavenProject upstream : graph.getUpstreamProjects(project, true)) {
+                        if (failures.containsKey(upstream)) {
+                            failures.put(project, new IllegalStateException("The upstream project " + upstream.getArtifactId() + " failed"));
+                            return;
+                        }
+                    }
+                    try {
+                        task.run(project);
+                    } catch (Throwable t) {
+                        failures.put(project, t);
+                    }
+                }, pool);
+                futures.put(project, future);
+            }
+            for (CompletableFuture<Void> future : futures.values()) {
+                TaskExecutors.awaitCompletion(future);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Map<MavenProject, Throwable> orderedFailures = new LinkedHashMap<MavenProject, Throwable>();
+        for (MavenProject project : projects) {
+            if (failures.containsKey(project)) {
+                orderedFailures.put(project, failures.get(project));
+            }
+        }
+        return orderedFailures;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread pools and task wiring shared by the components that run the work of a build
+ * concurrently.
+ */
+public final class TaskExecutors {
+
+    private TaskExecutors() {
+    }
+
+    /**
+     * Creates a pool of daemon threads, so that the pool never keeps the JVM alive.
+     *
+     * @param threads the number of threads
+     * @param threadNamePrefix the prefix of the thread names, which are numbered from 1
+     * @return the pool
+     */
+    public static ExecutorService newDaemonPool(int threads, final String threadNamePrefix) {
+        return Executors.newFixedThreadPool(Math.max(1, threads), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, threadNamePrefix + "-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Runs a task on the executor once all of the given futures have completed, whether
+     * they completed successfully or not.
+     *
+     * @param upstream the futures to wait for
+     * @param task the task
+     * @param executor the executor to run the task on
+     * @return the future of the task
+     */
+    public static CompletableFuture<Void> runAfter(Collection<CompletableFuture<Void>> upstream, Runnable task, Executor executor) {
+        return CompletableFuture.allOf(upstream.toArray(new CompletableFuture<?>[upstream.size()]))
+                .handle((result, e) -> (Void) null)
+                .thenRunAsync(task, executor);
+    }
+
+    /**
+     * Waits for a future to complete, ignoring its failure, which the caller records
+     * from the task itself.
+     *
+     * @param future the future
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static void awaitCompletion(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            // failures are recorded by the task wrapper
+        }
+    }
+}
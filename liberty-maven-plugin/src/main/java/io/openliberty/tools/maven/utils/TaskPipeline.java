@@ -0,0 +1,173 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs named tasks on a bounded thread pool. A task starts once all of the tasks it
+ * depends on have completed, so tasks that do not depend on each other run concurrently.
+ * With a single thread the tasks run one at a time in the order they were added.
+ * <p>
+ * A task whose dependencies failed is not run. The time spent in each task is recorded
+ * for a timing report.
+ */
+public class TaskPipeline {
+
+    /**
+     * A task of the pipeline.
+     */
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    private final int threads;
+    private final String threadNamePrefix;
+    private final Map<String, Task> tasks = new LinkedHashMap<String, Task>();
+    private final Map<String, String[]> dependencies = new LinkedHashMap<String, String[]>();
+    private final Map<String, Long> durations = new ConcurrentHashMap<String, Long>();
+    private long elapsed;
+
+    /**
+     * @param threads the maximum number of tasks to run at the same time
+     * @param threadNamePrefix the prefix of the pool thread names
+     */
+    public TaskPipeline(int threads, String threadNamePrefix) {
+        this.threads = Math.max(1, threads);
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    /**
+     * Adds a task to the pipeline.
+     *
+     * @param name the unique name of the task
+     * @param task the task
+     * @param dependsOn the names of the previously added tasks that must complete before
+     *            this task starts
+     * @throws IllegalArgumentException if a task with the same name was already added, or
+     *             if a task it depends on was not added
+     */
+    public void add(String name, Task task, String... dependsOn) {
+        if (tasks.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate task " + name);
+        }
+        for (String dependency : dependsOn) {
+            if (!tasks.containsKey(dependency)) {
+                throw new IllegalArgumentException("Task " + name + " depends on unknown task " + dependency);
+            }
+        }
+        tasks.put(name, task);
+        dependencies.put(name, dependsOn);
+    }
+
+    /**
+     * Runs the tasks and waits for them to complete.
+     *
+     * @throws Exception the failure of the first task, in the order the tasks were added,
+     *             that did not complete successfully
+     */
+    public void run() throws Exception {
+        final Map<String, Throwable> failures = new ConcurrentHashMap<String, Throwable>();
+        long start = System.nanoTime();
+        ExecutorService pool = TaskExecutors.newDaemonPool(Math.min(threads, tasks.size()), threadNamePrefix);
+        try {
+            Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<String, CompletableFuture<Void>>();
+            for (final Map.Entry<String, Task> entry : tasks.entrySet()) {
+                final String name = entry.getKey();
+                final String[] upstream = dependencies.get(name);
+                List<CompletableFuture<Void>> upstreamFutures = new ArrayList<CompletableFuture<Void>>();
+                for (String dependency : upstream) {
+                    upstreamFutures.add(futures.get(dependency));
+                }
+                CompletableFuture<Void> future = TaskExecutors.runAfter(upstreamFutures, () -> {
+                    for (String dependency : upstream) {
+                        if (failures.containsKey(dependency)) {
+                            return;
+                        }
+                    }
+                    long taskStart = System.nanoTime();
+                    try {
+                        entry.getValue().run();
+                    } catch (Throwable t) {
+                        failures.put(name, t);
+                    } finally {
+                        durations.put(name, System.nanoTime() - taskStart);
+                    }
+                }, pool);
+                futures.put(name, future);
+                if (threads == 1) {
+                    // preserve the order the tasks were added in
+                    TaskExecutors.awaitCompletion(future);
+                }
+            }
+            for (CompletableFuture<Void> future : futures.values()) {
+                TaskExecutors.awaitCompletion(future);
+            }
+        } finally {
+            pool.shutdownNow();
+            elapsed = System.nanoTime() - start;
+        }
+
+        for (String name : tasks.keySet()) {
+            Throwable failure = failures.get(name);
+            if (failure instanceof Exception) {
+                throw (Exception) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+        }
+    }
+
+    /**
+     * Returns the time spent in each task that ran, in milliseconds.
+     *
+     * @return the durations keyed by task name, in the order the tasks were added
+     */
+    public Map<String, Long> getDurations() {
+        Map<String, Long> result = new LinkedHashMap<String, Long>();
+        for (String name : tasks.keySet()) {
+            Long duration = durations.get(name);
+            if (duration != null) {
+                result.put(name, duration / 1000000L);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a one line report of the time spent in each task and in the whole pipeline.
+     *
+     * @return the timing report
+     */
+    public String getTimingReport() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> entry : getDurations().entrySet()) {
+            sb.append(entry.getKey()).append(' ').append(formatSeconds(entry.getValue())).append(", ");
+        }
+        sb.append("total ").append(formatSeconds(elapsed / 1000000L));
+        return sb.toString();
+    }
+
+    private static String formatSeconds(long millis) {
+        return String.format("%.2f s", millis / 1000.0);
+    }
+}
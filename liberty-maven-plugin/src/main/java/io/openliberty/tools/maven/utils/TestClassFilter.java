@@ -0,0 +1,142 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+/**
+ * Selects test classes with the include and exclude patterns of the configuration of
+ * the maven-surefire-plugin test goal or the maven-failsafe-plugin integration-test
+ * goal, or their default patterns.
+ */
+public class TestClassFilter {
+
+    private static final List<String> DEFAULT_UNIT_TEST_INCLUDES = Arrays.asList("**/Test*.java", "**/*Test.java",
+            "**/*Tests.java", "**/*TestCase.java");
+    private static final List<String> DEFAULT_INTEGRATION_TEST_INCLUDES = Arrays.asList("**/IT*.java", "**/*IT.java",
+            "**/*ITCase.java");
+    private static final List<String> DEFAULT_EXCLUDES = Collections.singletonList("**/*$*");
+
+    private final List<String> includes;
+    private final List<String> excludes;
+
+    private TestClassFilter(List<String> includes, List<String> excludes) {
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    /**
+     * Creates a filter from the configuration of a test goal.
+     *
+     * @param config the configuration of the goal
+     * @param integrationTests whether the goal runs integration tests
+     * @return the filter, or null if the configuration selects tests in a way that the
+     *         filter does not support, such as regular expressions, method filters or
+     *         pattern files
+     */
+    public static TestClassFilter fromConfiguration(Xpp3Dom config, boolean integrationTests) {
+        if (config.getChild("includesFile") != null || config.getChild("excludesFile") != null) {
+            return null;
+        }
+        List<String> includes = getPatterns(config, "includes", "include");
+        List<String> excludes = getPatterns(config, "excludes", "exclude");
+        for (String pattern : includes) {
+            if (!isSupported(pattern)) {
+                return null;
+            }
+        }
+        for (String pattern : excludes) {
+            if (!isSupported(pattern)) {
+                return null;
+            }
+        }
+        if (includes.isEmpty()) {
+            includes = integrationTests ? DEFAULT_INTEGRATION_TEST_INCLUDES : DEFAULT_UNIT_TEST_INCLUDES;
+        }
+        if (excludes.isEmpty()) {
+            excludes = DEFAULT_EXCLUDES;
+        }
+        return new TestClassFilter(includes, excludes);
+    }
+
+    /**
+     * @param className the internal name of a class
+     * @return true if the class is included by the patterns
+     */
+    public boolean isIncluded(String className) {
+        return IncrementalResources.isIncluded(includes, excludes, className + ".java", false)
+                || IncrementalResources.isIncluded(includes, excludes, className + ".class", false);
+    }
+
+    /**
+     * Lists the top level test classes of a test classes directory included by the patterns.
+     *
+     * @param testClassesDirectory the test classes output directory
+     * @return the internal names of the included classes, sorted
+     */
+    public Set<String> getTestClasses(File testClassesDirectory) {
+        Set<String> classes = new TreeSet<String>();
+        collectTestClasses(testClassesDirectory, "", classes);
+        return classes;
+    }
+
+    private void collectTestClasses(File dir, String packagePath, Set<String> classes) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                collectTestClasses(file, packagePath + name + "/", classes);
+            } else if (name.endsWith(".class") && name.indexOf('$') < 0) {
+                String className = packagePath + name.substring(0, name.length() - ".class".length());
+                if (isIncluded(className)) {
+                    classes.add(className);
+                }
+            }
+        }
+    }
+
+    private static boolean isSupported(String pattern) {
+        return !pattern.startsWith("%regex[") && !pattern.contains("#");
+    }
+
+    private static List<String> getPatterns(Xpp3Dom config, String listName, String elementName) {
+        List<String> patterns = new ArrayList<String>();
+        Xpp3Dom list = config.getChild(listName);
+        if (list != null) {
+            for (Xpp3Dom pattern : list.getChildren(elementName)) {
+                if (pattern.getValue() != null) {
+                    for (String value : pattern.getValue().split(",")) {
+                        if (!value.trim().isEmpty()) {
+                            patterns.add(value.trim());
+                        }
+                    }
+                }
+            }
+        }
+        return patterns;
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Selects the test classes affected by the classes that changed since the tests last
+ * ran, based on the types referenced by the compiled classes.
+ * <p>
+ * Changes are recorded by scanning the classes output directories after they are
+ * compiled. A test class is affected if it changed, or if it references a changed type,
+ * directly or through other classes. All tests need to run if they have not run yet
+ * since the analyzer was created or invalidated, or if no class changed since they last
+ * ran, since they were then run for a change that is not visible in the classes.
+ */
+public class TestImpactAnalyzer {
+
+    private final ClassDependencyIndex index;
+    private final Map<String, Long> changedTypes = new HashMap<String, Long>();
+    private final Map<String, File> changedTypeDirectories = new HashMap<String, File>();
+    private final Map<String, Long> lastRuns = new HashMap<String, Long>();
+    private final Map<String, Long> selections = new HashMap<String, Long>();
+    private long changeCount = 0;
+
+    public TestImpactAnalyzer(Log log) {
+        this.index = new ClassDependencyIndex(log);
+    }
+
+    /**
+     * Scans the class files of the given output directory and records the types that
+     * changed since the previous scan. The first scan of a directory only records the
+     * current state.
+     *
+     * @param classesDirectory the classes output directory
+     */
+    public synchronized void scan(File classesDirectory) {
+        File dir = classesDirectory.getAbsoluteFile();
+        Set<String> changed = index.scan(dir);
+        if (changed.isEmpty()) {
+            return;
+        }
+        changeCount++;
+        for (String type : changed) {
+            changedTypes.put(type, changeCount);
+            changedTypeDirectories.put(type, dir);
+        }
+    }
+
+    /**
+     * Forgets when the tests last ran, so that all tests run the next time.
+     */
+    public synchronized void invalidate() {
+        lastRuns.clear();
+        selections.clear();
+    }
+
+    /**
+     * Selects the tests affected by the classes that changed since the tests last ran.
+     * The selection is taken into account for later selections once
+     * {@link #recordRun(String, File)} is called after the tests ran.
+     *
+     * @param kind the kind of the tests, such as the goal that runs them
+     * @param testClassesDirectory the test classes output directory
+     * @param selectOnProductionChanges whether to select tests when types outside of the
+     *            test classes directory changed, rather than running all tests
+     * @return the internal names of the affected top level test classes, or null if all
+     *         tests need to run
+     */
+    public synchronized Set<String> getAffectedTests(String kind, File testClassesDirectory, boolean selectOnProductionChanges) {
+        File dir = testClassesDirectory.getAbsoluteFile();
+        scan(dir);
+        String key = kind + '|' + dir;
+        selections.put(key, changeCount);
+        Long lastRun = lastRuns.get(key);
+        if (lastRun == null) {
+            return null;
+        }
+
+        Set<String> changed = new HashSet<String>();
+        for (Map.Entry<String, Long> entry : changedTypes.entrySet()) {
+            if (entry.getValue() > lastRun) {
+                if (!selectOnProductionChanges && !dir.equals(changedTypeDirectories.get(entry.getKey()))) {
+                    return null;
+                }
+                changed.add(entry.getKey());
+            }
+        }
+        if (changed.isEmpty()) {
+            return null;
+        }
+
+        Set<String> tests = new TreeSet<String>();
+        for (String type : index.getDependentTypes(changed, dir)) {
+            int nested = type.indexOf('$', type.lastIndexOf('/') + 1);
+            tests.add(nested < 0 ? type : type.substring(0, nested));
+        }
+        return tests;
+    }
+
+    /**
+     * Records that the tests selected by the last call to
+     * {@link #getAffectedTests(String, File, boolean)} for the same kind and directory
+     * ran successfully.
+     *
+     * @param kind the kind of the tests
+     * @param testClassesDirectory the test classes output directory
+     */
+    public synchronized void recordRun(String kind, File testClassesDirectory) {
+        String key = kind + '|' + testClassesDirectory.getAbsoluteFile();
+        Long selection = selections.remove(key);
+        if (selection != null) {
+            lastRuns.put(key, selection);
+        }
+    }
+}
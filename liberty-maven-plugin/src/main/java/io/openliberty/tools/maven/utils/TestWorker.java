@@ -0,0 +1,455 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Main class of the test JVM that dev mode keeps running to run unit tests without
+ * starting a JVM for every test run. It only uses JDK classes, since its class path
+ * is the plugin artifact alone, and accesses the test framework of the project through
+ * reflection.
+ * <p>
+ * Requests are read from standard input, each made of five lines: {@code run}, the
+ * reports directory, the class path of the project's dependencies, the class path of
+ * the project's classes directories, and the comma separated names of the test classes.
+ * The dependencies are loaded by a class loader that is kept as long as they do not
+ * change, while the classes directories are loaded by a new child class loader for
+ * every run, so that changed classes are reloaded. The tests run on the JUnit Platform
+ * launcher if available, or on JUnit 4, and their results are written as surefire XML
+ * reports. Each failed test is answered with a {@code failed} line, and the run with a
+ * {@code result} line with the counts of tests, failures, errors and skipped tests, or
+ * an {@code error} line if the tests could not be run. The output of the tests goes to
+ * standard error, since standard output is used for the answers.
+ */
+public class TestWorker {
+
+    static final String RUN = "run";
+    static final String FAILED = "failed";
+    static final String RESULT = "result";
+    static final String ERROR = "error";
+
+    private enum Status {
+        PASSED, FAILED, ERROR, SKIPPED
+    }
+
+    private static class TestCase {
+        private final String className;
+        private final String name;
+        private Status status = Status.PASSED;
+        private double time;
+        private Throwable throwable;
+        private String message;
+
+        private TestCase(String className, String name) {
+            this.className = className;
+            this.name = name;
+        }
+    }
+
+    private final PrintStream answers;
+    private String dependencyClassPath;
+    private ClassLoader dependencyLoader;
+
+    TestWorker(PrintStream answers) {
+        this.answers = answers;
+    }
+
+    public static void main(String[] args) throws IOException {
+        PrintStream answers = new PrintStream(new FileOutputStream(FileDescriptor.out), true, "UTF-8");
+        System.setOut(System.err);
+        TestWorker worker = new TestWorker(answers);
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (RUN.equals(line)) {
+                worker.run(in.readLine(), in.readLine(), in.readLine(), in.readLine());
+            }
+        }
+    }
+
+    void run(String reportsDirectory, String dependencies, String classesDirectories, String testClasses) {
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            if (dependencyLoader == null || !dependencies.equals(dependencyClassPath)) {
+                dependencyLoader = new URLClassLoader(toUrls(dependencies), ClassLoader.getSystemClassLoader().getParent());
+                dependencyClassPath = dependencies;
+            }
+            URLClassLoader loader = new URLClassLoader(toUrls(classesDirectories), dependencyLoader);
+            Thread.currentThread().setContextClassLoader(loader);
+            List<Class<?>> classes = new ArrayList<Class<?>>();
+            for (String name : testClasses.split(",")) {
+                if (!name.isEmpty()) {
+                    Class<?> testClass = Class.forName(name, false, loader);
+                    if (!Modifier.isAbstract(testClass.getModifiers()) && !testClass.isInterface()) {
+                        classes.add(testClass);
+                    }
+                }
+            }
+
+            List<TestCase> results;
+            if (isAvailable(loader, "org.junit.platform.launcher.core.LauncherFactory")) {
+                results = runOnPlatform(loader, classes);
+            } else if (isAvailable(loader, "org.junit.runner.JUnitCore")) {
+                results = runOnJUnit4(loader, classes);
+            } else {
+                answers.println(ERROR + " Neither the JUnit Platform launcher nor JUnit 4 is on the test class path");
+                return;
+            }
+            writeReports(new File(reportsDirectory), results);
+
+            int[] counts = new int[Status.values().length];
+            for (TestCase test : results) {
+                counts[test.status.ordinal()]++;
+                if (test.status == Status.FAILED || test.status == Status.ERROR) {
+                    answers.println(FAILED + " " + test.className + "." + test.name + ": " + oneLine(test.message));
+                }
+            }
+            answers.println(RESULT + " " + results.size() + " " + counts[Status.FAILED.ordinal()] + " " + counts[Status.ERROR.ordinal()]
+                    + " " + counts[Status.SKIPPED.ordinal()]);
+        } catch (Throwable t) {
+            t.printStackTrace();
+            answers.println(ERROR + " " + oneLine(t.toString()));
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextLoader);
+        }
+    }
+
+    private List<TestCase> runOnPlatform(ClassLoader loader, List<Class<?>> classes) throws Exception {
+        Class<?> selectorType = loader.loadClass("org.junit.platform.engine.DiscoverySelector");
+        Class<?> selectors = loader.loadClass("org.junit.platform.engine.discovery.DiscoverySelectors");
+        Object selectorArray = Array.newInstance(selectorType, classes.size());
+        for (int i = 0; i < classes.size(); i++) {
+            Array.set(selectorArray, i, selectors.getMethod("selectClass", Class.class).invoke(null, classes.get(i)));
+        }
+        Class<?> builderType = loader.loadClass("org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder");
+        Object builder = builderType.getMethod("request").invoke(null);
+        builder = builderType.getMethod("selectors", selectorArray.getClass()).invoke(builder, selectorArray);
+        Object request = builderType.getMethod("build").invoke(builder);
+
+        final Map<Object, Long> started = new HashMap<Object, Long>();
+        final List<TestCase> results = new ArrayList<TestCase>();
+        Class<?> listenerType = loader.loadClass("org.junit.platform.launcher.TestExecutionListener");
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "executionStarted":
+                    started.put(args[0], System.nanoTime());
+                    break;
+                case "executionSkipped":
+                    if ((Boolean) invoke(args[0], "isTest")) {
+                        TestCase skipped = newPlatformTestCase(args[0]);
+                        skipped.status = Status.SKIPPED;
+                        skipped.message = (String) args[1];
+                        results.add(skipped);
+                    }
+                    break;
+                case "executionFinished":
+                    String status = invoke(args[1], "getStatus").toString();
+                    boolean test = (Boolean) invoke(args[0], "isTest");
+                    if (test || !"SUCCESSFUL".equals(status)) {
+                        TestCase result = newPlatformTestCase(args[0]);
+                        Long start = started.remove(args[0]);
+                        result.time = start == null ? 0 : (System.nanoTime() - start) / 1e9;
+                        result.throwable = (Throwable) ((Optional<?>) invoke(args[1], "getThrowable")).orElse(null);
+                        result.message = result.throwable == null ? null : result.throwable.getMessage();
+                        if ("ABORTED".equals(status)) {
+                            result.status = Status.SKIPPED;
+                        } else if ("FAILED".equals(status)) {
+                            result.status = result.throwable instanceof AssertionError ? Status.FAILED : Status.ERROR;
+                        }
+                        results.add(result);
+                    }
+                    break;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "TestWorker listener";
+                default:
+                    break;
+            }
+            return null;
+        };
+        Object listeners = Array.newInstance(listenerType, 1);
+        Array.set(listeners, 0, Proxy.newProxyInstance(loader, new Class<?>[] { listenerType }, handler));
+
+        Object launcher = loader.loadClass("org.junit.platform.launcher.core.LauncherFactory").getMethod("create").invoke(null);
+        Class<?> launcherType = loader.loadClass("org.junit.platform.launcher.Launcher");
+        Class<?> requestType = loader.loadClass("org.junit.platform.launcher.LauncherDiscoveryRequest");
+        launcherType.getMethod("execute", requestType, listeners.getClass()).invoke(launcher, request, listeners);
+        return results;
+    }
+
+    private static TestCase newPlatformTestCase(Object identifier) throws ReflectiveOperationException {
+        Object source = ((Optional<?>) invoke(identifier, "getSource")).orElse(null);
+        String displayName = (String) invoke(identifier, "getDisplayName");
+        String className = "";
+        String name = displayName;
+        if (source != null) {
+            String sourceType = source.getClass().getSimpleName();
+            if ("MethodSource".equals(sourceType)) {
+                className = (String) invoke(source, "getClassName");
+                name = (String) invoke(source, "getMethodName");
+            } else if ("ClassSource".equals(sourceType)) {
+                className = (String) invoke(source, "getClassName");
+            }
+        }
+        return new TestCase(className, name);
+    }
+
+    private List<TestCase> runOnJUnit4(ClassLoader loader, List<Class<?>> classes) throws Exception {
+        Class<?> requestType = loader.loadClass("org.junit.runner.Request");
+        Class<?> runnerType = loader.loadClass("org.junit.runner.Runner");
+        Class<?> coreType = loader.loadClass("org.junit.runner.JUnitCore");
+        @SuppressWarnings("unchecked")
+        Class<? extends Annotation> testAnnotation = (Class<? extends Annotation>) loader.loadClass("org.junit.Test");
+        @SuppressWarnings("unchecked")
+        Class<? extends Annotation> ignoreAnnotation = (Class<? extends Annotation>) loader.loadClass("org.junit.Ignore");
+        Object core = coreType.getConstructor().newInstance();
+
+        List<TestCase> results = new ArrayList<TestCase>();
+        for (Class<?> testClass : classes) {
+            if (!hasTestMethod(testClass, testAnnotation)) {
+                continue;
+            }
+            Object runner = requestType.getMethod("getRunner").invoke(requestType.getMethod("aClass", Class.class).invoke(null, testClass));
+            List<Object> descriptions = new ArrayList<Object>();
+            collectTests(runnerType.getMethod("getDescription").invoke(runner), descriptions);
+            long start = System.nanoTime();
+            Object result = coreType.getMethod("run", runnerType).invoke(core, runner);
+            double time = (System.nanoTime() - start) / 1e9;
+
+            Map<Object, TestCase> tests = new LinkedHashMap<Object, TestCase>();
+            for (Object description : descriptions) {
+                String methodName = (String) invoke(description, "getMethodName");
+                TestCase test = new TestCase(testClass.getName(), methodName == null ? testClass.getSimpleName() : methodName);
+                if (testClass.isAnnotationPresent(ignoreAnnotation) || invoke(description, "getAnnotation", ignoreAnnotation) != null) {
+                    test.status = Status.SKIPPED;
+                }
+                tests.put(description, test);
+            }
+            for (Object failure : (List<?>) invoke(result, "getFailures")) {
+                Object description = invoke(failure, "getDescription");
+                TestCase test = tests.get(description);
+                if (test == null) {
+                    String methodName = (String) invoke(description, "getMethodName");
+                    test = new TestCase(testClass.getName(), methodName == null ? "initializationError" : methodName);
+                    tests.put(description, test);
+                }
+                test.throwable = (Throwable) invoke(failure, "getException");
+                test.message = test.throwable == null ? null : test.throwable.getMessage();
+                test.status = test.throwable instanceof AssertionError ? Status.FAILED : Status.ERROR;
+            }
+            for (TestCase test : tests.values()) {
+                test.time = tests.size() == 1 ? time : 0;
+            }
+            results.addAll(tests.values());
+        }
+        return results;
+    }
+
+    private static boolean hasTestMethod(Class<?> testClass, Class<? extends Annotation> testAnnotation) {
+        for (Method method : testClass.getMethods()) {
+            if (method.isAnnotationPresent(testAnnotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collectTests(Object description, List<Object> tests) throws ReflectiveOperationException {
+        if ((Boolean) invoke(description, "isTest")) {
+            tests.add(description);
+        }
+        for (Object child : (List<?>) invoke(description, "getChildren")) {
+            collectTests(child, tests);
+        }
+    }
+
+    /**
+     * Writes a surefire XML report for each test class.
+     */
+    private static void writeReports(File reportsDirectory, List<TestCase> results) throws IOException {
+        Map<String, List<TestCase>> byClass = new LinkedHashMap<String, List<TestCase>>();
+        for (TestCase test : results) {
+            List<TestCase> tests = byClass.get(test.className);
+            if (tests == null) {
+                tests = new ArrayList<TestCase>();
+                byClass.put(test.className, tests);
+            }
+            tests.add(test);
+        }
+        if (!reportsDirectory.isDirectory() && !reportsDirectory.mkdirs()) {
+            throw new IOException("Unable to create the reports directory " + reportsDirectory);
+        }
+        for (Map.Entry<String, List<TestCase>> entry : byClass.entrySet()) {
+            int[] counts = new int[Status.values().length];
+            double time = 0;
+            for (TestCase test : entry.getValue()) {
+                counts[test.status.ordinal()]++;
+                time += test.time;
+            }
+            File report = new File(reportsDirectory, "TEST-" + (entry.getKey().isEmpty() ? "unknown" : entry.getKey()) + ".xml");
+            try (Writer out = new OutputStreamWriter(new FileOutputStream(report), StandardCharsets.UTF_8)) {
+                out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+                out.write("<testsuite name=\"" + escape(entry.getKey()) + "\" time=\"" + format(time) + "\" tests=\""
+                        + entry.getValue().size() + "\" errors=\"" + counts[Status.ERROR.ordinal()] + "\" skipped=\""
+                        + counts[Status.SKIPPED.ordinal()] + "\" failures=\"" + counts[Status.FAILED.ordinal()] + "\">\n");
+                for (TestCase test : entry.getValue()) {
+                    out.write("  <testcase name=\"" + escape(test.name) + "\" classname=\"" + escape(test.className) + "\" time=\""
+                            + format(test.time) + "\"");
+                    if (test.status == Status.PASSED) {
+                        out.write("/>\n");
+                        continue;
+                    }
+                    out.write(">\n");
+                    if (test.status == Status.SKIPPED) {
+                        out.write("    <skipped" + (test.message == null ? "" : " message=\"" + escape(test.message) + "\"") + "/>\n");
+                    } else {
+                        String element = test.status == Status.FAILED ? "failure" : "error";
+                        out.write("    <" + element + (test.message == null ? "" : " message=\"" + escape(test.message) + "\"")
+                                + (test.throwable == null ? "" : " type=\"" + test.throwable.getClass().getName() + "\"") + ">");
+                        if (test.throwable != null) {
+                            StringWriter trace = new StringWriter();
+                            test.throwable.printStackTrace(new PrintWriter(trace));
+                            out.write(escape(trace.toString()));
+                        }
+                        out.write("</" + element + ">\n");
+                    }
+                    out.write("  </testcase>\n");
+                }
+                out.write("</testsuite>\n");
+            }
+        }
+    }
+
+    private static Object invoke(Object target, String methodName, Object... args) throws ReflectiveOperationException {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            for (Class<?> candidate : getPublicTypes(type)) {
+                for (Method method : candidate.getMethods()) {
+                    if (method.getName().equals(methodName) && method.getParameterCount() == args.length) {
+                        try {
+                            return method.invoke(target, args);
+                        } catch (IllegalAccessException e) {
+                            // try the method of the next public type
+                        }
+                    }
+                }
+            }
+        }
+        throw new NoSuchMethodException(target.getClass().getName() + "." + methodName);
+    }
+
+    /**
+     * Returns the type and its interfaces, since the methods of a non public
+     * implementation class can only be invoked through a public type.
+     */
+    private static List<Class<?>> getPublicTypes(Class<?> type) {
+        List<Class<?>> types = new ArrayList<Class<?>>();
+        if (Modifier.isPublic(type.getModifiers())) {
+            types.add(type);
+        }
+        for (Class<?> iface : type.getInterfaces()) {
+            types.add(iface);
+        }
+        return types;
+    }
+
+    private static boolean isAvailable(ClassLoader loader, String className) {
+        try {
+            Class.forName(className, false, loader);
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static URL[] toUrls(String classPath) throws IOException {
+        List<URL> urls = new ArrayList<URL>();
+        for (String element : classPath.split(File.pathSeparator)) {
+            if (!element.isEmpty()) {
+                urls.add(new File(element).toURI().toURL());
+            }
+        }
+        return urls.toArray(new URL[urls.size()]);
+    }
+
+    private static String format(double seconds) {
+        return String.format(Locale.ROOT, "%.3f", seconds);
+    }
+
+    private static String oneLine(String text) {
+        return text == null ? "" : text.replace('\r', ' ').replace('\n', ' ');
+    }
+
+    private static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '"':
+                    sb.append("&quot;");
+                    break;
+                default:
+                    if (c < 0x20 && c != '\n' && c != '\r' && c != '\t') {
+                        sb.append(' ');
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.File;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.eclipse.aether.SessionData;
+
+import io.openliberty.tools.common.plugins.util.BinaryScannerUtil;
+import io.openliberty.tools.common.plugins.util.PluginExecutionException;
+
+/**
+ * A binary scanner that is kept for the whole Maven session, so that the scanner jar is
+ * loaded into its class loader once and the databases of the scanner stay loaded for
+ * later scans, such as the scans that dev mode runs whenever classes change.
+ * <p>
+ * The scanner is shared by the executions of generate-features in the session, each of
+ * which passes its own logger to the scans it runs. Scans are run one at a time by each
+ * scanner, and
+ * the scanners of different slots have their own class loaders, so that they can scan
+ * concurrently.
+ */
+public class WarmBinaryScanner extends BinaryScannerUtil {
+
+    private static final String SESSION_KEY = WarmBinaryScanner.class.getName();
+
+    // the logger of the execution that ran the last scan
+    private Log log = new SystemStreamLog();
+
+    private WarmBinaryScanner(File scannerFile) {
+        super(scannerFile);
+    }
+
+    /**
+     * Returns the scanner of the given jar for the Maven session, creating it if needed.
+     *
+     * @param session the Maven session
+     * @param scannerFile the binary scanner jar
+     * @return the scanner
+     */
+    public static WarmBinaryScanner getInstance(MavenSession session, File scannerFile) {
+        return getInstance(session, scannerFile, 0);
+    }
+
+    /**
+     * Returns a scanner of the given jar for the Maven session, creating it if needed.
+     *
+     * @param session the Maven session
+     * @param scannerFile the binary scanner jar
+     * @param slot the number of the scanner, for scanners that run at the same time
+     * @return the scanner
+     */
+    public static WarmBinaryScanner getInstance(MavenSession session, File scannerFile, int slot) {
+        SessionData data = session.getRepositorySession().getData();
+        String key = SESSION_KEY + ":" + scannerFile.getAbsolutePath() + (slot == 0 ? "" : "#" + slot);
+        WarmBinaryScanner scanner;
+        synchronized (data) {
+            Object cached = data.get(key);
+            if (cached instanceof WarmBinaryScanner) {
+                scanner = (WarmBinaryScanner) cached;
+            } else {
+                scanner = new WarmBinaryScanner(scannerFile);
+                if (cached == null) {
+                    // a scanner from another version of the plugin is left in place
+                    data.set(key, scanner);
+                }
+            }
+        }
+        return scanner;
+    }
+
+    /**
+     * Runs the scanner, logging through the given logger.
+     *
+     * @param log the logger of the execution that runs the scan
+     * @see BinaryScannerUtil#runBinaryScanner(Set, List, Set, String, String, String, boolean)
+     */
+    public synchronized Set<String> runBinaryScanner(Log log, Set<String> currentFeatureSet, List<String> classFiles,
+            Set<String> allClassesDirectories, String logLocation, String targetJavaEE, String targetMicroProfile, boolean isOptimize)
+            throws PluginExecutionException, NoRecommendationException, RecommendationSetException, FeatureModifiedException,
+            FeatureUnavailableException, IllegalTargetException, IllegalTargetComboException {
+        this.log = log;
+        return super.runBinaryScanner(currentFeatureSet, classFiles, allClassesDirectories, logLocation, targetJavaEE, targetMicroProfile,
+                isOptimize);
+    }
+
+    /**
+     * Runs the scanner through the logger of the previous scan.
+     */
+    @Override
+    public synchronized Set<String> runBinaryScanner(Set<String> currentFeatureSet, List<String> classFiles, Set<String> allClassesDirectories,
+            String logLocation, String targetJavaEE, String targetMicroProfile, boolean isOptimize) throws PluginExecutionException,
+            NoRecommendationException, RecommendationSetException, FeatureModifiedException, FeatureUnavailableException,
+            IllegalTargetException, IllegalTargetComboException {
+        return super.runBinaryScanner(currentFeatureSet, classFiles, allClassesDirectories, logLocation, targetJavaEE, targetMicroProfile,
+                isOptimize);
+    }
+
+    /**
+     * Runs the scanner through the logger of the previous scan.
+     */
+    @Override
+    public synchronized Set<String> reRunBinaryScanner(Set<String> allClassesDirectories, String logLocation, String targetJavaEE,
+            String targetMicroProfile) throws PluginExecutionException {
+        return super.reRunBinaryScanner(allClassesDirectories, logLocation, targetJavaEE, targetMicroProfile);
+    }
+
+    @Override
+    public void debug(String msg) {
+        log.debug(msg);
+    }
+
+    @Override
+    public void debug(String msg, Throwable t) {
+        log.debug(msg, t);
+    }
+
+    @Override
+    public void error(String msg) {
+        log.error(msg);
+    }
+
+    @Override
+    public void warn(String msg) {
+        log.warn(msg);
+    }
+
+    @Override
+    public void info(String msg) {
+        log.info(msg);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return log.isDebugEnabled();
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * A test JVM running {@link TestWorker} that is started on the first test run and kept
+ * running for later test runs, so that the JVM startup and the loading of the test
+ * dependencies are not repeated for every run.
+ */
+public class WarmTestJvm {
+
+    /**
+     * The counts and failed tests of a test run.
+     */
+    public static class Result {
+        private final int tests;
+        private final int failures;
+        private final int errors;
+        private final int skipped;
+        private final List<String> failedTests;
+
+        Result(int tests, int failures, int errors, int skipped, List<String> failedTests) {
+            this.tests = tests;
+            this.failures = failures;
+            this.errors = errors;
+            this.skipped = skipped;
+            this.failedTests = failedTests;
+        }
+
+        public int getTests() {
+            return tests;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public int getErrors() {
+            return errors;
+        }
+
+        public int getSkipped() {
+            return skipped;
+        }
+
+        /**
+         * @return the failed tests, each with the message of its failure
+         */
+        public List<String> getFailedTests() {
+            return failedTests;
+        }
+    }
+
+    private final List<String> jvmCommand;
+    private final File workingDirectory;
+    private final Log log;
+    private Process process;
+    private BufferedReader answers;
+    private Writer requests;
+
+    /**
+     * @param jvmCommand the Java executable followed by the JVM options
+     * @param workingDirectory the working directory of the JVM
+     * @param log the logger
+     */
+    public WarmTestJvm(List<String> jvmCommand, File workingDirectory, Log log) {
+        this.jvmCommand = Collections.unmodifiableList(new ArrayList<String>(jvmCommand));
+        this.workingDirectory = workingDirectory;
+        this.log = log;
+    }
+
+    /**
+     * @return the Java executable followed by the JVM options
+     */
+    public List<String> getJvmCommand() {
+        return jvmCommand;
+    }
+
+    /**
+     * Runs test classes in the JVM, starting it if it is not running.
+     *
+     * @param reportsDirectory the directory to write the XML reports to
+     * @param dependencies the class path elements that do not change during the session
+     * @param classesDirectories the class path elements that are reloaded for every run
+     * @param testClasses the fully qualified names of the test classes
+     * @return the result of the run
+     * @throws IOException if the JVM could not run the tests, in which case it is stopped
+     */
+    public synchronized Result run(File reportsDirectory, Collection<String> dependencies, Collection<String> classesDirectories,
+            Collection<String> testClasses) throws IOException {
+        if (process == null || !process.isAlive()) {
+            start();
+        }
+        try {
+            requests.write(TestWorker.RUN + "\n" + reportsDirectory.getAbsolutePath() + "\n" + String.join(File.pathSeparator, dependencies)
+                    + "\n" + String.join(File.pathSeparator, classesDirectories) + "\n" + String.join(",", testClasses) + "\n");
+            requests.flush();
+            List<String> failedTests = new ArrayList<String>();
+            String line;
+            while ((line = answers.readLine()) != null) {
+                if (line.startsWith(TestWorker.FAILED + " ")) {
+                    failedTests.add(line.substring(TestWorker.FAILED.length() + 1));
+                } else if (line.startsWith(TestWorker.RESULT + " ")) {
+                    String[] counts = line.split(" ");
+                    return new Result(Integer.parseInt(counts[1]), Integer.parseInt(counts[2]), Integer.parseInt(counts[3]),
+                            Integer.parseInt(counts[4]), failedTests);
+                } else if (line.startsWith(TestWorker.ERROR + " ")) {
+                    throw new IOException(line.substring(TestWorker.ERROR.length() + 1));
+                } else {
+                    log.debug("Unexpected answer from the test JVM: " + line);
+                }
+            }
+            throw new IOException("The test JVM exited");
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+    }
+
+    /**
+     * Stops the JVM.
+     */
+    public synchronized void close() {
+        if (process != null) {
+            process.destroy();
+            process = null;
+        }
+    }
+
+    private void start() throws IOException {
+        File workerLocation;
+        try {
+            workerLocation = new File(TestWorker.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException | RuntimeException e) {
+            throw new IOException("Unable to locate the test worker classes", e);
+        }
+        List<String> command = new ArrayList<String>(jvmCommand);
+        command.add("-cp");
+        command.add(workerLocation.getAbsolutePath());
+        command.add(TestWorker.class.getName());
+        log.debug("Starting the test JVM: " + command);
+        process = new ProcessBuilder(command).directory(workingDirectory).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        answers = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        requests = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+    }
+}
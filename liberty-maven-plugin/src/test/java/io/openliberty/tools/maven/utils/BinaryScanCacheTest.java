@@ -0,0 +1,121 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryScanCacheTest {
+
+    private static final String CONTEXT = "binary-app-scanner.jar|ee9|mp5|[]";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File cacheFile;
+    private File classes;
+    private List<String> directories;
+
+    @Before
+    public void setUp() throws Exception {
+        cacheFile = new File(temp.getRoot(), "target/liberty-binary-scanner-cache.properties");
+        classes = temp.newFolder("classes");
+        directories = Collections.singletonList(classes.getAbsolutePath());
+        write("com/example/A.class", "a");
+        write("com/example/B.class", "b");
+        BinaryScanCache cache = new BinaryScanCache(cacheFile, CONTEXT, new SystemStreamLog());
+        cache.record(cache.compare(directories), new TreeSet<String>(Arrays.asList("restfulWS-3.0", "cdi-3.0")));
+    }
+
+    @Test
+    public void only_new_classes_are_scanned_again() throws Exception {
+        // given
+        File c = write("com/example/C.class", "c");
+        // rewritten with the same content
+        File b = write("com/example/B.class", "b");
+        b.setLastModified(b.lastModified() + 2000);
+
+        // when
+        BinaryScanCache.Delta delta = new BinaryScanCache(cacheFile, CONTEXT, new SystemStreamLog()).compare(directories);
+
+        // then
+        assertTrue(delta.isIncremental());
+        assertEquals(Arrays.asList(c.getAbsolutePath()), delta.getChangedClasses());
+        assertEquals(new TreeSet<String>(Arrays.asList("cdi-3.0", "restfulWS-3.0")), delta.getCachedFeatures());
+    }
+
+    @Test
+    public void modified_class_requires_a_full_scan() throws Exception {
+        // given
+        File a = write("com/example/A.class", "a2");
+
+        // when
+        BinaryScanCache.Delta delta = new BinaryScanCache(cacheFile, CONTEXT, new SystemStreamLog()).compare(directories);
+
+        // then
+        assertFalse(delta.isIncremental());
+        assertEquals(1, delta.getModifiedClasses());
+        assertEquals(Collections.singletonList(a.getAbsolutePath()), delta.getChangedClasses());
+    }
+
+    @Test
+    public void removed_class_requires_a_full_scan() throws Exception {
+        // given
+        new File(classes, "com/example/B.class").delete();
+
+        // when
+        BinaryScanCache.Delta delta = new BinaryScanCache(cacheFile, CONTEXT, new SystemStreamLog()).compare(directories);
+
+        // then
+        assertFalse(delta.isIncremental());
+        assertEquals(1, delta.getRemovedClasses());
+    }
+
+    @Test
+    public void cache_of_another_context_is_ignored() {
+        // when
+        BinaryScanCache.Delta delta = new BinaryScanCache(cacheFile, "binary-app-scanner.jar|ee10|mp6|[]", new SystemStreamLog())
+                .compare(directories);
+
+        // then
+        assertFalse(delta.isIncremental());
+        assertNull(delta.getCachedFeatures());
+        assertEquals(2, delta.getChangedClasses().size());
+    }
+
+    private File write(String path, String content) throws Exception {
+        File file = new File(classes, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
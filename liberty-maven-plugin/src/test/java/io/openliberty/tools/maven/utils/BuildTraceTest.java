@@ -0,0 +1,86 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BuildTraceTest {
+
+    private static final FlightRecorderEvent.Type COPY_EVENT = FlightRecorderEvent.type("TraceCopy", "Trace Copy", "Copies traced files",
+            FlightRecorderEvent.Field.count("files", "Files"));
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @SuppressWarnings("deprecation")
+    private final MavenSession session = new MavenSession(null, new DefaultRepositorySystemSession(), new DefaultMavenExecutionRequest(),
+            new DefaultMavenExecutionResult());
+
+    @Test
+    public void goals_and_their_stages_are_written_in_module_lanes() throws Exception {
+        // given
+        File traceFile = new File(temp.getRoot(), "trace/liberty-trace.json");
+        SystemStreamLog log = new SystemStreamLog();
+
+        // when
+        try (BuildTrace.Span goal = BuildTrace.beginGoal(session, traceFile, "app", "liberty:create", log)) {
+            try (FlightRecorderEvent event = COPY_EVENT.begin(log)) {
+                event.set("files", 3);
+            }
+            try (BuildTrace.Span nested = BuildTrace.beginGoal(session, traceFile, "app", "liberty:install-feature", log)) {
+                Thread.sleep(1);
+            }
+        }
+        try (BuildTrace.Span goal = BuildTrace.beginGoal(session, traceFile, "ear", "liberty:deploy", log)) {
+            goal.arg("project", "com.example:ear:1.0");
+        }
+        String trace = new String(Files.readAllBytes(traceFile.toPath()), StandardCharsets.UTF_8);
+
+        // then
+        assertTrue(trace, trace.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["));
+        assertTrue(trace, trace.contains("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":1,\"args\":{\"name\":\"app\"}}"));
+        assertTrue(trace, trace.contains("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":2,\"args\":{\"name\":\"ear\"}}"));
+        assertEquals(1, pid(trace, "liberty:create", "goal"));
+        assertEquals(1, pid(trace, "Trace Copy", "stage"));
+        assertEquals(1, pid(trace, "liberty:install-feature", "stage"));
+        assertEquals(2, pid(trace, "liberty:deploy", "goal"));
+        assertTrue(trace, trace.contains("\"args\":{\"files\":3}"));
+        assertTrue(trace, trace.contains("\"args\":{\"project\":\"com.example:ear:1.0\"}"));
+    }
+
+    private static int pid(String trace, String name, String category) {
+        Matcher matcher = Pattern.compile("\\{\"name\":\"" + Pattern.quote(name) + "\",\"cat\":\"" + category
+                + "\",\"ph\":\"X\",\"ts\":\\d+,\"dur\":\\d+,\"pid\":(\\d+),\"tid\":\\d+").matcher(trace);
+        assertTrue(name + " not in " + trace, matcher.find());
+        return Integer.parseInt(matcher.group(1));
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.After;
+import org.junit.Test;
+
+public class ChangeCoalescerTest {
+
+    private final ChangeCoalescer coalescer = new ChangeCoalescer(100, 1000, new SystemStreamLog());
+
+    @After
+    public void tearDown() {
+        coalescer.close();
+    }
+
+    @Test
+    public void actions_of_a_batch_run_once_in_order() throws InterruptedException {
+        // given
+        final List<String> ran = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        coalescer.submit("tests", 2, () -> {
+            ran.add("tests");
+            done.countDown();
+        });
+        coalescer.submit("resources", 0, () -> ran.add("resources 1"));
+        coalescer.submit("resources", 0, () -> ran.add("resources 2"));
+        coalescer.submit("redeploy", 1, () -> ran.add("redeploy"));
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("resources 2", "redeploy", "tests"), ran);
+    }
+
+    @Test
+    public void quiet_period_grows_with_gaps_between_changes() throws InterruptedException {
+        // given
+        coalescer.submit("resources", 0, () -> { });
+
+        // when
+        Thread.sleep(80);
+        coalescer.submit("resources", 0, () -> { });
+
+        // then
+        assertTrue("expected a quiet period of at least 160 ms but was " + coalescer.getQuietMillis(),
+                coalescer.getQuietMillis() >= 160);
+    }
+}
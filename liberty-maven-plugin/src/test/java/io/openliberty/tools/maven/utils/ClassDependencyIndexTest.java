@@ -0,0 +1,128 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassDependencyIndexTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File sourceDir;
+    private File classesDir;
+    private File greeter;
+    private File user;
+    private File unrelated;
+    private IncrementalJavaCompiler compiler;
+
+    @Before
+    public void setUp() throws IOException {
+        sourceDir = temp.newFolder("src");
+        classesDir = temp.newFolder("classes");
+        greeter = writeSource("Greeter", "public class Greeter { public String greet() { return \"hi\"; } }");
+        user = writeSource("User", "public class User { String run() { return new Greeter().greet(); } }");
+        unrelated = writeSource("Unrelated", "public class Unrelated { int value() { return 1; } }");
+        compiler = new IncrementalJavaCompiler(new SystemStreamLog());
+        assertTrue(compile(greeter, user, unrelated));
+    }
+
+    @Test
+    public void dependents_of_changed_class_are_affected() throws IOException {
+        // given
+        ClassDependencyIndex index = new ClassDependencyIndex(new SystemStreamLog());
+        index.scan(classesDir);
+        writeSource("Greeter", "public class Greeter { public String greet() { return \"hello\"; } }");
+        assertTrue(compile(greeter));
+
+        // when
+        index.scan(classesDir);
+        List<File> affected = index.getAffectedSources(Arrays.asList(user, unrelated), sourceDir, classesDir);
+
+        // then
+        assertEquals(Collections.singletonList(user), affected);
+    }
+
+    @Test
+    public void users_of_inlined_constant_are_affected() throws IOException {
+        // given
+        File constants = writeSource("Constants", "public class Constants { public static final String NAME = \"hi\"; }");
+        File banner = writeSource("Banner", "public class Banner { String text() { return Constants.NAME; } }");
+        assertTrue(compile(constants, banner));
+        ClassDependencyIndex index = new ClassDependencyIndex(new SystemStreamLog());
+        index.scan(classesDir);
+        writeSource("Constants", "public class Constants { public static final String NAME = \"hello\"; }");
+        assertTrue(compile(constants));
+
+        // when
+        index.scan(classesDir);
+        List<File> affected = index.getAffectedSources(Arrays.asList(banner, unrelated), sourceDir, classesDir);
+
+        // then the compiler did not record a reference to Constants in Banner
+        assertEquals(Arrays.asList(banner, unrelated), affected);
+    }
+
+    @Test
+    public void schema_only_changes_with_declarations() throws IOException {
+        // given
+        File classFile = new File(classesDir, "Greeter.class");
+        String original = ClassDependencyIndex.getSchema(Files.readAllBytes(classFile.toPath()));
+        writeSource("Greeter", "public class Greeter { public String greet() { return \"hello\" + 1; } }");
+        assertTrue(compile(greeter));
+        String bodyChanged = ClassDependencyIndex.getSchema(Files.readAllBytes(classFile.toPath()));
+        writeSource("Greeter", "public class Greeter { @Deprecated public String greet() { return \"hi\"; } }");
+        assertTrue(compile(greeter));
+        String annotationAdded = ClassDependencyIndex.getSchema(Files.readAllBytes(classFile.toPath()));
+        writeSource("Greeter", "public class Greeter { public String greet() { return \"hi\"; } String name; }");
+        assertTrue(compile(greeter));
+
+        // when
+        String fieldAdded = ClassDependencyIndex.getSchema(Files.readAllBytes(classFile.toPath()));
+
+        // then
+        assertEquals(original, bodyChanged);
+        assertNotEquals(original, annotationAdded);
+        assertNotEquals(original, fieldAdded);
+    }
+
+    private File writeSource(String className, String content) throws IOException {
+        File file = new File(sourceDir, className + ".java");
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        // class files must be written after the sources for them to be up to date
+        file.setLastModified(System.currentTimeMillis() - 10000);
+        return file;
+    }
+
+    private boolean compile(File... sources) throws IOException {
+        return compiler.compile(Arrays.asList(sources), Collections.<File>emptyList(), classesDir, Arrays.asList("-g"));
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FeatureArtifactPrefetchTest {
+
+    private static final String ESA = "io.openliberty.features:servlet-6.0:esa:25.0.0.2";
+    private static final String SIGNATURE = "io.openliberty.features:servlet-6.0:esa.asc:25.0.0.2";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File recordFile;
+
+    @Before
+    public void setUp() {
+        recordFile = new File(temp.getRoot(), "target/liberty-feature-artifacts.properties");
+        FeatureArtifactPrefetch install = new FeatureArtifactPrefetch(recordFile, "servlet", new SystemStreamLog());
+        install.requested(ESA);
+        install.requested(SIGNATURE);
+        install.record();
+    }
+
+    @Test
+    public void artifacts_of_the_previous_install_are_downloaded_in_one_batch() throws Exception {
+        // given
+        List<List<String>> batches = new ArrayList<List<String>>();
+        CountDownLatch release = new CountDownLatch(1);
+        FeatureArtifactPrefetch prefetch = new FeatureArtifactPrefetch(recordFile, "servlet", new SystemStreamLog());
+
+        // when
+        prefetch.start(coordinates -> {
+            release.await(10, TimeUnit.SECONDS);
+            batches.add(coordinates);
+        });
+        Thread install = new Thread(() -> prefetch.await(SIGNATURE));
+        install.start();
+        install.join(200);
+        boolean waited = install.isAlive();
+        release.countDown();
+        install.join(10000);
+
+        // then
+        assertTrue(waited);
+        assertEquals(Collections.singletonList(Arrays.asList(ESA, SIGNATURE)), batches);
+    }
+
+    @Test
+    public void artifacts_of_the_resolved_features_are_downloaded_in_one_batch_without_a_record() throws Exception {
+        // given
+        List<List<String>> batches = new ArrayList<List<String>>();
+        CountDownLatch release = new CountDownLatch(1);
+        FeatureArtifactPrefetch prefetch = new FeatureArtifactPrefetch(recordFile, "jsp", new SystemStreamLog());
+        prefetch.start(coordinates -> {
+            release.await(10, TimeUnit.SECONDS);
+            batches.add(coordinates);
+        });
+
+        // when
+        prefetch.resolved(Arrays.asList("io.openliberty.features:servlet-6.0:25.0.0.2", "io.openliberty.features:pages-3.1:25.0.0.2"), true);
+        Thread install = new Thread(() -> prefetch.await("io.openliberty.features:pages-3.1:esa:25.0.0.2"));
+        install.start();
+        install.join(200);
+        boolean waited = install.isAlive();
+        release.countDown();
+        install.join(10000);
+
+        // then
+        assertTrue(waited);
+        assertEquals(Collections.singletonList(Arrays.asList(ESA, SIGNATURE, "io.openliberty.features:pages-3.1:esa:25.0.0.2",
+                "io.openliberty.features:pages-3.1:esa.asc:25.0.0.2")), batches);
+    }
+
+    @Test
+    public void recorded_artifacts_are_not_downloaded_again_once_the_features_are_resolved() {
+        // given
+        List<List<String>> batches = new ArrayList<List<String>>();
+        FeatureArtifactPrefetch prefetch = new FeatureArtifactPrefetch(recordFile, "servlet", new SystemStreamLog());
+        prefetch.start(batches::add);
+        prefetch.await(ESA);
+
+        // when
+        prefetch.resolved(Collections.singletonList("io.openliberty.features:servlet-6.0:25.0.0.2"), true);
+        prefetch.await(ESA);
+
+        // then
+        assertEquals(Collections.singletonList(Arrays.asList(ESA, SIGNATURE)), batches);
+    }
+
+    @Test
+    public void only_the_last_install_is_recorded() {
+        // given
+        FeatureArtifactPrefetch jsp = new FeatureArtifactPrefetch(recordFile, "jsp", new SystemStreamLog());
+        jsp.requested("io.openliberty.features:pages-3.1:esa:25.0.0.2");
+
+        // when
+        jsp.record();
+
+        // then
+        List<List<String>> batches = new ArrayList<List<String>>();
+        FeatureArtifactPrefetch servlet = new FeatureArtifactPrefetch(recordFile, "servlet", new SystemStreamLog());
+        servlet.start(batches::add);
+        servlet.await(ESA);
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void failed_batch_does_not_block_the_install() {
+        // given
+        FeatureArtifactPrefetch prefetch = new FeatureArtifactPrefetch(recordFile, "servlet", new SystemStreamLog());
+
+        // when
+        prefetch.start(coordinates -> {
+            throw new Exception("Could not transfer artifact");
+        });
+        prefetch.await(ESA);
+
+        // then the artifact is downloaded on its own
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileTreeScannerTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void gitignored_and_build_output_directories_are_skipped() throws IOException {
+        // given
+        Path project = temp.getRoot().toPath().toRealPath();
+        Files.createDirectory(project.resolve(".git"));
+        write(project.resolve(IgnoreRules.FILE_NAME), "node_modules/\n*.log\n!keep.log\n");
+        Path resources = project.resolve("src/main/resources");
+        write(resources.resolve("web/app.js"), "");
+        write(resources.resolve("web/node_modules/lib/index.js"), "");
+        write(resources.resolve("web/debug.log"), "");
+        write(resources.resolve("web/keep.log"), "");
+        write(resources.resolve("target/classes/app.js"), "");
+        write(resources.resolve("META-INF/microprofile-config.properties"), "");
+        FileTreeScanner scanner = new FileTreeScanner(Collections.singletonList(resources.resolve("target")), true);
+
+        // when
+        FileTreeScanner.Scan scan = scanner.scan(resources, null);
+
+        // then
+        assertEquals(new HashSet<Path>(Arrays.asList(resources, resources.resolve("web"), resources.resolve("META-INF"))),
+                scan.getDirectories());
+        assertEquals(new HashSet<Path>(Arrays.asList(resources.resolve("web/node_modules"), resources.resolve("target"))),
+                scan.getIgnoredDirectories());
+        assertEquals(Arrays.asList(resources.resolve("META-INF/microprofile-config.properties"), resources.resolve("web/app.js"),
+                resources.resolve("web/keep.log")), scan.getFiles());
+    }
+
+    @Test
+    public void files_are_listed_by_extension_without_ignore_rules() throws IOException {
+        // given
+        Path sources = temp.getRoot().toPath().toRealPath().resolve("src/main/java");
+        write(sources.resolve("com/example/Greeter.java"), "");
+        write(sources.resolve("com/example/internal/Helper.JAVA"), "");
+        write(sources.resolve("com/example/package.html"), "");
+        write(sources.resolve(IgnoreRules.FILE_NAME), "internal/\n");
+        FileTreeScanner scanner = new FileTreeScanner(Collections.<Path> emptyList(), false);
+
+        // when
+        FileTreeScanner.Scan scan = scanner.scan(sources, "java");
+
+        // then
+        assertEquals(Arrays.asList(sources.resolve("com/example/Greeter.java"), sources.resolve("com/example/internal/Helper.JAVA")),
+                scan.getFiles());
+    }
+
+    @Test
+    public void directories_within_ignored_directories_are_ignored() throws IOException {
+        // given
+        Path project = temp.getRoot().toPath().toRealPath();
+        Files.createDirectory(project.resolve(".git"));
+        write(project.resolve(IgnoreRules.FILE_NAME), "node_modules/\n");
+        Path resources = project.resolve("src/main/resources");
+        Files.createDirectories(resources.resolve("web/node_modules/lib"));
+        Files.createDirectories(resources.resolve("web/css"));
+        FileTreeScanner scanner = new FileTreeScanner(Collections.<Path> emptyList(), true);
+
+        // when
+        boolean libraryIgnored = scanner.isIgnored(resources, resources.resolve("web/node_modules/lib"));
+        boolean stylesIgnored = scanner.isIgnored(resources, resources.resolve("web/css"));
+
+        // then
+        assertTrue(libraryIgnored);
+        assertFalse(stylesIgnored);
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
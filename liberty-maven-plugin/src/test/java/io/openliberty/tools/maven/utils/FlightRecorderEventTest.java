@@ -0,0 +1,98 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderEventTest {
+
+    private static final FlightRecorderEvent.Type COPY_EVENT = FlightRecorderEvent.type("TestCopy", "Test Copy", "Copies test files",
+            FlightRecorderEvent.Field.text("location", "Location"),
+            FlightRecorderEvent.Field.count("files", "Files"),
+            FlightRecorderEvent.Field.bytes("bytes", "Bytes Copied"));
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void event_is_recorded_with_its_attributes() throws Exception {
+        // given
+        File dump = temp.newFile("events.jfr");
+        List<RecordedEvent> events = new ArrayList<RecordedEvent>();
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable("io.openliberty.tools.maven.TestCopy");
+            recording.start();
+            try (FlightRecorderEvent event = COPY_EVENT.begin(new SystemStreamLog())) {
+                assertTrue(event.isEnabled());
+                event.set("location", "lib/global").set("files", 3).set("bytes", 4096L);
+            }
+            recording.stop();
+            recording.dump(dump.toPath());
+        }
+        for (RecordedEvent event : RecordingFile.readAllEvents(dump.toPath())) {
+            if (event.getEventType().getName().equals("io.openliberty.tools.maven.TestCopy")) {
+                events.add(event);
+            }
+        }
+
+        // then
+        assertEquals(1, events.size());
+        assertEquals("lib/global", events.get(0).getString("location"));
+        assertEquals(3, events.get(0).getLong("files"));
+        assertEquals(4096, events.get(0).getLong("bytes"));
+        assertEquals("Test Copy", events.get(0).getEventType().getLabel());
+    }
+
+    @Test
+    public void event_type_is_disabled_when_an_event_cannot_be_recorded() {
+        // given
+        FlightRecorderEvent.Type type = FlightRecorderEvent.type("TestFailure", "Test Failure", "Fails to record",
+                FlightRecorderEvent.Field.text("location", "Location"));
+        FlightRecorderEvent next;
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable("io.openliberty.tools.maven.TestFailure");
+            recording.start();
+            try (FlightRecorderEvent event = type.begin(new SystemStreamLog())) {
+                event.set("location", 3);
+            }
+            next = type.begin(new SystemStreamLog());
+            next.close();
+            recording.stop();
+        }
+
+        // then
+        assertFalse(next.isEnabled());
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.maven.model.Resource;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IncrementalResourcesTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File resourceDir;
+    private File outputDir;
+    private Resource filtered;
+    private Resource unfiltered;
+    private Xpp3Dom goalConfig;
+
+    @Before
+    public void setUp() throws IOException {
+        resourceDir = temp.newFolder("resources");
+        outputDir = temp.newFolder("classes");
+        filtered = new Resource();
+        filtered.setDirectory(resourceDir.getAbsolutePath());
+        filtered.setFiltering(true);
+        filtered.addInclude("**/*.properties");
+        unfiltered = new Resource();
+        unfiltered.setDirectory(resourceDir.getAbsolutePath());
+        unfiltered.addExclude("**/*.properties");
+        goalConfig = new Xpp3Dom("configuration");
+        Xpp3Dom encoding = new Xpp3Dom("encoding");
+        encoding.setValue("UTF-8");
+        goalConfig.addChild(encoding);
+    }
+
+    @Test
+    public void changed_file_is_processed_with_its_resource_configuration() throws IOException {
+        // given
+        File file = new File(resourceDir, "config/app.properties");
+
+        // when
+        Xpp3Dom config = new IncrementalResources().getFilesConfiguration(goalConfig, Arrays.asList(filtered, unfiltered),
+                Collections.singletonMap(file, resourceDir), outputDir);
+
+        // then
+        assertNotNull(config);
+        assertEquals(outputDir.getAbsolutePath(), config.getChild("outputDirectory").getValue());
+        assertEquals("UTF-8", config.getChild("encoding").getValue());
+        Xpp3Dom[] resources = config.getChild("resources").getChildren("resource");
+        assertEquals(1, resources.length);
+        assertEquals("true", resources[0].getChild("filtering").getValue());
+        assertEquals("config/app.properties", resources[0].getChild("includes").getChild("include").getValue());
+    }
+
+    @Test
+    public void excluded_file_is_not_processed() throws IOException {
+        // given
+        File file = new File(resourceDir, "app.properties");
+
+        // when
+        Xpp3Dom config = new IncrementalResources().getFilesConfiguration(goalConfig, Collections.singletonList(unfiltered),
+                Collections.singletonMap(file, resourceDir), outputDir);
+
+        // then
+        assertNull(config);
+    }
+
+    @Test
+    public void changed_resource_configuration_is_detected() {
+        // given
+        IncrementalResources incrementalResources = new IncrementalResources();
+        assertFalse(incrementalResources.isConfigurationChanged(Arrays.asList(filtered), Collections.<String>emptyList(), goalConfig));
+
+        // when
+        filtered.setFiltering(false);
+
+        // then
+        assertTrue(incrementalResources.isConfigurationChanged(Arrays.asList(filtered), Collections.<String>emptyList(), goalConfig));
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.Collections;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.junit.Test;
+
+public class MavenProjectCacheTest {
+
+    @Test
+    public void copies_do_not_share_the_artifact_files() {
+        // given
+        Model model = new Model();
+        model.setGroupId("demo");
+        model.setArtifactId("web");
+        model.setVersion("1.0");
+        MavenProject project = new MavenProject(model);
+        Artifact artifact = new DefaultArtifact("demo", "lib", "1.0-SNAPSHOT", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        File jar = new File("lib-1.0-SNAPSHOT.jar");
+        artifact.setFile(jar);
+        project.setArtifacts(Collections.singleton(artifact));
+
+        // when
+        MavenProject copy = MavenProjectCache.copy(project);
+        copy.getArtifacts().iterator().next().setFile(new File("lib/target/classes"));
+
+        // then
+        assertEquals(jar, project.getArtifacts().iterator().next().getFile());
+        assertEquals(1, copy.getArtifacts().size());
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Properties;
+
+import org.apache.maven.model.Dependency;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.junit.Test;
+
+import io.openliberty.tools.maven.utils.PomChangeClassifier.Action;
+
+public class PomChangeClassifierTest {
+
+    @Test
+    public void shared_liberty_parameters_are_classified_by_what_they_affect() {
+        // given
+        Xpp3Dom oldConfig = config("copyDependencies", "a", "timeout", "30");
+        Xpp3Dom newConfig = config("copyDependencies", "b", "timeout", "60");
+        Properties oldProperties = new Properties();
+        oldProperties.setProperty("liberty.var.greeting", "hello");
+        oldProperties.setProperty("app.description", "old");
+        Properties newProperties = new Properties();
+        newProperties.setProperty("liberty.var.greeting", "hello");
+        newProperties.setProperty("app.description", "new");
+        PomChangeClassifier changes = new PomChangeClassifier();
+
+        // when
+        changes.compareProperties(oldProperties, newProperties);
+        changes.compareConfiguration("liberty-maven-plugin:create", oldConfig, newConfig, EnumSet.of(Action.CREATE));
+        changes.compareConfiguration("liberty-maven-plugin:deploy", oldConfig, newConfig, EnumSet.of(Action.REDEPLOY));
+        changes.compareConfiguration("liberty-maven-plugin:install-feature", config(), config(), EnumSet.of(Action.INSTALL_FEATURE));
+
+        // then
+        assertEquals(EnumSet.of(Action.CREATE), changes.getActions());
+        assertTrue(changes.getExplanations().contains("liberty-maven-plugin:deploy configuration timeout: no action needed"));
+    }
+
+    @Test
+    public void dependencies_are_classified_by_scope_regardless_of_order() {
+        // given
+        Dependency api = dependency("jakarta.platform", "jakarta.jakartaee-api", "10.0.0", "provided");
+        Dependency junit = dependency("org.junit.jupiter", "junit-jupiter", "5.10.0", "test");
+        Dependency newerJunit = dependency("org.junit.jupiter", "junit-jupiter", "5.11.0", "test");
+        Dependency newerApi = dependency("jakarta.platform", "jakarta.jakartaee-api", "11.0.0", "provided");
+        PomChangeClassifier reordered = new PomChangeClassifier();
+        PomChangeClassifier updated = new PomChangeClassifier();
+
+        // when
+        reordered.compareDependencies(Arrays.asList(api, junit), Arrays.asList(junit, api));
+        updated.compareDependencies(Arrays.asList(api, junit), Arrays.asList(newerApi, newerJunit));
+
+        // then
+        assertEquals(Collections.emptySet(), reordered.getActions());
+        assertFalse(reordered.isDependenciesChanged());
+        assertEquals(EnumSet.of(Action.GENERATE_FEATURES), updated.getActions());
+        assertTrue(updated.isDependenciesChanged());
+        assertTrue(updated.getExplanations().contains("dependency org.junit.jupiter:junit-jupiter:jar 5.10.0 (test) -> 5.11.0 (test): no action needed"));
+    }
+
+    private static Xpp3Dom config(String... namesAndValues) {
+        Xpp3Dom config = new Xpp3Dom("configuration");
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            Xpp3Dom child = new Xpp3Dom(namesAndValues[i]);
+            child.setValue(namesAndValues[i + 1]);
+            config.addChild(child);
+        }
+        return config;
+    }
+
+    private static Dependency dependency(String groupId, String artifactId, String version, String scope) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(groupId);
+        dependency.setArtifactId(artifactId);
+        dependency.setVersion(version);
+        dependency.setScope(scope);
+        return dependency;
+    }
+}
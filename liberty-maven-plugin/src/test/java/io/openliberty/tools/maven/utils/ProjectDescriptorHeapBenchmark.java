@@ -0,0 +1,82 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.project.MavenProject;
+import org.junit.Test;
+
+/**
+ * Measures the heap that the descriptors of a large reactor take. The measurement depends
+ * on the garbage collector, so it only runs with the benchmarks profile.
+ */
+public class ProjectDescriptorHeapBenchmark {
+
+    @Test
+    public void descriptors_of_a_large_reactor_take_a_fraction_of_the_models_heap() throws Exception {
+        // given
+        int modules = 200;
+        int artifacts = 100;
+        long baseline = usedHeap();
+
+        // when
+        long[] modelsHeap = new long[1];
+        List<ProjectDescriptor> descriptors = describeReactor(modules, artifacts, baseline, modelsHeap);
+        long descriptorsHeap = usedHeap() - baseline;
+
+        // then
+        assertEquals(modules, descriptors.size());
+        assertTrue("models " + modelsHeap[0] + " bytes, descriptors " + descriptorsHeap + " bytes", descriptorsHeap < modelsHeap[0] / 4);
+    }
+
+    /**
+     * Builds the models of a reactor and measures their heap, then returns their
+     * descriptors so that the models are no longer reachable.
+     */
+    private static List<ProjectDescriptor> describeReactor(int modules, int artifacts, long baseline, long[] modelsHeap)
+            throws Exception {
+        List<MavenProject> models = new ArrayList<MavenProject>();
+        for (int i = 0; i < modules; i++) {
+            MavenProject project = ProjectDescriptorTest.project("module" + i, artifacts);
+            // resolve the classpaths as dev mode does
+            project.getCompileClasspathElements();
+            project.getTestClasspathElements();
+            models.add(project);
+        }
+        modelsHeap[0] = usedHeap() - baseline;
+
+        ProjectDescriptor.Interner interner = new ProjectDescriptor.Interner();
+        List<ProjectDescriptor> descriptors = new ArrayList<ProjectDescriptor>();
+        for (MavenProject project : models) {
+            descriptors.add(ProjectDescriptor.of(project, new ArrayList<String>(ProjectDescriptorTest.OPTIONS), interner));
+        }
+        return descriptors;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+import org.junit.Test;
+
+public class ProjectDescriptorTest {
+
+    static final List<String> OPTIONS = Arrays.asList("-source", "11", "-target", "11");
+
+    @Test
+    public void equal_classpath_elements_are_shared() throws Exception {
+        // given
+        ProjectDescriptor.Interner interner = new ProjectDescriptor.Interner();
+
+        // when
+        ProjectDescriptor first = ProjectDescriptor.of(project("first", 5), OPTIONS, interner);
+        ProjectDescriptor second = ProjectDescriptor.of(project("second", 5), new ArrayList<String>(OPTIONS), interner);
+
+        // then
+        assertSame(first.getCompilerOptions(), second.getCompilerOptions());
+        assertSame(first.getCompileDependencies(), second.getCompileDependencies());
+        for (int i = 1; i < first.getCompileClasspathElements().size(); i++) {
+            assertSame(first.getCompileClasspathElements().get(i), second.getCompileClasspathElements().get(i));
+        }
+    }
+
+    static MavenProject project(String artifactId, int artifacts) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("com.example");
+        project.setArtifactId(artifactId);
+        project.setVersion("1.0");
+        project.setPackaging("jar");
+        project.setFile(new File("/reactor/" + artifactId + "/pom.xml"));
+        project.getBuild().setDirectory("/reactor/" + artifactId + "/target");
+        project.getBuild().setOutputDirectory("/reactor/" + artifactId + "/target/classes");
+        project.getBuild().setTestOutputDirectory("/reactor/" + artifactId + "/target/test-classes");
+        DefaultArtifactHandler handler = new DefaultArtifactHandler("jar");
+        handler.setAddedToClasspath(true);
+        Set<Artifact> resolved = new LinkedHashSet<Artifact>();
+        for (int i = 0; i < artifacts; i++) {
+            // each model resolves its own copies of the dependencies of the reactor
+            Artifact artifact = new DefaultArtifact("org.example", "dependency" + i, "1.0", "compile", "jar", null, handler);
+            artifact.setFile(new File("/m2/repository/org/example/dependency" + i + "/1.0/dependency" + i + "-1.0.jar"));
+            resolved.add(artifact);
+            project.getDependencies().add(dependency("org.example", "dependency" + i, "1.0", "compile"));
+        }
+        project.setArtifacts(resolved);
+        return project;
+    }
+
+    static Dependency dependency(String groupId, String artifactId, String version, String scope) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(groupId);
+        dependency.setArtifactId(artifactId);
+        dependency.setVersion(version);
+        dependency.setScope(scope);
+        return dependency;
+    }
+}
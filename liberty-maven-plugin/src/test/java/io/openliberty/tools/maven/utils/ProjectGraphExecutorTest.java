@@ -0,0 +1,146 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.junit.Test;
+
+public class ProjectGraphExecutorTest {
+
+    private final MavenProject lib = project("lib");
+    private final MavenProject api = project("api");
+    private final MavenProject web = project("web");
+    private final Graph graph = new Graph();
+
+    {
+        graph.add(lib);
+        graph.add(api);
+        graph.add(web, lib, api);
+    }
+
+    @Test
+    public void projects_run_after_their_upstream_projects() throws Exception {
+        // given
+        CountDownLatch upstreamStarted = new CountDownLatch(2);
+        List<String> order = Collections.synchronizedList(new ArrayList<String>());
+        ProjectGraphExecutor executor = new ProjectGraphExecutor(graph, 2, "test-graph");
+
+        // when
+        Map<MavenProject, Throwable> failures = executor.execute(Arrays.asList(lib, api, web), project -> {
+            if (project != web) {
+                // lib and api do not depend on each other, so they run at the same time
+                upstreamStarted.countDown();
+                assertTrue(upstreamStarted.await(10, TimeUnit.SECONDS));
+            }
+            order.add(project.getArtifactId());
+        });
+
+        // then
+        assertTrue(failures.isEmpty());
+        assertEquals(3, order.size());
+        assertEquals("web", order.get(2));
+    }
+
+    @Test
+    public void downstream_projects_of_failed_project_fail() throws Exception {
+        // given
+        List<String> order = Collections.synchronizedList(new ArrayList<String>());
+        IllegalStateException failure = new IllegalStateException("compilation failed");
+        ProjectGraphExecutor executor = new ProjectGraphExecutor(graph, 1, "test-graph");
+
+        // when
+        Map<MavenProject, Throwable> failures = executor.execute(Arrays.asList(lib, api, web), project -> {
+            if (project == lib) {
+                throw failure;
+            }
+            order.add(project.getArtifactId());
+        });
+
+        // then
+        assertEquals(Arrays.asList(lib, web), new ArrayList<MavenProject>(failures.keySet()));
+        assertEquals(failure, failures.get(lib));
+        assertEquals(Collections.singletonList("api"), order);
+    }
+
+    @Test
+    public void only_the_given_projects_run() throws Exception {
+        // given
+        List<String> order = Collections.synchronizedList(new ArrayList<String>());
+        ProjectGraphExecutor executor = new ProjectGraphExecutor(graph, 2, "test-graph");
+
+        // when
+        executor.execute(Arrays.asList(lib, web), project -> order.add(project.getArtifactId()));
+
+        // then
+        assertEquals(Arrays.asList("lib", "web"), order);
+    }
+
+    private static MavenProject project(String artifactId) {
+        Model model = new Model();
+        model.setGroupId("demo");
+        model.setArtifactId(artifactId);
+        model.setVersion("1.0");
+        return new MavenProject(model);
+    }
+
+    private static class Graph implements ProjectDependencyGraph {
+        private final Map<MavenProject, List<MavenProject>> upstream = new LinkedHashMap<MavenProject, List<MavenProject>>();
+
+        void add(MavenProject project, MavenProject... upstreamProjects) {
+            upstream.put(project, Arrays.asList(upstreamProjects));
+        }
+
+        @Override
+        public List<MavenProject> getAllProjects() {
+            return getSortedProjects();
+        }
+
+        @Override
+        public List<MavenProject> getSortedProjects() {
+            return new ArrayList<MavenProject>(upstream.keySet());
+        }
+
+        @Override
+        public List<MavenProject> getUpstreamProjects(MavenProject project, boolean transitive) {
+            return upstream.get(project);
+        }
+
+        @Override
+        public List<MavenProject> getDownstreamProjects(MavenProject project, boolean transitive) {
+            List<MavenProject> downstream = new ArrayList<MavenProject>();
+            for (Map.Entry<MavenProject, List<MavenProject>> entry : upstream.entrySet()) {
+                if (entry.getValue().contains(project)) {
+                    downstream.add(entry.getKey());
+                }
+            }
+            return downstream;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * (C) Copyright IBM Corporation 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.openliberty.tools.maven.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class TaskPipelineTest {
+
+    @Test
+    public void independent_tasks_run_concurrently() throws Exception {
+        // given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<String> order = Collections.synchronizedList(new ArrayList<String>());
+        TaskPipeline pipeline = new TaskPipeline(2, "test-pipeline");
+        pipeline.add("compile", () -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(10, TimeUnit.SECONDS));
+            order.add("compile");
+        });
+        pipeline.add("create", () -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(10, TimeUnit.SECONDS));
+            order.add("create");
+        });
+        pipeline.add("deploy", () -> order.add("deploy"), "compile", "create");
+
+        // when
+        pipeline.run();
+
+        // then
+        assertEquals(3, order.size());
+        assertEquals("deploy", order.get(2));
+    }
+
+    @Test
+    public void tasks_depending_on_a_failed_task_do_not_run() throws Exception {
+        // given
+        List<String> order = Collections.synchronizedList(new ArrayList<String>());
+        TaskPipeline pipeline = new TaskPipeline(2, "test-pipeline");
+        pipeline.add("compile", () -> {
+            throw new IllegalStateException("compilation failed");
+        });
+        pipeline.add("create", () -> order.add("create"));
+        pipeline.add("deploy", () -> order.add("deploy"), "compile", "create");
+
+        // when
+        try {
+            pipeline.run();
+            fail();
+        } catch (IllegalStateException e) {
+            // then
+            assertEquals("compilation failed", e.getMessage());
+        }
+        assertEquals(Collections.singletonList("create"), order);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknown_dependency_is_rejected() {
+        // given
+        TaskPipeline pipeline = new TaskPipeline(1, "test-pipeline");
+
+        // when
+        pipeline.add("create", () -> {
+        }, "generate-features");
+
+        // then an exception is thrown
+    }
+}